@@ -174,6 +174,10 @@ public enum AnyField implements Field<Object> {
             return WireType.LENGTH_DELIMITED;
         }
     }),
+    // Variants of the NAMED_* fields above for types whose names were already written to the current stream
+    REFERENCED_OBJECT(new TypedObjectMarshaller(ScalarClass.REFERENCE)),
+    REFERENCED_ENUM(new TypedEnumMarshaller<>(ScalarClass.REFERENCE)),
+    REFERENCED_ARRAY(new TypedArrayMarshaller(ScalarClass.REFERENCE)),
     ;
     private final FieldMarshaller<Object> marshaller;
 
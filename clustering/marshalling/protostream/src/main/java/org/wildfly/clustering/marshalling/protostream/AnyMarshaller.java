@@ -90,7 +90,7 @@ public enum AnyMarshaller implements ProtoStreamMarshaller<Any> {
         if (value instanceof Enum) {
             Enum<?> enumValue = (Enum<?>) value;
             BaseMarshaller<?> marshaller = context.getMarshaller(enumValue.getDeclaringClass());
-            return hasTypeId(context, marshaller) ? AnyField.IDENTIFIED_ENUM : AnyField.NAMED_ENUM;
+            return hasTypeId(context, marshaller) ? AnyField.IDENTIFIED_ENUM : isReferenced(writer, marshaller) ? AnyField.REFERENCED_ENUM : AnyField.NAMED_ENUM;
         }
 
         if (valueClass.isArray()) {
@@ -99,7 +99,7 @@ public enum AnyMarshaller implements ProtoStreamMarshaller<Any> {
             if (componentTypeField != null) return AnyField.FIELD_ARRAY;
             try {
                 BaseMarshaller<?> marshaller = context.getMarshaller(componentType);
-                return hasTypeId(context, marshaller) ? AnyField.IDENTIFIED_ARRAY : AnyField.NAMED_ARRAY;
+                return hasTypeId(context, marshaller) ? AnyField.IDENTIFIED_ARRAY : isReferenced(writer, marshaller) ? AnyField.REFERENCED_ARRAY : AnyField.NAMED_ARRAY;
             } catch (IllegalArgumentException e) {
                 return AnyField.ANY_ARRAY;
             }
@@ -110,7 +110,11 @@ public enum AnyMarshaller implements ProtoStreamMarshaller<Any> {
         }
 
         BaseMarshaller<?> marshaller = writer.findMarshaller(valueClass);
-        return hasTypeId(context, marshaller) ? AnyField.IDENTIFIED_OBJECT : AnyField.NAMED_OBJECT;
+        return hasTypeId(context, marshaller) ? AnyField.IDENTIFIED_OBJECT : isReferenced(writer, marshaller) ? AnyField.REFERENCED_OBJECT : AnyField.NAMED_OBJECT;
+    }
+
+    private static boolean isReferenced(ProtoStreamWriter writer, BaseMarshaller<?> marshaller) {
+        return ProtoStreamWriterContext.FACTORY.get().apply(writer).getClassReference(marshaller.getTypeName()) != null;
     }
 
     private static boolean hasTypeId(ImmutableSerializationContext context, BaseMarshaller<?> marshaller) {
@@ -35,10 +35,14 @@ import org.infinispan.protostream.descriptors.WireType;
 public class ClassMarshaller implements ProtoStreamMarshaller<Class<?>> {
 
     private final Field<Class<?>> field;
+    private final Field<Class<?>> referenceField;
 
     public ClassMarshaller(ClassLoaderMarshaller marshaller) {
         ClassField[] fields = ClassField.values();
-        this.field = new LoadedClassField(marshaller, fields[fields.length - 1].getIndex() + 1);
+        int index = fields[fields.length - 1].getIndex() + 1;
+        this.field = new LoadedClassField(marshaller, index);
+        // Follows the fields of the loaded class field
+        this.referenceField = new ClassReferenceField(index + 1 + marshaller.getFields());
     }
 
     @Override
@@ -47,7 +51,7 @@ public class ClassMarshaller implements ProtoStreamMarshaller<Class<?>> {
         while (!reader.isAtEnd()) {
             int tag = reader.readTag();
             int index = WireType.getTagFieldNumber(tag);
-            Field<Class<?>> field = index == this.field.getIndex() ? this.field : ClassField.fromIndex(index);
+            Field<Class<?>> field = index == this.field.getIndex() ? this.field : index == this.referenceField.getIndex() ? this.referenceField : ClassField.fromIndex(index);
             if (field != null) {
                 result = field.getMarshaller().readFrom(reader);
             } else {
@@ -60,12 +64,24 @@ public class ClassMarshaller implements ProtoStreamMarshaller<Class<?>> {
     @Override
     public void writeTo(ProtoStreamWriter writer, Class<?> targetClass) throws IOException {
         if (targetClass != Object.class) {
-            Field<Class<?>> field = this.getField(writer.getSerializationContext(), targetClass);
+            Field<Class<?>> field = this.getField(writer, targetClass);
             writer.writeTag(field.getIndex(), field.getMarshaller().getWireType());
             field.getMarshaller().writeTo(writer, targetClass);
         }
     }
 
+    private Field<Class<?>> getField(ProtoStreamWriter writer, Class<?> targetClass) {
+        Field<Class<?>> field = this.getField(writer.getSerializationContext(), targetClass);
+        // If we already wrote the name of this class to the stream, write its class reference instead
+        if ((field == this.field) || (field == ClassField.NAME)) {
+            Object key = (field == this.field) ? targetClass : writer.findMarshaller(targetClass).getTypeName();
+            if (ProtoStreamWriterContext.FACTORY.get().apply(writer).getClassReference(key) != null) {
+                return this.referenceField;
+            }
+        }
+        return field;
+    }
+
     Field<Class<?>> getField(ImmutableSerializationContext context, Class<?> targetClass) {
         AnyField classField = AnyField.fromJavaType(targetClass);
         if (classField != null) return ClassField.FIELD;
@@ -84,4 +100,55 @@ public class ClassMarshaller implements ProtoStreamMarshaller<Class<?>> {
     public Class<? extends Class<?>> getJavaClass() {
         return this.field.getMarshaller().getJavaClass();
     }
+
+    /**
+     * Marshals a class, whose name was previously written to the current stream, via its class reference.
+     */
+    private static class ClassReferenceField implements Field<Class<?>>, FieldMarshaller<Class<?>> {
+        private final int index;
+
+        ClassReferenceField(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public FieldMarshaller<Class<?>> getMarshaller() {
+            return this;
+        }
+
+        @Override
+        public Class<?> readFrom(ProtoStreamReader reader) throws IOException {
+            Class<?> result = ProtoStreamReaderContext.INSTANCE.get().fromClassReference(reader.readUInt32());
+            while (!reader.isAtEnd()) {
+                reader.skipField(reader.readTag());
+            }
+            return result;
+        }
+
+        @Override
+        public void writeTo(ProtoStreamWriter writer, Class<?> targetClass) throws IOException {
+            ProtoStreamWriterContext context = ProtoStreamWriterContext.FACTORY.get().apply(writer);
+            // Loaded classes are recorded by class, named classes by type name
+            Integer referenceId = context.getClassReference(targetClass);
+            if (referenceId == null) {
+                referenceId = context.getClassReference(writer.findMarshaller(targetClass).getTypeName());
+            }
+            writer.writeVarint32(referenceId);
+        }
+
+        @Override
+        public Class<? extends Class<?>> getJavaClass() {
+            return ScalarClass.ANY.getJavaClass();
+        }
+
+        @Override
+        public int getIndex() {
+            return this.index;
+        }
+
+        @Override
+        public WireType getWireType() {
+            return WireType.VARINT;
+        }
+    }
 }
@@ -63,7 +63,9 @@ public class LoadedClassField implements Field<Class<?>>, FieldMarshaller<Class<
             }
         }
         try {
-            return loader.loadClass(className);
+            Class<?> targetClass = loader.loadClass(className);
+            ProtoStreamReaderContext.INSTANCE.get().addClassReference(targetClass);
+            return targetClass;
         } catch (ClassNotFoundException e) {
             InvalidClassException exception = new InvalidClassException(e.getLocalizedMessage());
             exception.initCause(e);
@@ -75,6 +77,7 @@ public class LoadedClassField implements Field<Class<?>>, FieldMarshaller<Class<
     public void writeTo(ProtoStreamWriter writer, Class<?> targetClass) throws IOException {
         Scalar.STRING.writeTo(writer, targetClass.getName());
         this.loaderMarshaller.writeFields(writer, this.loaderIndex, WildFlySecurityManager.getClassLoaderPrivileged(targetClass));
+        ProtoStreamWriterContext.FACTORY.get().apply(writer).addClassReference(targetClass);
     }
 
     @Override
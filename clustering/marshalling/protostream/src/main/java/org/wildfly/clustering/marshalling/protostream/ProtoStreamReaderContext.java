@@ -38,6 +38,7 @@ interface ProtoStreamReaderContext extends ProtoStreamOperation.Context, AutoClo
             return new ProtoStreamReaderContext() {
                 private final Map<Object, Boolean> objects = new IdentityHashMap<>(64);
                 private final List<Object> references = new ArrayList<>();
+                private final List<Class<?>> classReferences = new ArrayList<>();
 
                 @Override
                 public void addReference(Object object) {
@@ -50,12 +51,35 @@ interface ProtoStreamReaderContext extends ProtoStreamOperation.Context, AutoClo
                 public Object fromReference(int referenceId) {
                     return this.references.get(referenceId);
                 }
+
+                @Override
+                public void addClassReference(Class<?> targetClass) {
+                    this.classReferences.add(targetClass);
+                }
+
+                @Override
+                public Class<?> fromClassReference(int referenceId) {
+                    return this.classReferences.get(referenceId);
+                }
             };
         }
     };
 
     Object fromReference(int referenceId);
 
+    /**
+     * Records a class read from this stream, in case it is referenced again by identifier.
+     * @param targetClass a class
+     */
+    void addClassReference(Class<?> targetClass);
+
+    /**
+     * Returns the class previously read from this stream with the specified identifier.
+     * @param referenceId a class identifier
+     * @return a class
+     */
+    Class<?> fromClassReference(int referenceId);
+
     @Override
     default void close() {
         INSTANCE.remove();
@@ -22,15 +22,27 @@
 
 package org.wildfly.clustering.marshalling.protostream;
 
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.wildfly.security.manager.WildFlySecurityManager;
+
 /**
  * @author Paul Ferraro
  */
 interface ProtoStreamWriterContext extends ProtoStreamOperation.Context, AutoCloseable {
 
+    String CLASS_REFERENCES_PROPERTY = "org.wildfly.clustering.marshalling.protostream.class-references";
+    /**
+     * Compatibility switch indicating whether the names of classes written more than once to the same stream are subsequently written by reference.
+     * Streams containing class references cannot be read by servers that predate them, so this is disabled by default.
+     * It should only be enabled once every member of the cluster can read class references, i.e. after a rolling upgrade has completed.
+     * Streams containing class references are readable regardless of this setting.
+     */
+    boolean CLASS_REFERENCES = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(CLASS_REFERENCES_PROPERTY, Boolean.FALSE.toString()));
+
     interface Factory extends Function<ProtoStreamWriter, ProtoStreamWriterContext>, AutoCloseable {
         @Override
         default void close() {
@@ -55,7 +67,9 @@ interface ProtoStreamWriterContext extends ProtoStreamOperation.Context, AutoClo
             class DefaultProtoStreamWriterContext implements ProtoStreamWriterContext, Function<Object, Integer> {
                 private final Class<?> writerClass;
                 private final Map<Object, Integer> references = new IdentityHashMap<>(64);
+                private final Map<Object, Integer> classReferences = new HashMap<>();
                 private int index = 0;
+                private int classIndex = 0;
 
                 DefaultProtoStreamWriterContext(Class<?> targetClass) {
                     this.writerClass = targetClass;
@@ -71,6 +85,19 @@ interface ProtoStreamWriterContext extends ProtoStreamOperation.Context, AutoClo
                     this.references.computeIfAbsent(object, this);
                 }
 
+                @Override
+                public Integer getClassReference(Object key) {
+                    return this.classReferences.get(key);
+                }
+
+                @Override
+                public void addClassReference(Object key) {
+                    if (CLASS_REFERENCES) {
+                        // Always consume an identifier, so that identifiers remain aligned with those of the reader
+                        this.classReferences.putIfAbsent(key, this.classIndex++);
+                    }
+                }
+
                 @Override
                 public Integer apply(Object key) {
                     return this.index++;
@@ -86,6 +113,19 @@ interface ProtoStreamWriterContext extends ProtoStreamOperation.Context, AutoClo
 
     Integer getReference(Object object);
 
+    /**
+     * Returns the identifier of a class previously recorded within this stream using the specified key, if one exists.
+     * @param key a class key, i.e. a type name or a class
+     * @return a class identifier, or null, if no such class was yet written to this stream
+     */
+    Integer getClassReference(Object key);
+
+    /**
+     * Records a class written to this stream using the specified key, so that subsequent occurrences can be written by identifier.
+     * @param key a class key, i.e. a type name or a class
+     */
+    void addClassReference(Object key);
+
     @Override
     void close();
 }
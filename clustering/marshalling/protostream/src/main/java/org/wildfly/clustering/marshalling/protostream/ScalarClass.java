@@ -69,7 +69,9 @@ public enum ScalarClass implements ScalarMarshaller<Class<?>> {
         public Class<?> readFrom(ProtoStreamReader reader) throws IOException {
             String typeName = StandardCharsets.UTF_8.decode(reader.readByteBuffer()).toString();
             BaseMarshaller<?> marshaller = reader.getSerializationContext().getMarshaller(typeName);
-            return marshaller.getJavaClass();
+            Class<?> targetClass = marshaller.getJavaClass();
+            ProtoStreamReaderContext.INSTANCE.get().addClassReference(targetClass);
+            return targetClass;
         }
 
         @Override
@@ -77,6 +79,7 @@ public enum ScalarClass implements ScalarMarshaller<Class<?>> {
             BaseMarshaller<?> marshaller = writer.findMarshaller(value);
             String typeName = marshaller.getTypeName();
             Scalar.BYTE_BUFFER.writeTo(writer, StandardCharsets.UTF_8.encode(typeName));
+            ProtoStreamWriterContext.FACTORY.get().apply(writer).addClassReference(typeName);
         }
     },
     FIELD(WireType.VARINT) {
@@ -90,6 +93,19 @@ public enum ScalarClass implements ScalarMarshaller<Class<?>> {
             writer.writeVarint32(AnyField.fromJavaType(value).getIndex() - 1);
         }
     },
+    // Identifies a type already written to the current stream by NAME
+    REFERENCE(WireType.VARINT) {
+        @Override
+        public Class<?> readFrom(ProtoStreamReader reader) throws IOException {
+            return ProtoStreamReaderContext.INSTANCE.get().fromClassReference(reader.readUInt32());
+        }
+
+        @Override
+        public void writeTo(ProtoStreamWriter writer, Class<?> value) throws IOException {
+            String typeName = writer.findMarshaller(value).getTypeName();
+            writer.writeVarint32(ProtoStreamWriterContext.FACTORY.get().apply(writer).getClassReference(typeName));
+        }
+    },
     ;
     private final WireType wireType;
 
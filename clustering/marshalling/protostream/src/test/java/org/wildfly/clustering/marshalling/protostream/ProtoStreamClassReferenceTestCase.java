@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.protostream;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.Color;
+import org.wildfly.clustering.marshalling.Person;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Validates marshalling of types whose names are written to the stream more than once.
+ */
+public class ProtoStreamClassReferenceTestCase {
+
+    private final ByteBufferMarshaller marshaller = TestProtoStreamByteBufferMarshaller.INSTANCE;
+
+    @Test
+    public void namedTypes() throws IOException {
+        List<Object> values = new ArrayList<>(Arrays.asList(Color.RED, Color.GREEN, new Color[] { Color.BLUE }, Color.RED, Color.class));
+
+        byte[] bytes = this.write(values);
+        // Only the first occurrence of a named type should include its type name
+        assertEquals(1, occurrences(bytes, Color.class.getSimpleName()));
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = (List<Object>) this.read(bytes);
+        assertEquals(values.size(), result.size());
+        assertSame(Color.RED, result.get(0));
+        assertSame(Color.GREEN, result.get(1));
+        assertArrayEquals((Object[]) values.get(2), (Object[]) result.get(2));
+        assertSame(Color.RED, result.get(3));
+        assertSame(Color.class, result.get(4));
+    }
+
+    @Test
+    public void loadedClasses() throws IOException {
+        List<Class<?>> classes = new ArrayList<>(Arrays.asList(ProtoStreamClassReferenceTestCase.class, Person.class, ProtoStreamClassReferenceTestCase.class, ProtoStreamClassReferenceTestCase[].class));
+
+        byte[] bytes = this.write(classes);
+        // Only the first occurrence of a loaded class should include its class name
+        assertEquals(1, occurrences(bytes, ProtoStreamClassReferenceTestCase.class.getName()));
+        assertEquals(classes, this.read(bytes));
+    }
+
+    private static int occurrences(byte[] bytes, String name) {
+        String string = new String(bytes, StandardCharsets.ISO_8859_1);
+        int result = 0;
+        int index = string.indexOf(name);
+        while (index >= 0) {
+            result += 1;
+            index = string.indexOf(name, index + name.length());
+        }
+        return result;
+    }
+
+    private byte[] write(Object value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.marshaller.writeTo(output, value);
+        return output.toByteArray();
+    }
+
+    private Object read(byte[] bytes) throws IOException {
+        return this.marshaller.readFrom(new ByteArrayInputStream(bytes));
+    }
+}
@@ -23,6 +23,7 @@
 package org.wildfly.clustering.marshalling.protostream;
 
 import org.infinispan.protostream.SerializationContext;
+import org.wildfly.clustering.marshalling.Color;
 import org.wildfly.clustering.marshalling.Empty;
 import org.wildfly.clustering.marshalling.TestComparator;
 import org.wildfly.clustering.marshalling.TestInvocationHandler;
@@ -42,5 +43,6 @@ public class TestSerializationContextInitializer extends AbstractSerializationCo
         context.registerMarshaller(new EnumMarshaller<>(Empty.class));
         context.registerMarshaller(new FunctionalScalarMarshaller<>(TestInvocationHandler.class, Scalar.ANY, TestInvocationHandler::getValue, TestInvocationHandler::new));
         context.registerMarshaller(new PersonMarshaller());
+        context.registerMarshaller(new EnumMarshaller<>(Color.class));
     }
 }
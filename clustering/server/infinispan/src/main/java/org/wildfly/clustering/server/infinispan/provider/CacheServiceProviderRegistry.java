@@ -23,6 +23,7 @@ package org.wildfly.clustering.server.infinispan.provider;
 
 import java.util.AbstractMap;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -41,13 +42,16 @@ import org.infinispan.Cache;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.util.CloseableIterator;
 import org.infinispan.commons.util.concurrent.CompletableFutures;
+import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.context.Flag;
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.notifications.Listener.Observation;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
 import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
 import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
 import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.clustering.context.DefaultExecutorService;
@@ -86,15 +90,35 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
     private final Invoker invoker;
     private final CacheProperties properties;
     private final Executor executor;
+    // Indicates whether all cache entries are available locally, and can thus be tracked via cache events
+    private final boolean snapshotEnabled;
+    // Local immutable snapshot of the providers of each service, updated from cache events
+    private volatile Map<T, Set<Node>> snapshot = Collections.emptyMap();
 
     public CacheServiceProviderRegistry(CacheServiceProviderRegistryConfiguration<T> config) {
         this.group = config.getGroup();
         this.cache = config.getCache();
         this.batcher = config.getBatcher();
         this.executor = config.getBlockingManager().asExecutor(this.getClass().getName());
+        CacheMode mode = this.cache.getCacheConfiguration().clustering().cacheMode();
+        this.snapshotEnabled = mode.isReplicated() || !mode.isClustered();
         this.cache.addListener(this);
         this.invoker = new RetryingInvoker(this.cache);
         this.properties = new InfinispanCacheProperties(this.cache.getCacheConfiguration());
+        // Populate snapshot after adding our listener, so that no events are missed
+        // Any events received concurrently are applied afterwards, since cache events are only observed post-commit
+        if (this.snapshotEnabled) {
+            synchronized (this) {
+                Map<T, Set<Node>> snapshot = new HashMap<>();
+                try (CloseableIterator<Map.Entry<T, Set<Address>>> entries = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).entrySet().iterator()) {
+                    while (entries.hasNext()) {
+                        Map.Entry<T, Set<Address>> entry = entries.next();
+                        snapshot.put(entry.getKey(), this.createNodes(entry.getValue()));
+                    }
+                }
+                this.setSnapshot(snapshot);
+            }
+        }
     }
 
     @Override
@@ -171,8 +195,20 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
 
     @Override
     public Set<Node> getProviders(final T service) {
+        if (this.snapshotEnabled) {
+            return this.snapshot.getOrDefault(service, Collections.emptySet());
+        }
         Set<Address> addresses = this.cache.get(service);
         if (addresses == null) return Collections.emptySet();
+        return this.createNodes(addresses);
+    }
+
+    @Override
+    public Set<T> getServices() {
+        return this.snapshotEnabled ? this.snapshot.keySet() : this.cache.keySet();
+    }
+
+    private Set<Node> createNodes(Set<Address> addresses) {
         Set<Node> members = new TreeSet<>();
         for (Address address : addresses) {
             members.add(this.group.createNode(address));
@@ -180,9 +216,38 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
         return Collections.unmodifiableSet(members);
     }
 
-    @Override
-    public Set<T> getServices() {
-        return this.cache.keySet();
+    private synchronized void updateSnapshot(T service, Set<Node> providers) {
+        if (this.snapshotEnabled) {
+            Map<T, Set<Node>> snapshot = new HashMap<>(this.snapshot);
+            if (providers != null) {
+                snapshot.put(service, providers);
+            } else {
+                snapshot.remove(service);
+            }
+            this.setSnapshot(snapshot);
+        }
+    }
+
+    private synchronized void retainSnapshot(List<Address> members) {
+        if (this.snapshotEnabled) {
+            Map<T, Set<Node>> snapshot = new HashMap<>(this.snapshot);
+            boolean changed = false;
+            for (Map.Entry<T, Set<Node>> entry : snapshot.entrySet()) {
+                Set<Node> providers = new TreeSet<>(entry.getValue());
+                if (providers.removeIf(node -> !members.contains(this.group.getAddress(node)))) {
+                    entry.setValue(Collections.unmodifiableSet(providers));
+                    changed = true;
+                }
+            }
+            if (changed) {
+                this.setSnapshot(snapshot);
+            }
+        }
+    }
+
+    // Must be called while holding this object's monitor
+    private void setSnapshot(Map<T, Set<Node>> snapshot) {
+        this.snapshot = Collections.unmodifiableMap(snapshot);
     }
 
     @TopologyChanged
@@ -193,6 +258,9 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
         List<Address> members = hash.getMembers();
 
         if (!members.equals(previousMembers)) {
+            // Departed members can no longer provide any service, even if not yet removed from the cache
+            this.retainSnapshot(members);
+
             Cache<T, Set<Address>> cache = event.getCache().getAdvancedCache().withFlags(Flag.FORCE_SYNCHRONOUS);
             Address localAddress = cache.getCacheManager().getAddress();
 
@@ -245,6 +313,9 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
     @CacheEntryCreated
     @CacheEntryModified
     public CompletionStage<Void> modified(CacheEntryEvent<T, Set<Address>> event) {
+        if (event.getValue() != null) {
+            this.updateSnapshot(event.getKey(), this.createNodes(event.getValue()));
+        }
         Map.Entry<Listener, ExecutorService> entry = this.listeners.get(event.getKey());
         if (entry != null) {
             Listener listener = entry.getKey();
@@ -271,6 +342,12 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
         return CompletableFutures.completedNull();
     }
 
+    @CacheEntryRemoved
+    public CompletionStage<Void> removed(CacheEntryRemovedEvent<T, Set<Address>> event) {
+        this.updateSnapshot(event.getKey(), null);
+        return CompletableFutures.completedNull();
+    }
+
     private class RegisterLocalServiceTask implements ExceptionRunnable<CacheException> {
         private final T localService;
 
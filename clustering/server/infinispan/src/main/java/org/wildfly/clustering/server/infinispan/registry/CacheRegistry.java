@@ -41,6 +41,7 @@ import java.util.function.Function;
 import org.infinispan.Cache;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.util.concurrent.CompletableFutures;
+import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.context.Flag;
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.distribution.ch.KeyPartitioner;
@@ -92,6 +93,11 @@ public class CacheRegistry<K, V> implements Registry<K, V>, ExceptionRunnable<Ca
     private final Invoker invoker;
     private final KeyPartitioner partitioner;
     private final Executor executor;
+    // Indicates whether all registry entries are available locally, and can thus be tracked via cache events
+    private final boolean snapshotEnabled;
+    // Local immutable snapshots of the registry entries, by address and by key, updated from cache events
+    private volatile Map<Address, Map.Entry<K, V>> snapshot = Collections.emptyMap();
+    private volatile Map<K, V> snapshotEntries = Collections.emptyMap();
 
     @SuppressWarnings("deprecation")
     public CacheRegistry(CacheRegistryConfiguration<K, V> config, Map.Entry<K, V> entry, Runnable closeTask) {
@@ -103,8 +109,12 @@ public class CacheRegistry<K, V> implements Registry<K, V>, ExceptionRunnable<Ca
         this.partitioner = this.cache.getAdvancedCache().getComponentRegistry().getLocalComponent(KeyPartitioner.class);
         this.entry = new AbstractMap.SimpleImmutableEntry<>(entry);
         this.invoker = new RetryingInvoker(this.cache);
+        CacheMode mode = this.cache.getCacheConfiguration().clustering().cacheMode();
+        this.snapshotEnabled = mode.isReplicated() || !mode.isClustered();
         this.invoker.invoke(this);
         this.cache.addListener(this, new KeyFilter<>(Address.class), null);
+        // Populate snapshot after adding our listener, so that no events are missed
+        this.refreshSnapshot();
     }
 
     @Override
@@ -157,12 +167,11 @@ public class CacheRegistry<K, V> implements Registry<K, V>, ExceptionRunnable<Ca
 
     @Override
     public Map<K, V> getEntries() {
-        Set<Address> addresses = new TreeSet<>();
-        for (Node member : this.group.getMembership().getMembers()) {
-            addresses.add(this.group.getAddress(member));
+        if (this.snapshotEnabled) {
+            return this.snapshotEntries;
         }
         Map<K, V> result = new HashMap<>();
-        for (Map.Entry<K, V> entry : this.cache.getAdvancedCache().getAll(addresses).values()) {
+        for (Map.Entry<K, V> entry : this.cache.getAdvancedCache().getAll(this.getMemberAddresses()).values()) {
             if (entry != null) {
                 result.put(entry.getKey(), entry.getValue());
             }
@@ -173,7 +182,58 @@ public class CacheRegistry<K, V> implements Registry<K, V>, ExceptionRunnable<Ca
     @Override
     public Map.Entry<K, V> getEntry(Node node) {
         Address address = this.group.getAddress(node);
-        return this.cache.get(address);
+        return this.snapshotEnabled ? this.snapshot.get(address) : this.cache.get(address);
+    }
+
+    private Set<Address> getMemberAddresses() {
+        Set<Address> addresses = new TreeSet<>();
+        for (Node member : this.group.getMembership().getMembers()) {
+            addresses.add(this.group.getAddress(member));
+        }
+        return addresses;
+    }
+
+    // Any events received concurrently are applied afterwards, since cache events are only observed post-commit
+    private synchronized void refreshSnapshot() {
+        if (this.snapshotEnabled) {
+            Map<Address, Map.Entry<K, V>> snapshot = new HashMap<>();
+            for (Map.Entry<Address, Map.Entry<K, V>> entry : this.cache.getAdvancedCache().getAll(this.getMemberAddresses()).entrySet()) {
+                if (entry.getValue() != null) {
+                    snapshot.put(entry.getKey(), entry.getValue());
+                }
+            }
+            this.setSnapshot(snapshot);
+        }
+    }
+
+    private synchronized void updateSnapshot(Address address, Map.Entry<K, V> entry) {
+        if (this.snapshotEnabled) {
+            Map<Address, Map.Entry<K, V>> snapshot = new HashMap<>(this.snapshot);
+            if (entry != null) {
+                snapshot.put(address, entry);
+            } else {
+                snapshot.remove(address);
+            }
+            this.setSnapshot(snapshot);
+        }
+    }
+
+    private synchronized void retainSnapshot(List<Address> members) {
+        if (this.snapshotEnabled && !members.containsAll(this.snapshot.keySet())) {
+            Map<Address, Map.Entry<K, V>> snapshot = new HashMap<>(this.snapshot);
+            snapshot.keySet().retainAll(members);
+            this.setSnapshot(snapshot);
+        }
+    }
+
+    // Must be called while holding this object's monitor
+    private void setSnapshot(Map<Address, Map.Entry<K, V>> snapshot) {
+        Map<K, V> entries = new HashMap<>();
+        for (Map.Entry<K, V> entry : snapshot.values()) {
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        this.snapshot = Collections.unmodifiableMap(snapshot);
+        this.snapshotEntries = Collections.unmodifiableMap(entries);
     }
 
     @TopologyChanged
@@ -184,6 +244,19 @@ public class CacheRegistry<K, V> implements Registry<K, V>, ExceptionRunnable<Ca
         List<Address> members = hash.getMembers();
 
         if (!members.equals(previousMembers)) {
+            // Entries of departed members are no longer valid, even if not yet removed from the cache
+            this.retainSnapshot(members);
+            if (this.snapshotEnabled && !previousMembers.containsAll(members)) {
+                // Entries of joining members, e.g. following a merge, may not trigger events
+                this.executor.execute(() -> {
+                    try {
+                        this.refreshSnapshot();
+                    } catch (CacheException e) {
+                        ClusteringServerLogger.ROOT_LOGGER.warn(e.getLocalizedMessage(), e);
+                    }
+                });
+            }
+
             Cache<Address, Map.Entry<K, V>> cache = event.getCache().getAdvancedCache().withFlags(Flag.FORCE_SYNCHRONOUS);
             EmbeddedCacheManager container = cache.getCacheManager();
             Address localAddress = container.getAddress();
@@ -244,9 +317,10 @@ public class CacheRegistry<K, V> implements Registry<K, V>, ExceptionRunnable<Ca
     @CacheEntryCreated
     @CacheEntryModified
     public CompletionStage<Void> event(CacheEntryEvent<Address, Map.Entry<K, V>> event) {
-        if (!event.isOriginLocal()) {
-            Map.Entry<K, V> entry = event.getValue();
-            if (entry != null) {
+        Map.Entry<K, V> entry = event.getValue();
+        if (entry != null) {
+            this.updateSnapshot(event.getKey(), entry);
+            if (!event.isOriginLocal()) {
                 this.executor.execute(() -> this.notifyListeners(event.getType(), entry));
             }
         }
@@ -255,6 +329,7 @@ public class CacheRegistry<K, V> implements Registry<K, V>, ExceptionRunnable<Ca
 
     @CacheEntryRemoved
     public CompletionStage<Void> removed(CacheEntryRemovedEvent<Address, Map.Entry<K, V>> event) {
+        this.updateSnapshot(event.getKey(), null);
         if (!event.isOriginLocal()) {
             Map.Entry<K, V> entry = event.getOldValue();
             // WFLY-4938 For some reason, the old value can be null
@@ -0,0 +1,275 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server.infinispan.provider;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.CacheSet;
+import org.infinispan.commons.util.Closeables;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
+import org.infinispan.notifications.cachelistener.event.Event;
+import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.jgroups.JGroupsAddress;
+import org.infinispan.util.concurrent.BlockingManager;
+import org.jgroups.util.UUID;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Batch;
+import org.wildfly.clustering.ee.Batcher;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.group.Group;
+import org.wildfly.clustering.server.infinispan.group.LocalNode;
+
+/**
+ * Unit test for {@link CacheServiceProviderRegistry}.
+ */
+public class CacheServiceProviderRegistryTestCase {
+
+    private final Address localAddress = new JGroupsAddress(UUID.randomUUID());
+    private final Address remoteAddress1 = new JGroupsAddress(UUID.randomUUID());
+    private final Address remoteAddress2 = new JGroupsAddress(UUID.randomUUID());
+    private final Node localMember = new LocalNode("local");
+    private final Node remoteMember1 = new LocalNode("remote1");
+    private final Node remoteMember2 = new LocalNode("remote2");
+    // Cache contents, as observed by the registry
+    private final Map<String, Set<Address>> entries = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private final CacheServiceProviderRegistryConfiguration<String> config = mock(CacheServiceProviderRegistryConfiguration.class);
+    @SuppressWarnings("unchecked")
+    private final AdvancedCache<String, Set<Address>> cache = mock(AdvancedCache.class);
+    @SuppressWarnings("unchecked")
+    private final Group<Address> group = mock(Group.class);
+    @SuppressWarnings("unchecked")
+    private final Batcher<Batch> batcher = mock(Batcher.class);
+    private final KeyPartitioner partitioner = mock(KeyPartitioner.class);
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void init() {
+        BlockingManager blockingManager = mock(BlockingManager.class);
+        ComponentRegistry registry = mock(ComponentRegistry.class);
+        DistributionManager distribution = mock(DistributionManager.class);
+        LocalizedCacheTopology topology = mock(LocalizedCacheTopology.class);
+        CacheSet<Map.Entry<String, Set<Address>>> entrySet = mock(CacheSet.class);
+
+        doReturn(this.cache).when(this.config).getCache();
+        doReturn(this.batcher).when(this.config).getBatcher();
+        doReturn(this.group).when(this.config).getGroup();
+        doReturn(blockingManager).when(this.config).getBlockingManager();
+        // Run asynchronous tasks in the calling thread
+        doReturn((Executor) Runnable::run).when(blockingManager).asExecutor(any());
+        doReturn(mock(Batch.class)).when(this.batcher).createBatch();
+
+        doReturn(this.cache).when(this.cache).getAdvancedCache();
+        doReturn(this.cache).when(this.cache).withFlags(any(Flag.class));
+        doReturn(this.cache).when(this.cache).withFlags(any(Flag.class), any(Flag.class));
+        doReturn(entrySet).when(this.cache).entrySet();
+        doAnswer(invocation -> Closeables.iterator(this.entries.entrySet().iterator())).when(entrySet).iterator();
+        doReturn(registry).when(this.cache).getComponentRegistry();
+        doReturn(this.partitioner).when(registry).getLocalComponent(KeyPartitioner.class);
+        doReturn(distribution).when(this.cache).getDistributionManager();
+        doReturn(topology).when(distribution).getCacheTopology();
+        doReturn(this.localAddress).when(topology).getLocalAddress();
+
+        doReturn(this.localMember).when(this.group).getLocalMember();
+        this.addMember(this.localMember, this.localAddress);
+        this.addMember(this.remoteMember1, this.remoteAddress1);
+        this.addMember(this.remoteMember2, this.remoteAddress2);
+    }
+
+    private void addMember(Node member, Address address) {
+        doReturn(address).when(this.group).getAddress(member);
+        doReturn(member).when(this.group).createNode(address);
+    }
+
+    private CacheServiceProviderRegistry<String> createRegistry(CacheMode mode) {
+        doReturn(new ConfigurationBuilder().clustering().cacheMode(mode).build()).when(this.cache).getCacheConfiguration();
+        return new CacheServiceProviderRegistry<>(this.config);
+    }
+
+    @Test
+    public void events() {
+        this.entries.put("a", new HashSet<>(Arrays.asList(this.localAddress, this.remoteAddress1)));
+
+        CacheServiceProviderRegistry<String> registry = this.createRegistry(CacheMode.REPL_SYNC);
+
+        Assert.assertEquals(Collections.singleton("a"), registry.getServices());
+        Assert.assertEquals(createNodes(this.localMember, this.remoteMember1), registry.getProviders("a"));
+        Assert.assertTrue(registry.getProviders("b").isEmpty());
+
+        registry.modified(createEvent(Event.Type.CACHE_ENTRY_CREATED, "b", this.remoteAddress2));
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b")), registry.getServices());
+        Assert.assertEquals(createNodes(this.remoteMember2), registry.getProviders("b"));
+
+        registry.modified(createEvent(Event.Type.CACHE_ENTRY_MODIFIED, "a", this.localAddress));
+
+        Assert.assertEquals(createNodes(this.localMember), registry.getProviders("a"));
+
+        registry.removed(createRemovedEvent("b"));
+
+        Assert.assertEquals(Collections.singleton("a"), registry.getServices());
+        Assert.assertTrue(registry.getProviders("b").isEmpty());
+
+        // Providers are read from the snapshot, not the cache
+        verify(this.cache, never()).get(any());
+        verify(this.cache, never()).keySet();
+    }
+
+    @Test
+    public void departedMembers() {
+        this.entries.put("a", new HashSet<>(Arrays.asList(this.localAddress, this.remoteAddress1)));
+        this.entries.put("b", new HashSet<>(Arrays.asList(this.remoteAddress1, this.remoteAddress2)));
+
+        CacheServiceProviderRegistry<String> registry = this.createRegistry(CacheMode.REPL_SYNC);
+
+        // Local member is the primary owner of all keys
+        ConsistentHash hash = createHash(this.localAddress, this.remoteAddress2);
+        doReturn(0).when(this.partitioner).getSegment(any());
+        doReturn(this.localAddress).when(hash).locatePrimaryOwnerForSegment(0);
+
+        registry.topologyChanged(this.createTopologyChangedEvent(createHash(this.localAddress, this.remoteAddress1, this.remoteAddress2), hash));
+
+        // Departed member is removed from the snapshot, even before it is removed from the cache
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b")), registry.getServices());
+        Assert.assertEquals(createNodes(this.localMember), registry.getProviders("a"));
+        Assert.assertEquals(createNodes(this.remoteMember2), registry.getProviders("b"));
+
+        // Departed member was removed from the cache by the primary owner
+        Assert.assertEquals(Collections.singleton(this.localAddress), this.entries.get("a"));
+        Assert.assertEquals(Collections.singleton(this.remoteAddress2), this.entries.get("b"));
+    }
+
+    @Test
+    public void merge() {
+        this.entries.put("a", new HashSet<>(Collections.singleton(this.remoteAddress1)));
+
+        CacheServiceProviderRegistry<String> registry = this.createRegistry(CacheMode.REPL_SYNC);
+
+        registry.register("a");
+
+        verify(this.cache).compute(eq("a"), any(BiFunction.class));
+
+        registry.topologyChanged(this.createTopologyChangedEvent(createHash(this.remoteAddress1, this.remoteAddress2), createHash(this.localAddress, this.remoteAddress1, this.remoteAddress2)));
+
+        // No member departed, so the snapshot is unchanged
+        Assert.assertEquals(createNodes(this.remoteMember1), registry.getProviders("a"));
+
+        // Local services were re-registered, since local member was not a member of the merged partition
+        verify(this.cache, times(2)).compute(eq("a"), any(BiFunction.class));
+
+        registry.modified(createEvent(Event.Type.CACHE_ENTRY_MODIFIED, "a", this.localAddress, this.remoteAddress1));
+
+        Assert.assertEquals(createNodes(this.localMember, this.remoteMember1), registry.getProviders("a"));
+    }
+
+    @Test
+    public void distributed() {
+        this.entries.put("a", new HashSet<>(Arrays.asList(this.localAddress, this.remoteAddress1)));
+
+        CacheServiceProviderRegistry<String> registry = this.createRegistry(CacheMode.DIST_SYNC);
+
+        // Snapshot is disabled for distributed caches, so providers are read from the cache
+        verify(this.cache, never()).entrySet();
+
+        doReturn(this.entries.get("a")).when(this.cache).get("a");
+        Assert.assertEquals(createNodes(this.localMember, this.remoteMember1), registry.getProviders("a"));
+        verify(this.cache).get("a");
+
+        registry.modified(createEvent(Event.Type.CACHE_ENTRY_CREATED, "b", this.remoteAddress2));
+        registry.removed(createRemovedEvent("b"));
+
+        // Events do not affect reads, which still go through the cache
+        Assert.assertEquals(createNodes(this.localMember, this.remoteMember1), registry.getProviders("a"));
+        verify(this.cache, times(2)).get("a");
+        Assert.assertTrue(registry.getProviders("b").isEmpty());
+    }
+
+    private static Set<Node> createNodes(Node... nodes) {
+        return new TreeSet<>(Arrays.asList(nodes));
+    }
+
+    private static ConsistentHash createHash(Address... members) {
+        ConsistentHash hash = mock(ConsistentHash.class);
+        List<Address> list = Arrays.asList(members);
+        doReturn(list).when(hash).getMembers();
+        return hash;
+    }
+
+    private TopologyChangedEvent<String, Set<Address>> createTopologyChangedEvent(ConsistentHash previousHash, ConsistentHash hash) {
+        @SuppressWarnings("unchecked")
+        TopologyChangedEvent<String, Set<Address>> event = mock(TopologyChangedEvent.class);
+        EmbeddedCacheManager manager = mock(EmbeddedCacheManager.class);
+
+        doReturn(previousHash).when(event).getWriteConsistentHashAtStart();
+        doReturn(hash).when(event).getWriteConsistentHashAtEnd();
+        doReturn(this.cache).when(event).getCache();
+        doReturn(manager).when(this.cache).getCacheManager();
+        doReturn(this.localAddress).when(manager).getAddress();
+        return event;
+    }
+
+    private static CacheEntryEvent<String, Set<Address>> createEvent(Event.Type type, String service, Address... providers) {
+        @SuppressWarnings("unchecked")
+        CacheEntryEvent<String, Set<Address>> event = mock(CacheEntryEvent.class);
+        doReturn(type).when(event).getType();
+        doReturn(service).when(event).getKey();
+        doReturn(new HashSet<>(Arrays.asList(providers))).when(event).getValue();
+        doReturn(false).when(event).isOriginLocal();
+        return event;
+    }
+
+    private static CacheEntryRemovedEvent<String, Set<Address>> createRemovedEvent(String service) {
+        @SuppressWarnings("unchecked")
+        CacheEntryRemovedEvent<String, Set<Address>> event = mock(CacheEntryRemovedEvent.class);
+        doReturn(Event.Type.CACHE_ENTRY_REMOVED).when(event).getType();
+        doReturn(service).when(event).getKey();
+        doReturn(false).when(event).isOriginLocal();
+        return event;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server.infinispan.registry;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
+import org.infinispan.notifications.cachelistener.event.Event;
+import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.jgroups.JGroupsAddress;
+import org.infinispan.util.concurrent.BlockingManager;
+import org.jgroups.util.UUID;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Batch;
+import org.wildfly.clustering.ee.Batcher;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.group.Group;
+import org.wildfly.clustering.server.infinispan.group.LocalNode;
+
+/**
+ * Unit test for {@link CacheRegistry}.
+ */
+public class CacheRegistryTestCase {
+
+    private final Address localAddress = new JGroupsAddress(UUID.randomUUID());
+    private final Address remoteAddress1 = new JGroupsAddress(UUID.randomUUID());
+    private final Address remoteAddress2 = new JGroupsAddress(UUID.randomUUID());
+    private final Node localMember = new LocalNode("local");
+    private final Node remoteMember1 = new LocalNode("remote1");
+    private final Node remoteMember2 = new LocalNode("remote2");
+    private final Map.Entry<String, String> localEntry = new AbstractMap.SimpleImmutableEntry<>("local", "a");
+    private final Map.Entry<String, String> remoteEntry1 = new AbstractMap.SimpleImmutableEntry<>("remote1", "b");
+    private final Map.Entry<String, String> remoteEntry2 = new AbstractMap.SimpleImmutableEntry<>("remote2", "c");
+
+    @SuppressWarnings("unchecked")
+    private final CacheRegistryConfiguration<String, String> config = mock(CacheRegistryConfiguration.class);
+    @SuppressWarnings("unchecked")
+    private final AdvancedCache<Address, Map.Entry<String, String>> cache = mock(AdvancedCache.class);
+    @SuppressWarnings("unchecked")
+    private final Group<Address> group = mock(Group.class);
+    @SuppressWarnings("unchecked")
+    private final Batcher<Batch> batcher = mock(Batcher.class);
+    private final KeyPartitioner partitioner = mock(KeyPartitioner.class);
+    private final Membership membership = mock(Membership.class);
+
+    @Before
+    public void init() {
+        BlockingManager blockingManager = mock(BlockingManager.class);
+        ComponentRegistry registry = mock(ComponentRegistry.class);
+
+        doReturn(this.cache).when(this.config).getCache();
+        doReturn(this.batcher).when(this.config).getBatcher();
+        doReturn(this.group).when(this.config).getGroup();
+        doReturn(blockingManager).when(this.config).getBlockingManager();
+        // Run asynchronous tasks in the calling thread
+        doReturn((Executor) Runnable::run).when(blockingManager).asExecutor(any());
+        doReturn(mock(Batch.class)).when(this.batcher).createBatch();
+
+        doReturn(this.cache).when(this.cache).getAdvancedCache();
+        doReturn(this.cache).when(this.cache).withFlags(any(Flag.class));
+        doReturn(this.cache).when(this.cache).withFlags(any(Flag.class), any(Flag.class));
+        doReturn(registry).when(this.cache).getComponentRegistry();
+        doReturn(this.partitioner).when(registry).getLocalComponent(KeyPartitioner.class);
+
+        doReturn(this.localMember).when(this.group).getLocalMember();
+        doReturn(this.membership).when(this.group).getMembership();
+        this.addMember(this.localMember, this.localAddress);
+        this.addMember(this.remoteMember1, this.remoteAddress1);
+        this.addMember(this.remoteMember2, this.remoteAddress2);
+    }
+
+    private void addMember(Node member, Address address) {
+        doReturn(address).when(this.group).getAddress(member);
+        doReturn(member).when(this.group).createNode(address);
+    }
+
+    private CacheRegistry<String, String> createRegistry(CacheMode mode, Map<Address, Map.Entry<String, String>> entries) {
+        doReturn(new ConfigurationBuilder().clustering().cacheMode(mode).build()).when(this.cache).getCacheConfiguration();
+        doReturn(Arrays.asList(this.localMember, this.remoteMember1, this.remoteMember2)).when(this.membership).getMembers();
+        doReturn(entries).when(this.cache).getAll(any());
+        return new CacheRegistry<>(this.config, this.localEntry, () -> {});
+    }
+
+    @Test
+    public void events() {
+        Map<Address, Map.Entry<String, String>> entries = new HashMap<>();
+        entries.put(this.localAddress, this.localEntry);
+        entries.put(this.remoteAddress1, this.remoteEntry1);
+
+        CacheRegistry<String, String> registry = this.createRegistry(CacheMode.REPL_SYNC, entries);
+
+        verify(this.cache).put(this.localAddress, this.localEntry);
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("local", "a");
+        expected.put("remote1", "b");
+        Assert.assertEquals(expected, registry.getEntries());
+        Assert.assertEquals(this.localEntry, registry.getEntry(this.localMember));
+        Assert.assertEquals(this.remoteEntry1, registry.getEntry(this.remoteMember1));
+        Assert.assertNull(registry.getEntry(this.remoteMember2));
+
+        registry.event(createEvent(Event.Type.CACHE_ENTRY_CREATED, this.remoteAddress2, this.remoteEntry2));
+
+        expected.put("remote2", "c");
+        Assert.assertEquals(expected, registry.getEntries());
+        Assert.assertEquals(this.remoteEntry2, registry.getEntry(this.remoteMember2));
+
+        Map.Entry<String, String> modifiedEntry = new AbstractMap.SimpleImmutableEntry<>("remote2", "d");
+        registry.event(createEvent(Event.Type.CACHE_ENTRY_MODIFIED, this.remoteAddress2, modifiedEntry));
+
+        expected.put("remote2", "d");
+        Assert.assertEquals(expected, registry.getEntries());
+        Assert.assertEquals(modifiedEntry, registry.getEntry(this.remoteMember2));
+
+        registry.removed(createRemovedEvent(this.remoteAddress1, this.remoteEntry1));
+
+        expected.remove("remote1");
+        Assert.assertEquals(expected, registry.getEntries());
+        Assert.assertNull(registry.getEntry(this.remoteMember1));
+
+        // Entries are read from the snapshot, not the cache
+        verify(this.cache).getAll(any());
+        verify(this.cache, never()).get(any());
+    }
+
+    @Test
+    public void departedMembers() {
+        Map<Address, Map.Entry<String, String>> entries = new HashMap<>();
+        entries.put(this.localAddress, this.localEntry);
+        entries.put(this.remoteAddress1, this.remoteEntry1);
+        entries.put(this.remoteAddress2, this.remoteEntry2);
+
+        CacheRegistry<String, String> registry = this.createRegistry(CacheMode.REPL_SYNC, entries);
+
+        // Local member is the primary owner of all keys
+        ConsistentHash hash = createHash(this.localAddress, this.remoteAddress2);
+        doReturn(0).when(this.partitioner).getSegment(any());
+        doReturn(this.localAddress).when(hash).locatePrimaryOwnerForSegment(0);
+        doReturn(this.remoteEntry1).when(this.cache).remove(this.remoteAddress1);
+
+        registry.topologyChanged(this.createTopologyChangedEvent(createHash(this.localAddress, this.remoteAddress1, this.remoteAddress2), hash));
+
+        // Entry of departed member is removed from the snapshot, even before it is removed from the cache
+        Map<String, String> expected = new HashMap<>();
+        expected.put("local", "a");
+        expected.put("remote2", "c");
+        Assert.assertEquals(expected, registry.getEntries());
+        Assert.assertNull(registry.getEntry(this.remoteMember1));
+
+        verify(this.cache).remove(this.remoteAddress1);
+        verify(this.cache, never()).remove(this.remoteAddress2);
+        // No members joined, so no refresh is needed
+        verify(this.cache).getAll(any());
+    }
+
+    @Test
+    public void merge() {
+        Map<Address, Map.Entry<String, String>> entries = new HashMap<>();
+        entries.put(this.localAddress, this.localEntry);
+
+        CacheRegistry<String, String> registry = this.createRegistry(CacheMode.REPL_SYNC, entries);
+
+        Assert.assertEquals(Collections.singletonMap("local", "a"), registry.getEntries());
+
+        // Entries of merged partition may not trigger cache events
+        Map<Address, Map.Entry<String, String>> mergedEntries = new HashMap<>();
+        mergedEntries.put(this.remoteAddress1, this.remoteEntry1);
+        mergedEntries.put(this.remoteAddress2, this.remoteEntry2);
+        doReturn(mergedEntries).when(this.cache).getAll(any());
+
+        registry.topologyChanged(this.createTopologyChangedEvent(createHash(this.remoteAddress1, this.remoteAddress2), createHash(this.localAddress, this.remoteAddress1, this.remoteAddress2)));
+
+        // Snapshot was refreshed from the cache
+        Map<String, String> expected = new HashMap<>();
+        expected.put("remote1", "b");
+        expected.put("remote2", "c");
+        Assert.assertEquals(expected, registry.getEntries());
+        Assert.assertEquals(this.remoteEntry1, registry.getEntry(this.remoteMember1));
+
+        verify(this.cache, times(2)).getAll(any());
+        // Local entry was restored, since local member was not a member of the merged partition
+        verify(this.cache, times(2)).put(this.localAddress, this.localEntry);
+        verify(this.cache, never()).remove(any());
+    }
+
+    @Test
+    public void distributed() {
+        Map<Address, Map.Entry<String, String>> entries = new HashMap<>();
+        entries.put(this.localAddress, this.localEntry);
+        entries.put(this.remoteAddress1, this.remoteEntry1);
+
+        CacheRegistry<String, String> registry = this.createRegistry(CacheMode.DIST_SYNC, entries);
+
+        // Snapshot is disabled for distributed caches, so entries are read from the cache
+        Map<String, String> expected = new HashMap<>();
+        expected.put("local", "a");
+        expected.put("remote1", "b");
+        Assert.assertEquals(expected, registry.getEntries());
+        verify(this.cache).getAll(any());
+
+        doReturn(this.remoteEntry1).when(this.cache).get(this.remoteAddress1);
+        Assert.assertEquals(this.remoteEntry1, registry.getEntry(this.remoteMember1));
+        verify(this.cache).get(this.remoteAddress1);
+
+        registry.event(createEvent(Event.Type.CACHE_ENTRY_CREATED, this.remoteAddress2, this.remoteEntry2));
+        registry.removed(createRemovedEvent(this.remoteAddress1, this.remoteEntry1));
+
+        // Events do not affect reads, which still go through the cache
+        Assert.assertEquals(expected, registry.getEntries());
+        verify(this.cache, times(2)).getAll(any());
+    }
+
+    private static ConsistentHash createHash(Address... members) {
+        ConsistentHash hash = mock(ConsistentHash.class);
+        List<Address> list = Arrays.asList(members);
+        doReturn(list).when(hash).getMembers();
+        return hash;
+    }
+
+    private TopologyChangedEvent<Address, Map.Entry<String, String>> createTopologyChangedEvent(ConsistentHash previousHash, ConsistentHash hash) {
+        @SuppressWarnings("unchecked")
+        TopologyChangedEvent<Address, Map.Entry<String, String>> event = mock(TopologyChangedEvent.class);
+        EmbeddedCacheManager manager = mock(EmbeddedCacheManager.class);
+
+        doReturn(previousHash).when(event).getWriteConsistentHashAtStart();
+        doReturn(hash).when(event).getWriteConsistentHashAtEnd();
+        doReturn(this.cache).when(event).getCache();
+        doReturn(manager).when(this.cache).getCacheManager();
+        doReturn(this.localAddress).when(manager).getAddress();
+        return event;
+    }
+
+    private static CacheEntryEvent<Address, Map.Entry<String, String>> createEvent(Event.Type type, Address address, Map.Entry<String, String> entry) {
+        @SuppressWarnings("unchecked")
+        CacheEntryEvent<Address, Map.Entry<String, String>> event = mock(CacheEntryEvent.class);
+        doReturn(type).when(event).getType();
+        doReturn(address).when(event).getKey();
+        doReturn(entry).when(event).getValue();
+        doReturn(false).when(event).isOriginLocal();
+        return event;
+    }
+
+    private static CacheEntryRemovedEvent<Address, Map.Entry<String, String>> createRemovedEvent(Address address, Map.Entry<String, String> entry) {
+        @SuppressWarnings("unchecked")
+        CacheEntryRemovedEvent<Address, Map.Entry<String, String>> event = mock(CacheEntryRemovedEvent.class);
+        doReturn(Event.Type.CACHE_ENTRY_REMOVED).when(event).getType();
+        doReturn(address).when(event).getKey();
+        doReturn(entry).when(event).getOldValue();
+        doReturn(false).when(event).isOriginLocal();
+        return event;
+    }
+}
@@ -21,6 +21,7 @@
  */
 package org.wildfly.clustering.singleton;
 
+import java.time.Duration;
 import java.util.Set;
 
 import org.wildfly.clustering.group.Node;
@@ -47,4 +48,21 @@ public interface Singleton {
      * @return a set of cluster members
      */
     Set<Node> getProviders();
+
+    /**
+     * Returns the duration of the most recent election of a primary provider performed by the local member.
+     * Elections are only performed by a single member, so this will be zero if the local member never performed an election.
+     * @return the duration of the most recent election, including the time taken to start the singleton on the elected member
+     */
+    default Duration getElectionTime() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Returns the duration of the most recent activation of the singleton on the local member.
+     * @return the time taken to start the singleton the last time the local member was elected as primary provider
+     */
+    default Duration getActivationTime() {
+        return Duration.ZERO;
+    }
 }
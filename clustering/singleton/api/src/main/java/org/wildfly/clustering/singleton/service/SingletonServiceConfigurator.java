@@ -51,4 +51,11 @@ public interface SingletonServiceConfigurator extends ImmutableSingletonServiceC
      * @return a reference to this configurator
      */
     SingletonServiceConfigurator electionListener(SingletonElectionListener listener);
+
+    /**
+     * Defines whether a {@link StandbyService} should be prepared on every candidate provider, such that its election need only activate it.
+     * @param enabled indicates whether warm standby is enabled
+     * @return a reference to this configurator
+     */
+    SingletonServiceConfigurator warmStandby(boolean enabled);
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.singleton.service;
+
+import org.jboss.msc.Service;
+import org.jboss.msc.service.StartException;
+
+/**
+ * A singleton {@link Service} whose start can be split into a preparation, which may take place on every candidate provider, and an activation, which only takes place on the elected primary provider.
+ * If warm standby is enabled for a singleton service (see {@link SingletonServiceConfigurator#warmStandby(boolean)}), this service is prepared on every member on which it is installed, ahead of any election.
+ * Otherwise, this service is prepared immediately before it is started, and released immediately after it is stopped.
+ */
+public interface StandbyService extends Service {
+
+    /**
+     * Prepares this service for activation, e.g. by creating pools or populating caches.
+     * This method must complete synchronously.
+     * @throws StartException if this service could not be prepared
+     */
+    void prepare() throws StartException;
+
+    /**
+     * Releases any resources acquired by {@link #prepare()}.
+     */
+    void release();
+}
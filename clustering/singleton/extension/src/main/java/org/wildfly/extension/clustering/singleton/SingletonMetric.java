@@ -27,6 +27,7 @@ import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.group.Node;
@@ -60,12 +61,28 @@ public enum SingletonMetric implements Metric<Singleton> {
             }
             return result;
         }
-    }
+    },
+    ELECTION_TIME("election-time", ModelType.LONG, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(Singleton singleton) throws OperationFailedException {
+            return new ModelNode(singleton.getElectionTime().toMillis());
+        }
+    },
+    ACTIVATION_TIME("activation-time", ModelType.LONG, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(Singleton singleton) throws OperationFailedException {
+            return new ModelNode(singleton.getActivationTime().toMillis());
+        }
+    },
     ;
     private final AttributeDefinition definition;
 
     SingletonMetric(String name, ModelType type) {
-        this.definition = new SimpleAttributeDefinitionBuilder(name, type).setStorageRuntime().build();
+        this(name, type, null);
+    }
+
+    SingletonMetric(String name, ModelType type, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type).setMeasurementUnit(unit).setStorageRuntime().build();
     }
 
     SingletonMetric(String name) {
@@ -34,9 +34,10 @@ public enum SingletonModel implements Model {
     VERSION_1_0_0(1, 0, 0), // WildFly 10, EAP 7.0
     VERSION_2_0_0(2, 0, 0), // WildFly 11-14, EAP 7.1-7.2
 */
-    VERSION_3_0_0(3, 0, 0), // WildFly 15-present, EAP 7.3-present
+    VERSION_3_0_0(3, 0, 0), // WildFly 15-27, EAP 7.3-7.4
+    VERSION_4_0_0(4, 0, 0), // WildFly 28-present
     ;
-    static final SingletonModel CURRENT = VERSION_3_0_0;
+    static final SingletonModel CURRENT = VERSION_4_0_0;
 
     private final ModelVersion version;
 
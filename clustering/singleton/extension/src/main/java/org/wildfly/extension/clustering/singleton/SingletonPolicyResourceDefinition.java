@@ -101,6 +101,15 @@ public class SingletonPolicyResourceDefinition extends ChildResourceDefinition<M
                         ;
             }
         },
+        WARM_STANDBY("warm-standby", ModelType.BOOLEAN) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setRequired(false)
+                        .setAllowExpression(true)
+                        .setDefaultValue(ModelNode.FALSE)
+                        ;
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
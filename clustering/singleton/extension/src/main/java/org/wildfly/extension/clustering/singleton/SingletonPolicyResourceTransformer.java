@@ -25,6 +25,8 @@ package org.wildfly.extension.clustering.singleton;
 import java.util.function.Consumer;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 
 /**
@@ -41,6 +43,12 @@ public class SingletonPolicyResourceTransformer implements Consumer<ModelVersion
 
     @Override
     public void accept(ModelVersion version) {
+        if (SingletonModel.VERSION_4_0_0.requiresTransformation(version)) {
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, SingletonPolicyResourceDefinition.Attribute.WARM_STANDBY.getDefinition())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, SingletonPolicyResourceDefinition.Attribute.WARM_STANDBY.getDefinition())
+                    .end();
+        }
         if (SingletonModel.VERSION_3_0_0.requiresTransformation(version)) {
             this.builder.discardChildResource(SingletonDeploymentResourceDefinition.WILDCARD_PATH);
             this.builder.discardChildResource(SingletonServiceResourceDefinition.WILDCARD_PATH);
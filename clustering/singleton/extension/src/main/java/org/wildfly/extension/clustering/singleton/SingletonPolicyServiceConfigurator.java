@@ -25,6 +25,7 @@ package org.wildfly.extension.clustering.singleton;
 import static org.wildfly.extension.clustering.singleton.SingletonPolicyResourceDefinition.Attribute.CACHE;
 import static org.wildfly.extension.clustering.singleton.SingletonPolicyResourceDefinition.Attribute.CACHE_CONTAINER;
 import static org.wildfly.extension.clustering.singleton.SingletonPolicyResourceDefinition.Attribute.QUORUM;
+import static org.wildfly.extension.clustering.singleton.SingletonPolicyResourceDefinition.Attribute.WARM_STANDBY;
 import static org.wildfly.extension.clustering.singleton.SingletonPolicyResourceDefinition.Capability.POLICY;
 
 import java.util.function.Consumer;
@@ -70,6 +71,7 @@ public class SingletonPolicyServiceConfigurator extends CapabilityServiceNamePro
     private volatile Registrar<ServiceName> registrar;
     private volatile SupplierDependency<SingletonServiceBuilderFactory> factory;
     private volatile int quorum;
+    private volatile boolean warmStandby;
 
     public SingletonPolicyServiceConfigurator(PathAddress address, ServiceValueRegistry<Singleton> registry) {
         super(POLICY, address);
@@ -91,6 +93,7 @@ public class SingletonPolicyServiceConfigurator extends CapabilityServiceNamePro
         String cacheName = CACHE.resolveModelAttribute(context, model).asStringOrNull();
         this.factory = new ServiceSupplierDependency<>(SingletonCacheRequirement.SINGLETON_SERVICE_BUILDER_FACTORY.getServiceName(context, containerName, cacheName));
         this.quorum = QUORUM.resolveModelAttribute(context, model).asInt();
+        this.warmStandby = WARM_STANDBY.resolveModelAttribute(context, model).asBoolean();
         this.registrar = (SingletonPolicyResource) context.readResource(PathAddress.EMPTY_ADDRESS);
         return this;
     }
@@ -100,6 +103,7 @@ public class SingletonPolicyServiceConfigurator extends CapabilityServiceNamePro
         ServiceConfigurator configurator = this.factory.get().createSingletonServiceConfigurator(name)
                 .electionPolicy(this.policy.get())
                 .requireQuorum(this.quorum)
+                .warmStandby(this.warmStandby)
                 ;
         return new SingletonServiceConfigurator(configurator, new SingletonServiceLifecycleListener(name, this.registrar), this.registry);
     }
@@ -32,8 +32,9 @@ import org.jboss.as.clustering.controller.Schema;
 public enum SingletonSchema implements Schema<SingletonSchema> {
 
     VERSION_1_0(1, 0),
+    VERSION_1_1(1, 1),
     ;
-    public static final SingletonSchema CURRENT = VERSION_1_0;
+    public static final SingletonSchema CURRENT = VERSION_1_1;
 
     private final int major;
     private final int minor;
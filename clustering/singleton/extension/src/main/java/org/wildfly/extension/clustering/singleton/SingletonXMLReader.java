@@ -43,7 +43,6 @@ import org.jboss.staxmapper.XMLExtendedStreamReader;
  */
 public class SingletonXMLReader implements XMLElementReader<List<ModelNode>> {
 
-    @SuppressWarnings("unused")
     private final SingletonSchema schema;
 
     public SingletonXMLReader(SingletonSchema schema) {
@@ -130,6 +129,12 @@ public class SingletonXMLReader implements XMLElementReader<List<ModelNode>> {
                     readAttribute(reader, i, operation, SingletonPolicyResourceDefinition.Attribute.QUORUM);
                     break;
                 }
+                case WARM_STANDBY: {
+                    if (this.schema.since(SingletonSchema.VERSION_1_1)) {
+                        readAttribute(reader, i, operation, SingletonPolicyResourceDefinition.Attribute.WARM_STANDBY);
+                        break;
+                    }
+                }
                 default: {
                     throw ParseUtils.unexpectedAttribute(reader, i);
                 }
@@ -44,6 +44,7 @@ public enum XMLAttribute {
     NAME(ModelDescriptionConstants.NAME),
     POSITION(SimpleElectionPolicyResourceDefinition.Attribute.POSITION),
     QUORUM(SingletonPolicyResourceDefinition.Attribute.QUORUM),
+    WARM_STANDBY(SingletonPolicyResourceDefinition.Attribute.WARM_STANDBY),
     ;
     private final String localName;
 
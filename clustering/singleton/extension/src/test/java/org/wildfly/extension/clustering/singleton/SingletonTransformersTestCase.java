@@ -27,6 +27,7 @@ import java.util.List;
 import org.jboss.as.clustering.controller.CommonUnaryRequirement;
 import org.jboss.as.clustering.subsystem.AdditionalInitialization;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.model.test.FailedOperationTransformationConfig;
 import org.jboss.as.model.test.ModelTestControllerVersion;
 import org.jboss.as.model.test.ModelTestUtils;
@@ -137,7 +138,14 @@ public class SingletonTransformersTestCase extends AbstractSubsystemTest {
     }
 
     private static FailedOperationTransformationConfig createFailedOperationConfig(ModelVersion version) {
-        return new FailedOperationTransformationConfig();
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        PathAddress subsystemAddress = PathAddress.pathAddress(SingletonResourceDefinition.PATH);
+
+        if (SingletonModel.VERSION_4_0_0.requiresTransformation(version)) {
+            config.addFailedAttribute(subsystemAddress.append(SingletonPolicyResourceDefinition.pathElement("simple")), new FailedOperationTransformationConfig.NewAttributesConfig(SingletonPolicyResourceDefinition.Attribute.WARM_STANDBY.getDefinition()));
+        }
+
+        return config;
     }
 
     private KernelServicesBuilder createKernelServicesBuilder() {
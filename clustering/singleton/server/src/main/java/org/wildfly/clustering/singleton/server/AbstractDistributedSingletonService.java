@@ -22,6 +22,7 @@
 
 package org.wildfly.clustering.singleton.server;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -70,6 +71,8 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
     private final AtomicBoolean primary = new AtomicBoolean(false);
 
     private volatile Lifecycle primaryLifecycle;
+    private volatile Duration electionTime = Duration.ZERO;
+    private volatile Duration activationTime = Duration.ZERO;
     private volatile CommandDispatcher<C> dispatcher;
     private volatile ServiceProviderRegistration<ServiceName> registration;
 
@@ -107,6 +110,7 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
 
         // Only run election on a single node
         if (candidates.isEmpty() || candidates.get(0).equals(group.getLocalMember())) {
+            long start = System.nanoTime();
             // First validate that quorum was met
             int size = candidates.size();
             boolean quorumMet = size >= this.quorum;
@@ -181,6 +185,9 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
                 }
             } catch (CommandDispatcherException e) {
                 throw new IllegalStateException(e);
+            } finally {
+                this.electionTime = Duration.ofNanos(System.nanoTime() - start);
+                SingletonLogger.ROOT_LOGGER.debugf("Election of primary provider (%s) of singleton service %s completed in %d ms", elected, this.name.getCanonicalName(), this.electionTime.toMillis());
             }
         }
     }
@@ -189,7 +196,12 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
     public synchronized void start() {
         // If we were not already the primary node
         if (this.primary.compareAndSet(false, true)) {
-            this.primaryLifecycle.start();
+            long start = System.nanoTime();
+            try {
+                this.primaryLifecycle.start();
+            } finally {
+                this.activationTime = Duration.ofNanos(System.nanoTime() - start);
+            }
         }
     }
 
@@ -244,6 +256,16 @@ public abstract class AbstractDistributedSingletonService<C extends SingletonCon
         return this.registration.getProviders();
     }
 
+    @Override
+    public Duration getElectionTime() {
+        return this.electionTime;
+    }
+
+    @Override
+    public Duration getActivationTime() {
+        return this.activationTime;
+    }
+
     int getQuorum() {
         return this.quorum;
     }
@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import org.jboss.msc.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.wildfly.clustering.singleton.service.StandbyService;
+
+/**
+ * Prepares a {@link StandbyService} immediately before it starts, and releases it immediately after it stops, i.e. when warm standby is disabled.
+ */
+public class ColdStandbyService implements Service {
+
+    private final StandbyService service;
+
+    public ColdStandbyService(StandbyService service) {
+        this.service = service;
+    }
+
+    @Override
+    public void start(StartContext context) throws StartException {
+        this.service.prepare();
+        try {
+            this.service.start(context);
+        } catch (StartException | RuntimeException e) {
+            this.service.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        try {
+            this.service.stop(context);
+        } finally {
+            this.service.release();
+        }
+    }
+}
@@ -34,7 +34,9 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
 import org.wildfly.clustering.singleton.Singleton;
+import org.wildfly.clustering.singleton.service.StandbyService;
 
 /**
  * Distributed {@link org.wildfly.clustering.singleton.service.SingletonService} implementation that uses JBoss MSC 1.4.x service installation.
@@ -43,18 +45,42 @@ import org.wildfly.clustering.singleton.Singleton;
 public class DistributedSingletonService extends AbstractDistributedSingletonService<SingletonContext> {
 
     private final Consumer<Singleton> singleton;
+    private final StandbyService standbyService;
 
-    public DistributedSingletonService(DistributedSingletonServiceContext context, Service service, Consumer<Singleton> singleton, List<Map.Entry<ServiceName[], DeferredInjector<?>>> injectors) {
-        super(context, new PrimaryServiceLifecycleFactory(context.getServiceName(), service, injectors));
+    public DistributedSingletonService(DistributedSingletonServiceContext context, Service service, Consumer<Singleton> singleton, List<Map.Entry<ServiceName[], DeferredInjector<?>>> injectors, boolean warmStandby) {
+        super(context, new PrimaryServiceLifecycleFactory(context.getServiceName(), (!warmStandby && (service instanceof StandbyService)) ? new ColdStandbyService((StandbyService) service) : service, injectors));
         this.singleton = singleton;
+        this.standbyService = (warmStandby && (service instanceof StandbyService)) ? (StandbyService) service : null;
     }
 
     @Override
     public void start(StartContext context) throws StartException {
-        super.start(context);
+        // Prepare service in warm standby before it can be elected
+        if (this.standbyService != null) {
+            this.standbyService.prepare();
+        }
+        try {
+            super.start(context);
+        } catch (StartException | RuntimeException e) {
+            if (this.standbyService != null) {
+                this.standbyService.release();
+            }
+            throw e;
+        }
         this.singleton.accept(this);
     }
 
+    @Override
+    public void stop(StopContext context) {
+        try {
+            super.stop(context);
+        } finally {
+            if (this.standbyService != null) {
+                this.standbyService.release();
+            }
+        }
+    }
+
     @Override
     public SingletonContext get() {
         return this;
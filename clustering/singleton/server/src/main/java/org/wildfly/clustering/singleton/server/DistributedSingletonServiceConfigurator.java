@@ -61,6 +61,7 @@ public class DistributedSingletonServiceConfigurator extends SimpleServiceNamePr
     private volatile SingletonElectionPolicy electionPolicy = new SimpleSingletonElectionPolicy();
     private volatile SingletonElectionListener electionListener;
     private volatile int quorum = 1;
+    private volatile boolean warmStandby = false;
 
     public DistributedSingletonServiceConfigurator(ServiceName name, DistributedSingletonServiceConfiguratorContext context) {
         super(name);
@@ -79,7 +80,7 @@ public class DistributedSingletonServiceConfigurator extends SimpleServiceNamePr
         ServiceName name = this.getServiceName().append("singleton");
         ServiceBuilder<?> builder = new AsyncServiceConfigurator(name).build(target);
         Consumer<Singleton> singleton = builder.provides(name);
-        return new DistributedSingletonServiceBuilder<>(this, new CompositeDependency(this.registry, this.dispatcherFactory).register(builder), singleton);
+        return new DistributedSingletonServiceBuilder<>(this, new CompositeDependency(this.registry, this.dispatcherFactory).register(builder), singleton, this.warmStandby);
     }
 
     @Override
@@ -100,6 +101,12 @@ public class DistributedSingletonServiceConfigurator extends SimpleServiceNamePr
         return this;
     }
 
+    @Override
+    public SingletonServiceConfigurator warmStandby(boolean enabled) {
+        this.warmStandby = enabled;
+        return this;
+    }
+
     @Override
     public Supplier<ServiceProviderRegistry<ServiceName>> getServiceProviderRegistry() {
         return this.registry;
@@ -129,13 +136,15 @@ public class DistributedSingletonServiceConfigurator extends SimpleServiceNamePr
 
         private final DistributedSingletonServiceContext context;
         private final Consumer<Singleton> singleton;
+        private final boolean warmStandby;
         private final List<Map.Entry<ServiceName[], DeferredInjector<?>>> injectors = new LinkedList<>();
         private Service service = Service.NULL;
 
-        DistributedSingletonServiceBuilder(DistributedSingletonServiceContext context, ServiceBuilder<T> builder, Consumer<Singleton> singleton) {
+        DistributedSingletonServiceBuilder(DistributedSingletonServiceContext context, ServiceBuilder<T> builder, Consumer<Singleton> singleton, boolean warmStandby) {
             super(builder);
             this.context = context;
             this.singleton = singleton;
+            this.warmStandby = warmStandby;
         }
 
         @Override
@@ -153,7 +162,7 @@ public class DistributedSingletonServiceConfigurator extends SimpleServiceNamePr
 
         @Override
         public ServiceController<T> install() {
-            return this.getDelegate().setInstance(new DistributedSingletonService(this.context, this.service, this.singleton, this.injectors)).install();
+            return this.getDelegate().setInstance(new DistributedSingletonService(this.context, this.service, this.singleton, this.injectors, this.warmStandby)).install();
         }
     }
 }
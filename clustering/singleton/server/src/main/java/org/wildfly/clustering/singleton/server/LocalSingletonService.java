@@ -34,6 +34,7 @@ import org.wildfly.clustering.group.Group;
 import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.singleton.SingletonElectionListener;
 import org.wildfly.clustering.singleton.service.SingletonService;
+import org.wildfly.clustering.singleton.service.StandbyService;
 
 /**
  * Local {@link SingletonService} implementation created using JBoss MSC 1.4.x service installation.
@@ -46,7 +47,7 @@ public class LocalSingletonService implements SingletonService {
     private final SingletonElectionListener listener;
 
     public LocalSingletonService(Service service, LocalSingletonServiceContext context) {
-        this.service = service;
+        this.service = (service instanceof StandbyService) ? new ColdStandbyService((StandbyService) service) : service;
         this.group = context.getGroup();
         this.listener = context.getElectionListener();
     }
@@ -77,6 +77,12 @@ public class LocalSingletonServiceConfigurator extends SimpleServiceNameProvider
         return this;
     }
 
+    @Override
+    public SingletonServiceConfigurator warmStandby(boolean enabled) {
+        // A local singleton starts without an election
+        return this;
+    }
+
     @Override
     public Supplier<Group> getGroup() {
         return this.group;
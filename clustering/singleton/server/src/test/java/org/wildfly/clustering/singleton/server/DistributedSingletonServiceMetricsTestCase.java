@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.group.Group;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.provider.ServiceProviderRegistration;
+import org.wildfly.clustering.provider.ServiceProviderRegistry;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.singleton.SingletonElectionPolicy;
+
+/**
+ * Unit test for the election and activation time metrics of {@link AbstractDistributedSingletonService}.
+ */
+public class DistributedSingletonServiceMetricsTestCase {
+
+    private static final long DELAY = 50;
+
+    private final DistributedSingletonServiceContext context = mock(DistributedSingletonServiceContext.class);
+    @SuppressWarnings("unchecked")
+    private final ServiceProviderRegistry<ServiceName> registry = mock(ServiceProviderRegistry.class);
+    private final CommandDispatcherFactory dispatcherFactory = mock(CommandDispatcherFactory.class);
+    @SuppressWarnings("unchecked")
+    private final CommandDispatcher<SingletonContext> dispatcher = mock(CommandDispatcher.class);
+    private final SingletonElectionPolicy electionPolicy = mock(SingletonElectionPolicy.class);
+    private final Group group = mock(Group.class);
+    private final Membership membership = mock(Membership.class);
+    private final Node localMember = mock(Node.class);
+    private final Node remoteMember = mock(Node.class);
+    private final Lifecycle lifecycle = mock(Lifecycle.class);
+
+    private AbstractDistributedSingletonService<SingletonContext> service;
+
+    @Before
+    public void init() throws StartException {
+        ServiceName name = ServiceName.JBOSS.append("singleton");
+        when(this.context.getServiceName()).thenReturn(name);
+        when(this.context.getServiceProviderRegistry()).thenReturn(() -> this.registry);
+        when(this.context.getCommandDispatcherFactory()).thenReturn(() -> this.dispatcherFactory);
+        when(this.context.getElectionPolicy()).thenReturn(this.electionPolicy);
+        when(this.context.getQuorum()).thenReturn(1);
+        when(this.registry.getGroup()).thenReturn(this.group);
+        when(this.group.getMembership()).thenReturn(this.membership);
+        when(this.group.getLocalMember()).thenReturn(this.localMember);
+        doReturn(mock(ServiceProviderRegistration.class)).when(this.registry).register(eq(name), any());
+        doReturn(this.dispatcher).when(this.dispatcherFactory).createCommandDispatcher(any(), any(), any());
+
+        this.service = new AbstractDistributedSingletonService<>(this.context, target -> this.lifecycle) {
+            @Override
+            public SingletonContext get() {
+                return this;
+            }
+        };
+        this.service.start(mock(StartContext.class));
+    }
+
+    @Test
+    public void activationTime() {
+        doAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(DELAY);
+            return null;
+        }).when(this.lifecycle).start();
+
+        assertEquals(Duration.ZERO, this.service.getActivationTime());
+
+        this.service.start();
+
+        Duration activationTime = this.service.getActivationTime();
+        assertTrue(activationTime.toString(), activationTime.toMillis() >= DELAY);
+        verify(this.lifecycle).start();
+
+        // Already the primary provider, so nothing is started
+        this.service.start();
+
+        assertEquals(activationTime, this.service.getActivationTime());
+
+        this.service.stop();
+
+        // Activation time of a subsequent election
+        doAnswer(invocation -> null).when(this.lifecycle).start();
+
+        this.service.start();
+
+        assertTrue(this.service.getActivationTime().toMillis() < activationTime.toMillis());
+    }
+
+    @Test
+    public void electionTime() throws Exception {
+        when(this.membership.getMembers()).thenReturn(Arrays.asList(this.localMember, this.remoteMember));
+        when(this.electionPolicy.elect(any())).thenReturn(this.remoteMember);
+        doReturn(Collections.emptyMap()).when(this.dispatcher).executeOnGroup(any(StopCommand.class), eq(this.remoteMember));
+        doAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(DELAY);
+            return CompletableFuture.completedFuture(null);
+        }).when(this.dispatcher).executeOnMember(any(StartCommand.class), eq(this.remoteMember));
+
+        assertEquals(Duration.ZERO, this.service.getElectionTime());
+
+        this.service.providersChanged(new HashSet<>(Arrays.asList(this.localMember, this.remoteMember)));
+
+        // Election includes the activation on the elected member
+        Duration electionTime = this.service.getElectionTime();
+        assertTrue(electionTime.toString(), electionTime.toMillis() >= DELAY);
+        // The local member was not elected, so was never activated
+        assertEquals(Duration.ZERO, this.service.getActivationTime());
+    }
+
+    @Test
+    public void electionByOtherMember() throws Exception {
+        when(this.membership.getMembers()).thenReturn(Arrays.asList(this.remoteMember, this.localMember));
+
+        this.service.providersChanged(new HashSet<>(Arrays.asList(this.localMember, this.remoteMember)));
+
+        // Elections are only performed, and thus timed, by the first candidate
+        verify(this.electionPolicy, never()).elect(any());
+        assertEquals(Duration.ZERO, this.service.getElectionTime());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.singleton.server;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.function.Consumer;
+
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.provider.ServiceProviderRegistration;
+import org.wildfly.clustering.provider.ServiceProviderRegistry;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.singleton.Singleton;
+import org.wildfly.clustering.singleton.service.StandbyService;
+
+/**
+ * Unit test for the warm standby of a {@link StandbyService} by {@link DistributedSingletonService}.
+ */
+public class DistributedSingletonServiceTestCase {
+
+    private final ServiceName name = ServiceName.JBOSS.append("singleton");
+    private final DistributedSingletonServiceContext context = mock(DistributedSingletonServiceContext.class);
+    @SuppressWarnings("unchecked")
+    private final ServiceProviderRegistry<ServiceName> registry = mock(ServiceProviderRegistry.class);
+    @SuppressWarnings("unchecked")
+    private final ServiceProviderRegistration<ServiceName> registration = mock(ServiceProviderRegistration.class);
+    private final CommandDispatcherFactory dispatcherFactory = mock(CommandDispatcherFactory.class);
+    @SuppressWarnings("unchecked")
+    private final CommandDispatcher<SingletonContext> dispatcher = mock(CommandDispatcher.class);
+    private final StartContext startContext = mock(StartContext.class);
+    private final StopContext stopContext = mock(StopContext.class);
+    private final ServiceTarget target = mock(ServiceTarget.class);
+    @SuppressWarnings("unchecked")
+    private final ServiceBuilder<Object> builder = mock(ServiceBuilder.class);
+    @SuppressWarnings("unchecked")
+    private final Consumer<Singleton> singleton = mock(Consumer.class);
+    private final StandbyService service = mock(StandbyService.class);
+
+    @Before
+    public void init() {
+        when(this.context.getServiceName()).thenReturn(this.name);
+        when(this.context.getServiceProviderRegistry()).thenReturn(() -> this.registry);
+        when(this.context.getCommandDispatcherFactory()).thenReturn(() -> this.dispatcherFactory);
+        when(this.context.getQuorum()).thenReturn(1);
+        when(this.startContext.getChildTarget()).thenReturn(this.target);
+        doReturn(this.builder).when(this.target).addService(this.name);
+        when(this.builder.setInstance(any())).thenReturn(this.builder);
+        when(this.builder.setInitialMode(any())).thenReturn(this.builder);
+        doReturn(mock(ServiceController.class)).when(this.builder).install();
+        doReturn(this.registration).when(this.registry).register(eq(this.name), any());
+        doReturn(this.dispatcher).when(this.dispatcherFactory).createCommandDispatcher(any(), any(), any());
+    }
+
+    @Test
+    public void warmStandby() throws StartException {
+        DistributedSingletonService singletonService = new DistributedSingletonService(this.context, this.service, this.singleton, Collections.emptyList(), true);
+
+        singletonService.start(this.startContext);
+
+        // Prepared ahead of any election
+        InOrder order = inOrder(this.service, this.registry);
+        order.verify(this.service).prepare();
+        order.verify(this.registry).register(this.name, singletonService);
+        // Election need only start the prepared service
+        verify(this.builder).setInstance(this.service);
+        verify(this.service, never()).start(any());
+
+        singletonService.stop(this.stopContext);
+
+        verify(this.service).release();
+    }
+
+    @Test
+    public void coldStandby() throws StartException {
+        DistributedSingletonService singletonService = new DistributedSingletonService(this.context, this.service, this.singleton, Collections.emptyList(), false);
+
+        singletonService.start(this.startContext);
+
+        verify(this.service, never()).prepare();
+
+        // Service is prepared upon election
+        ArgumentCaptor<Service> captor = ArgumentCaptor.forClass(Service.class);
+        verify(this.builder).setInstance(captor.capture());
+        Service primaryService = captor.getValue();
+        assertTrue(primaryService instanceof ColdStandbyService);
+
+        primaryService.start(this.startContext);
+
+        InOrder order = inOrder(this.service);
+        order.verify(this.service).prepare();
+        order.verify(this.service).start(this.startContext);
+
+        primaryService.stop(this.stopContext);
+
+        order.verify(this.service).stop(this.stopContext);
+        order.verify(this.service).release();
+
+        singletonService.stop(this.stopContext);
+
+        verify(this.service).release();
+    }
+
+    @Test
+    public void prepareFailed() throws StartException {
+        StartException exception = new StartException();
+        doThrow(exception).when(this.service).prepare();
+
+        DistributedSingletonService singletonService = new DistributedSingletonService(this.context, this.service, this.singleton, Collections.emptyList(), true);
+
+        try {
+            singletonService.start(this.startContext);
+            fail("Start should have failed");
+        } catch (StartException e) {
+            assertSame(exception, e);
+        }
+
+        // A member that failed to prepare must not become a candidate
+        verify(this.registry, never()).register(any(), any());
+        verify(this.singleton, never()).accept(any());
+    }
+
+    @Test
+    public void plainService() throws StartException {
+        Service service = mock(Service.class);
+        DistributedSingletonService singletonService = new DistributedSingletonService(this.context, service, this.singleton, Collections.emptyList(), true);
+
+        singletonService.start(this.startContext);
+
+        // Warm standby is inconsequential to a service that cannot be prepared
+        verify(this.builder).setInstance(service);
+
+        singletonService.stop(this.stopContext);
+    }
+}
@@ -34,22 +34,31 @@ public final class DeploymentTransformer implements org.jboss.as.server.deployme
 
     private static final Logger logger = Logger.getLogger(DeploymentTransformer.class.getPackage().getName());
 
+    private final TransformedContentCache cache = TransformedContentCache.create();
+
     public InputStream transform(InputStream in, String name) throws IOException {
         final boolean verbose = logger.isTraceEnabled();
         if (isEnabled()) {
-            // first parameter represents external configs directory - null indicates use provided transformation defaults
-            // The name captures the type of file.
-            return JakartaTransformer.transform(null, in, name, verbose, new JakartaTransformer.LogHandler() {
-                @Override
-                public void print(String format, Object... args) {
-                    logger.tracef(format, args);
-                }
-            });
+            if (cache != null) {
+                return cache.transform(in, name, content -> transform(content, name, verbose));
+            }
+            return transform(in, name, verbose);
         }
         logger.tracef("Skipping processing of %s", name);
         return in;
     }
 
+    private static InputStream transform(InputStream in, String name, boolean verbose) throws IOException {
+        // first parameter represents external configs directory - null indicates use provided transformation defaults
+        // The name captures the type of file.
+        return JakartaTransformer.transform(null, in, name, verbose, new JakartaTransformer.LogHandler() {
+            @Override
+            public void print(String format, Object... args) {
+                logger.tracef(format, args);
+            }
+        });
+    }
+
     public void transform(Path src, Path target) throws IOException {
         // no-op initially
         /*
@@ -0,0 +1,229 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.wildfly.ee8to9.transformer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+import org.wildfly.galleon.plugin.transformer.JakartaTransformer;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A cache of transformed deployment content, stored in the server data directory, so that unchanged deployments are
+ * not transformed again on each deployment and server restart.
+ * <p>
+ * Entries are keyed by a digest of the content to transform, its name, which determines how it is transformed, and the
+ * transformer version, so that a transformer upgrade invalidates all entries. Entries are evicted, least recently used
+ * first, once the cache exceeds its maximum size.
+ */
+final class TransformedContentCache {
+
+    private static final Logger logger = Logger.getLogger(TransformedContentCache.class.getPackage().getName());
+
+    static final String ENABLED_PROPERTY = "org.wildfly.ee8to9.transformer.cache";
+    static final String MAX_SIZE_PROPERTY = "org.wildfly.ee8to9.transformer.cache.max-size";
+
+    private static final String SERVER_DATA_DIR = "jboss.server.data.dir";
+    private static final long DEFAULT_MAX_SIZE = 1024L * 1024L * 1024L;
+    private static final String ENTRY_SUFFIX = ".transformed";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Path directory;
+    private final long maxSize;
+    private final String transformerVersion;
+
+    TransformedContentCache(Path directory, long maxSize, String transformerVersion) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.transformerVersion = transformerVersion;
+    }
+
+    /**
+     * Creates the cache, if enabled by the {@code org.wildfly.ee8to9.transformer.cache} system property, and running in a
+     * process with a server data directory.
+     *
+     * @return the cache, or {@code null} if it is disabled
+     */
+    static TransformedContentCache create() {
+        if (!Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"))) {
+            return null;
+        }
+        final String dataDir = WildFlySecurityManager.getPropertyPrivileged(SERVER_DATA_DIR, null);
+        if (dataDir == null) {
+            return null;
+        }
+        final long maxSize = Long.parseLong(WildFlySecurityManager.getPropertyPrivileged(MAX_SIZE_PROPERTY, Long.toString(DEFAULT_MAX_SIZE)));
+        return new TransformedContentCache(Paths.get(dataDir, "ee8to9-transformer-cache"), maxSize, getTransformerVersion());
+    }
+
+    /**
+     * Returns the transformed content, from the cache if the same content was transformed before, or else transformed by
+     * the specified transformation and then cached.
+     *
+     * @param in the content to transform, which is closed
+     * @param name the content name
+     * @param transformation the transformation
+     * @return the transformed content
+     * @throws IOException if the content could not be read, transformed or cached
+     */
+    InputStream transform(InputStream in, String name, Transformation transformation) throws IOException {
+        Files.createDirectories(directory);
+        // the content needs to be read to compute its key, so it is staged, and transformed from there on a cache miss
+        final Path input = Files.createTempFile(directory, "input", TEMP_SUFFIX);
+        try {
+            final MessageDigest digest = createDigest();
+            digest.update(transformerVersion.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(name).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            try (InputStream source = in; OutputStream out = new DigestOutputStream(Files.newOutputStream(input), digest)) {
+                copy(source, out);
+            }
+            final Path entry = directory.resolve(toHex(digest.digest()) + ENTRY_SUFFIX);
+            if (Files.isRegularFile(entry)) {
+                try {
+                    // the modification time tracks the last use, for eviction
+                    Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+                    final InputStream cached = Files.newInputStream(entry);
+                    logger.debugf("Using cached transformation %s of %s", entry.getFileName(), name);
+                    return cached;
+                } catch (IOException e) {
+                    // evicted concurrently, transform again
+                    logger.tracef(e, "Failed to open cached transformation %s", entry);
+                }
+            }
+            final Path output = Files.createTempFile(directory, "output", TEMP_SUFFIX);
+            try {
+                try (InputStream source = transformation.transform(Files.newInputStream(input)); OutputStream out = Files.newOutputStream(output)) {
+                    copy(source, out);
+                }
+                Files.move(output, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(output);
+            }
+            logger.debugf("Cached transformation %s of %s", entry.getFileName(), name);
+            final InputStream result = Files.newInputStream(entry);
+            evict(entry);
+            return result;
+        } finally {
+            Files.deleteIfExists(input);
+        }
+    }
+
+    /**
+     * Evicts the least recently used entries, until the size of the cache is within its maximum size.
+     *
+     * @param retained an entry which is retained, even if the cache is still too large without it
+     */
+    private synchronized void evict(Path retained) {
+        final List<Path> entries = new ArrayList<>();
+        long size = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + ENTRY_SUFFIX)) {
+            for (Path entry : stream) {
+                entries.add(entry);
+                size += Files.size(entry);
+            }
+            if (size <= maxSize) {
+                return;
+            }
+            final Map<Path, FileTime> times = new HashMap<>();
+            for (Path entry : entries) {
+                times.put(entry, Files.getLastModifiedTime(entry));
+            }
+            entries.sort(Comparator.comparing(times::get));
+            for (Path entry : entries) {
+                if (size <= maxSize) {
+                    break;
+                }
+                if (entry.equals(retained)) {
+                    continue;
+                }
+                final long entrySize = Files.size(entry);
+                if (Files.deleteIfExists(entry)) {
+                    logger.debugf("Evicted cached transformation %s", entry.getFileName());
+                }
+                size -= entrySize;
+            }
+        } catch (IOException e) {
+            // entries may be removed concurrently, or still be open, eviction is retried on the next miss
+            logger.debugf(e, "Failed to evict cached transformations from %s", directory);
+        }
+    }
+
+    private static String getTransformerVersion() {
+        final String version = JakartaTransformer.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        // the location includes the artifact version
+        final URL location = JakartaTransformer.class.getResource(JakartaTransformer.class.getSimpleName() + ".class");
+        return String.valueOf(location);
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return builder.toString();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A transformation of content.
+     */
+    @FunctionalInterface
+    interface Transformation {
+        InputStream transform(InputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.ee8to9.transformer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TransformedContentCache}.
+ */
+public class TransformedContentCacheTestCase {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicInteger transformations = new AtomicInteger();
+    private final TransformedContentCache.Transformation transformation = in -> {
+        this.transformations.incrementAndGet();
+        // upper cases the content
+        return new ByteArrayInputStream(new String(read(in), StandardCharsets.UTF_8).toUpperCase().getBytes(StandardCharsets.UTF_8));
+    };
+
+    private Path directory;
+
+    @Before
+    public void init() {
+        this.directory = this.folder.getRoot().toPath().resolve("cache");
+    }
+
+    @Test
+    public void hit() throws IOException {
+        TransformedContentCache cache = new TransformedContentCache(this.directory, 1024, "1.0");
+
+        assertArrayEquals(bytes("CONTENT"), transform(cache, "content", "a.war"));
+        assertEquals(1, this.transformations.get());
+
+        assertArrayEquals(bytes("CONTENT"), transform(cache, "content", "a.war"));
+        assertEquals(1, this.transformations.get());
+        assertEquals(1, countEntries());
+    }
+
+    @Test
+    public void miss() throws IOException {
+        TransformedContentCache cache = new TransformedContentCache(this.directory, 1024, "1.0");
+
+        assertArrayEquals(bytes("CONTENT"), transform(cache, "content", "a.war"));
+        // different content
+        assertArrayEquals(bytes("OTHER"), transform(cache, "other", "a.war"));
+        // different name
+        assertArrayEquals(bytes("CONTENT"), transform(cache, "content", "b.war"));
+        assertEquals(3, this.transformations.get());
+
+        // different transformer version
+        TransformedContentCache upgraded = new TransformedContentCache(this.directory, 1024, "2.0");
+        assertArrayEquals(bytes("CONTENT"), transform(upgraded, "content", "a.war"));
+        assertEquals(4, this.transformations.get());
+        assertEquals(4, countEntries());
+    }
+
+    @Test
+    public void eviction() throws IOException {
+        // only fits a single entry
+        TransformedContentCache cache = new TransformedContentCache(this.directory, 10, "1.0");
+
+        assertArrayEquals(bytes("CONTENT"), transform(cache, "content", "a.war"));
+        assertArrayEquals(bytes("OTHER"), transform(cache, "other", "a.war"));
+        assertEquals(2, this.transformations.get());
+        assertEquals(1, countEntries());
+
+        // the most recent entry is retained
+        assertArrayEquals(bytes("OTHER"), transform(cache, "other", "a.war"));
+        assertEquals(2, this.transformations.get());
+
+        // the evicted entry is transformed again
+        assertArrayEquals(bytes("CONTENT"), transform(cache, "content", "a.war"));
+        assertEquals(3, this.transformations.get());
+        assertEquals(1, countEntries());
+    }
+
+    private byte[] transform(TransformedContentCache cache, String content, String name) throws IOException {
+        try (InputStream in = cache.transform(new ByteArrayInputStream(bytes(content)), name, this.transformation)) {
+            return read(in);
+        }
+    }
+
+    private int countEntries() throws IOException {
+        int count = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+            for (Path ignored : stream) {
+                count += 1;
+            }
+        }
+        return count;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[256];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -111,20 +111,26 @@ public class BasicComponent implements Component {
     public void waitForComponentStart() {
         if (!gate) {
             EeLogger.ROOT_LOGGER.tracef("Waiting for component %s (%s)", componentName, componentClass);
-            // Block until successful start
-            synchronized (this) {
-                if (stopping.get()) {
-                    throw EeLogger.ROOT_LOGGER.componentIsStopped();
-                }
-                while (!gate) {
-                    // TODO: check for failure condition
-                    try {
-                        wait();
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw EeLogger.ROOT_LOGGER.componentNotAvailable();
+            // let another component start while this thread waits, if it runs a bounded component start
+            final ComponentStartLimiter limiter = ComponentStartLimiter.beginWait();
+            try {
+                // Block until successful start
+                synchronized (this) {
+                    if (stopping.get()) {
+                        throw EeLogger.ROOT_LOGGER.componentIsStopped();
+                    }
+                    while (!gate) {
+                        // TODO: check for failure condition
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw EeLogger.ROOT_LOGGER.componentNotAvailable();
+                        }
                     }
                 }
+            } finally {
+                ComponentStartLimiter.endWait(limiter);
             }
             EeLogger.ROOT_LOGGER.tracef("Finished waiting for component %s (%s)", componentName, componentClass);
         }
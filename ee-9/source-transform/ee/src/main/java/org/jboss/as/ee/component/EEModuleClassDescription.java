@@ -47,7 +47,7 @@ public final class EEModuleClassDescription {
     private boolean invalid;
     private StringBuilder invalidMessageBuilder;
     private final Map<Class<? extends Annotation>, ClassAnnotationInformation<?,?>> annotationInformation = Collections.synchronizedMap(new HashMap<Class<? extends Annotation>, ClassAnnotationInformation<?, ?>>());
-    private InterceptorClassDescription interceptorClassDescription = InterceptorClassDescription.EMPTY_INSTANCE;
+    private volatile InterceptorClassDescription interceptorClassDescription = InterceptorClassDescription.EMPTY_INSTANCE;
 
     private final List<BindingConfiguration> bindingConfigurations = new ArrayList<BindingConfiguration>();
     private final Map<InjectionTarget, ResourceInjectionConfiguration> injectionConfigurations = new HashMap<InjectionTarget, ResourceInjectionConfiguration>();
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.as.ee.component.interceptors.InterceptorClassDescription;
@@ -46,7 +47,8 @@ public final class EEModuleDescription implements ResourceInjectionTarget {
     private volatile String distinctName = "";
     private final Map<String, ComponentDescription> componentsByName = new HashMap<String, ComponentDescription>();
     private final Map<String, List<ComponentDescription>> componentsByClassName = new HashMap<String, List<ComponentDescription>>();
-    private final Map<String, EEModuleClassDescription> classDescriptions = new HashMap<String, EEModuleClassDescription>();
+    // read by other sub deployments, through EEApplicationClasses, while this one is being processed
+    private final Map<String, EEModuleClassDescription> classDescriptions = new ConcurrentHashMap<String, EEModuleClassDescription>();
     private final Map<String, InterceptorClassDescription> interceptorClassOverrides = new HashMap<String, InterceptorClassDescription>();
 
     /**
@@ -115,11 +117,7 @@ public final class EEModuleDescription implements ResourceInjectionTarget {
         if (className == null) {
             throw EeLogger.ROOT_LOGGER.nullVar("className", "module", moduleName);
         }
-        EEModuleClassDescription ret = classDescriptions.get(className);
-        if (ret == null) {
-            classDescriptions.put(className, ret = new EEModuleClassDescription(className));
-        }
-        return ret;
+        return classDescriptions.computeIfAbsent(className, EEModuleClassDescription::new);
     }
 
     /**
@@ -129,7 +127,7 @@ public final class EEModuleDescription implements ResourceInjectionTarget {
      * @return The description, or null if not found
      */
     EEModuleClassDescription getClassDescription(final String className) {
-        return classDescriptions.get(className);
+        return className == null ? null : classDescriptions.get(className);
     }
 
     /**
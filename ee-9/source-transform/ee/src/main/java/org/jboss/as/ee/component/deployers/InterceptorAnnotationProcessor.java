@@ -43,6 +43,7 @@ import org.jboss.as.ee.metadata.MetadataCompleteMarker;
 import org.jboss.as.ee.metadata.MethodAnnotationAggregator;
 import org.jboss.as.ee.metadata.RuntimeAnnotationInformation;
 import org.jboss.as.ee.utils.ClassLoadingUtils;
+import org.jboss.as.ee.utils.ParallelProcessingUtils;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
@@ -73,9 +74,11 @@ public class InterceptorAnnotationProcessor implements DeploymentUnitProcessor {
             return;
         }
 
-        for (final ComponentDescription description : componentConfigurations) {
+        // each component only updates its own description, so components are processed concurrently
+        ParallelProcessingUtils.process(deploymentUnit, getClass().getSimpleName(), new ArrayList<>(componentConfigurations), description -> {
             processComponentConfig(applicationClasses, deploymentReflectionIndex, description, deploymentUnit);
-        }
+            return null;
+        });
     }
 
     private void processComponentConfig(final EEApplicationClasses applicationClasses, final DeploymentReflectionIndex deploymentReflectionIndex, final ComponentDescription description, DeploymentUnit deploymentUnit) {
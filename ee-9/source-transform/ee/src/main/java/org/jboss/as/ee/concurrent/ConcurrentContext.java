@@ -50,6 +50,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Thread.currentThread;
 
@@ -100,6 +101,11 @@ public class ConcurrentContext {
     private final Map<String, ContextHandleFactory> factoryMap = new HashMap<>();
     private List<ContextHandleFactory> factoryOrderedList;
 
+    /**
+     * the handles saved by the context invariant factories, per context service using this context
+     */
+    private final Map<ContextService, InvariantHandles> invariantHandles = new ConcurrentHashMap<>();
+
     private volatile ServiceName serviceName;
 
     /**
@@ -130,6 +136,7 @@ public class ConcurrentContext {
         sortedSet.addAll(factoryMap.values());
         // TODO *FOLLOW UP* now that we have factories coming from deployments, rework the ordering approach to no use treeset, which does not supports factories with same priority (the order param)
         factoryOrderedList = new ArrayList<>(sortedSet);
+        invariantHandles.clear();
     }
 
     /**
@@ -140,34 +147,102 @@ public class ConcurrentContext {
      */
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
         final ContextServiceTypesConfiguration contextServiceTypesConfiguration = ((ContextServiceImpl)contextService).getContextServiceTypesConfiguration();
-        final List<SetupContextHandle> handles = new ArrayList<>(factoryOrderedList.size());
-        for (ContextHandleFactory factory : factoryOrderedList) {
-            // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
-            if (factory instanceof EE10ContextHandleFactory) {
-                final EE10ContextHandleFactory ee10ContextHandleFactory = (EE10ContextHandleFactory) factory;
-                final String contextType = ee10ContextHandleFactory.getContextType();
-                final SetupContextHandle setupContextHandle;
-                if (contextServiceTypesConfiguration.isCleared(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.clearedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.propagatedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.unchangedContext(contextService, contextObjectProperties);
-                } else {
-                    setupContextHandle = null;
-                }
+        if (contextObjectProperties != null && !contextObjectProperties.isEmpty()) {
+            // the handles saved with context object properties are specific to the caller, and never shared
+            final List<ContextHandleFactory> factories = factoryOrderedList;
+            final List<SetupContextHandle> handles = new ArrayList<>(factories.size());
+            for (ContextHandleFactory factory : factories) {
+                final SetupContextHandle setupContextHandle = saveContext(factory, contextService, contextServiceTypesConfiguration, contextObjectProperties);
                 if (setupContextHandle != null) {
                     handles.add(setupContextHandle);
                 }
-            } else {
-                if (contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION)) {
-                    handles.add(factory.saveContext(contextService, contextObjectProperties));
+            }
+            return new ChainedSetupContextHandle(this, handles);
+        }
+        InvariantHandles invariantHandles = this.invariantHandles.get(contextService);
+        if (invariantHandles == null) {
+            synchronized (this) {
+                invariantHandles = this.invariantHandles.get(contextService);
+                if (invariantHandles == null) {
+                    // the handles of context invariant factories are saved once per context service, and then shared by all tasks
+                    invariantHandles = new InvariantHandles(factoryOrderedList, contextService, contextServiceTypesConfiguration, contextObjectProperties);
+                    this.invariantHandles.put(contextService, invariantHandles);
                 }
             }
         }
+        if (invariantHandles.sharedSetupContextHandle != null) {
+            return invariantHandles.sharedSetupContextHandle;
+        }
+        final List<SetupContextHandle> handles = new ArrayList<>(invariantHandles.factories.size());
+        for (int i = 0; i < invariantHandles.handles.length; i++) {
+            final SetupContextHandle setupContextHandle = invariantHandles.invariant[i] ? invariantHandles.handles[i] : saveContext(invariantHandles.factories.get(i), contextService, contextServiceTypesConfiguration, contextObjectProperties);
+            if (setupContextHandle != null) {
+                handles.add(setupContextHandle);
+            }
+        }
         return new ChainedSetupContextHandle(this, handles);
     }
 
+    private static SetupContextHandle saveContext(ContextHandleFactory factory, ContextService contextService, ContextServiceTypesConfiguration contextServiceTypesConfiguration, Map<String, String> contextObjectProperties) {
+        // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
+        if (factory instanceof EE10ContextHandleFactory) {
+            final EE10ContextHandleFactory ee10ContextHandleFactory = (EE10ContextHandleFactory) factory;
+            final String contextType = ee10ContextHandleFactory.getContextType();
+            if (contextServiceTypesConfiguration.isCleared(contextType)) {
+                return ee10ContextHandleFactory.clearedContext(contextService, contextObjectProperties);
+            } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
+                return ee10ContextHandleFactory.propagatedContext(contextService, contextObjectProperties);
+            } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
+                return ee10ContextHandleFactory.unchangedContext(contextService, contextObjectProperties);
+            } else {
+                return null;
+            }
+        } else {
+            if (contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION)) {
+                return factory.saveContext(contextService, contextObjectProperties);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The handles saved by the context invariant factories, for a specific context service.
+     */
+    private class InvariantHandles {
+
+        private final List<ContextHandleFactory> factories;
+        private final boolean[] invariant;
+        private final SetupContextHandle[] handles;
+        private final ChainedSetupContextHandle sharedSetupContextHandle;
+
+        private InvariantHandles(List<ContextHandleFactory> factories, ContextService contextService, ContextServiceTypesConfiguration contextServiceTypesConfiguration, Map<String, String> contextObjectProperties) {
+            this.factories = factories;
+            this.invariant = new boolean[factories.size()];
+            this.handles = new SetupContextHandle[factories.size()];
+            boolean allInvariant = true;
+            for (int i = 0; i < handles.length; i++) {
+                final ContextHandleFactory factory = factories.get(i);
+                if (factory.isContextInvariant()) {
+                    invariant[i] = true;
+                    handles[i] = saveContext(factory, contextService, contextServiceTypesConfiguration, contextObjectProperties);
+                } else {
+                    allInvariant = false;
+                }
+            }
+            if (allInvariant) {
+                final List<SetupContextHandle> sharedHandles = new ArrayList<>(handles.length);
+                for (SetupContextHandle handle : handles) {
+                    if (handle != null) {
+                        sharedHandles.add(handle);
+                    }
+                }
+                this.sharedSetupContextHandle = new ChainedSetupContextHandle(ConcurrentContext.this, sharedHandles);
+            } else {
+                this.sharedSetupContextHandle = null;
+            }
+        }
+    }
+
     /**
      * A setup context handle that is a chain of other setup context handles
      */
@@ -18,9 +18,11 @@
 package org.jboss.as.ee.concurrent;
 
 import org.glassfish.enterprise.concurrent.AbstractManagedThread;
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
 import org.jboss.as.ee.logging.EeLogger;
 
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * A managed executor with support for hung threads.
@@ -58,6 +60,18 @@ public interface ManagedExecutorWithHungThreads {
                 }
             }
         }
+        for (ManagedFutureTask task : getHungVirtualThreadTasks()) {
+            final String taskIdentityName = task.getTaskIdentityName();
+            try {
+                if (task.cancel(true)) {
+                    EeLogger.ROOT_LOGGER.hungTaskCancelled(executorName, taskIdentityName);
+                } else {
+                    EeLogger.ROOT_LOGGER.hungTaskNotCancelled(executorName, taskIdentityName);
+                }
+            } catch (Throwable throwable) {
+                EeLogger.ROOT_LOGGER.huntTaskTerminationFailure(throwable, executorName, taskIdentityName);
+            }
+        }
     }
 
     /**
@@ -65,4 +79,12 @@ public interface ManagedExecutorWithHungThreads {
      * @return the executor's hung threads
      */
     Collection<AbstractManagedThread> getHungThreads();
+
+    /**
+     *
+     * @return the executor's hung tasks running in virtual threads, which are not included in {@link #getHungThreads()}
+     */
+    default Collection<ManagedFutureTask> getHungVirtualThreadTasks() {
+        return Collections.emptyList();
+    }
 }
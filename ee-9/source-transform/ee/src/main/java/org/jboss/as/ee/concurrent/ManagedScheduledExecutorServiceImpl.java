@@ -50,7 +50,9 @@ public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterpris
     public ManagedScheduledExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy);
         this.controlPoint = controlPoint;
-        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        final ManagedExecutorRuntimeStatsImpl runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        managedThreadFactory.setExecutorRuntimeStats(runtimeStats);
+        this.runtimeStats = runtimeStats;
     }
 
     @Override
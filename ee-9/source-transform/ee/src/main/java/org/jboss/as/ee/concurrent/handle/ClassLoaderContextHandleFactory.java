@@ -66,6 +66,11 @@ public class ClassLoaderContextHandleFactory implements EE10ContextHandleFactory
         return NAME;
     }
 
+    @Override
+    public boolean isContextInvariant() {
+        return true;
+    }
+
     @Override
     public int getChainPriority() {
         return 100;
@@ -54,6 +54,14 @@ public interface ContextHandleFactory {
      */
     String getName();
 
+    /**
+     * Indicates whether the handles saved by this factory depend only on the factory's own state and the context service, and not on the invoking thread. The handle saved by such a factory may be shared by all the tasks of its concurrent context which are contextualized by the same context service without context object properties. Its setup must not keep per task state, since the handle may be set up by several threads at once, or nested on the same thread.
+     * @return
+     */
+    default boolean isContextInvariant() {
+        return false;
+    }
+
     /**
      * Writes the handle to the specified output stream.
      * @param contextHandle
@@ -72,6 +72,11 @@ public class NamingContextHandleFactory implements EE10ContextHandleFactory {
         return NAME;
     }
 
+    @Override
+    public boolean isContextInvariant() {
+        return true;
+    }
+
     @Override
     public int getChainPriority() {
         return 200;
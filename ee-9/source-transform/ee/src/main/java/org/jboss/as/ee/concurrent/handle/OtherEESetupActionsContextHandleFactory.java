@@ -71,6 +71,11 @@ public class OtherEESetupActionsContextHandleFactory implements EE10ContextHandl
         return NAME;
     }
 
+    @Override
+    public boolean isContextInvariant() {
+        return true;
+    }
+
     @Override
     public int getChainPriority() {
         return 400;
@@ -57,7 +57,7 @@ public class ManagedThreadFactoryDefinitionInjectionSource extends ResourceDefin
             // install the resource service
             final ServiceName resourceServiceName = ManagedThreadFactoryResourceDefinition.CAPABILITY.getCapabilityServiceName(resourceName);
             final ServiceBuilder resourceServiceBuilder = phaseContext.getServiceTarget().addService(resourceServiceName);
-            final ManagedThreadFactoryService resourceService = new ManagedThreadFactoryService(resourceName, resourceJndiName, priority);
+            final ManagedThreadFactoryService resourceService = new ManagedThreadFactoryService(resourceName, resourceJndiName, priority, false);
             resourceServiceBuilder.setInstance(resourceService);
             final String contextServiceRef = this.contextServiceRef == null || this.contextServiceRef.isEmpty() ? EEConcurrentDefaultBindingProcessor.COMP_DEFAULT_CONTEXT_SERVICE_JNDI_NAME : this.contextServiceRef;
             final ContextNames.BindInfo contextServiceBindInfo = ContextNames.bindInfoForEnvEntry(context.getApplicationName(), context.getModuleName(), context.getComponentName(), !context.isCompUsesModule(), contextServiceRef);
@@ -0,0 +1,277 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.structure;
+
+import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jboss.as.server.ServerEnvironment;
+import org.jboss.as.server.deployment.AttachmentKey;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.vfs.VirtualFile;
+import org.jboss.vfs.VisitorAttributes;
+import org.jboss.vfs.util.SuffixMatchFilter;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A cache of the annotation indexes of resource roots, persisted in the server data directory so that it survives
+ * redeployments and server restarts.
+ * <p>
+ * The cache is opt-in, enabled by the {@code jboss.ee.annotation-index-cache} system property. Cached indexes are keyed
+ * by a digest of the paths and contents of the classes a resource root would have indexed, so any change to the
+ * classes of a resource root results in a cache miss, and its index being computed again. Entries are evicted, least
+ * recently used first, once the cache exceeds its maximum size, set by the
+ * {@code jboss.ee.annotation-index-cache.max-size} system property, in bytes.
+ */
+final class AnnotationIndexCache {
+
+    static final String ENABLED_PROPERTY = "jboss.ee.annotation-index-cache";
+
+    static final boolean ENABLED = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"));
+
+    static final String MAX_SIZE_PROPERTY = "jboss.ee.annotation-index-cache.max-size";
+
+    private static final long DEFAULT_MAX_SIZE = 256L * 1024L * 1024L;
+
+    private static final long MAX_SIZE = maxSize();
+
+    /**
+     * The key of the cache entry a resource root's index should be stored in, attached on a cache miss.
+     */
+    static final AttachmentKey<String> CACHE_KEY = AttachmentKey.create(String.class);
+
+    // increment whenever the key computation or the entry format changes
+    private static final String VERSION = "1";
+    private static final String ENTRY_SUFFIX = ".idx";
+    private static final String INDEX_FILE = "META-INF/jandex.idx";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private AnnotationIndexCache() {
+    }
+
+    /**
+     * Whether the specified resource root's index may be cached, i.e. it is going to be computed by scanning its classes.
+     *
+     * @param resourceRoot the resource root
+     * @return {@code true} if the index may be cached
+     */
+    static boolean isCacheable(final ResourceRoot resourceRoot) {
+        if (resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX) != null) {
+            return false;
+        }
+        if (Boolean.FALSE.equals(resourceRoot.getAttachment(Attachments.INDEX_RESOURCE_ROOT))) {
+            return false;
+        }
+        // a prebuilt index is read as is, no need to cache it
+        return !resourceRoot.getRoot().getChild(INDEX_FILE).exists();
+    }
+
+    /**
+     * Computes the cache key of a resource root, from the relative paths and the contents of the classes which would be
+     * indexed, and the paths excluded from indexing.
+     *
+     * @param resourceRoot the resource root
+     * @return the cache key
+     * @throws IOException if a class could not be read
+     */
+    static String computeKey(final ResourceRoot resourceRoot) throws IOException {
+        final VirtualFile root = resourceRoot.getRoot();
+        final List<String> ignorePaths = resourceRoot.getAttachmentList(Attachments.INDEX_IGNORE_PATHS);
+        final Set<String> ignored = ignorePaths.isEmpty() ? Collections.emptySet() : new HashSet<>(ignorePaths);
+        // same selection of classes as the deployment scanner
+        final VisitorAttributes visitor = new VisitorAttributes();
+        visitor.setLeavesOnly(true);
+        visitor.setRecurseFilter(file -> !ignored.contains(file.getPathNameRelativeTo(root)));
+        final TreeMap<String, VirtualFile> classes = new TreeMap<>();
+        for (VirtualFile file : root.getChildren(new SuffixMatchFilter(".class", visitor))) {
+            classes.put(file.getPathNameRelativeTo(root), file);
+        }
+        final MessageDigest digest = createDigest();
+        digest.update(VERSION.getBytes(StandardCharsets.UTF_8));
+        final List<String> sortedIgnored = new ArrayList<>(ignored);
+        Collections.sort(sortedIgnored);
+        for (String path : sortedIgnored) {
+            digest.update((byte) 1);
+            digest.update(path.getBytes(StandardCharsets.UTF_8));
+        }
+        final byte[] buffer = new byte[8192];
+        for (Map.Entry<String, VirtualFile> entry : classes.entrySet()) {
+            digest.update((byte) 2);
+            digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            try (InputStream in = entry.getValue().openStream()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        final StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Reads a cached index.
+     *
+     * @param key the cache key
+     * @return the cached index, or {@code null} if there is no such entry, or it could not be read
+     */
+    static Index read(final String key) {
+        final Path entry = getDirectory().resolve(key + ENTRY_SUFFIX);
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        final Index index;
+        try (InputStream in = Files.newInputStream(entry)) {
+            index = new IndexReader(in).read();
+        } catch (IOException | RuntimeException e) {
+            // a corrupted or outdated entry is recomputed and overwritten
+            ROOT_LOGGER.debugf(e, "Failed to read cached annotation index %s", entry);
+            return null;
+        }
+        try {
+            // the modification time tracks the last use, for eviction
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            ROOT_LOGGER.debugf(e, "Failed to update the last use of cached annotation index %s", entry);
+        }
+        return index;
+    }
+
+    /**
+     * Stores an index in the cache. The entry is written to a temporary file first, and then moved, so that concurrent
+     * readers never see a partially written entry.
+     *
+     * @param key the cache key
+     * @param index the index to store
+     * @throws IOException if the entry could not be written
+     */
+    static void write(final String key, final Index index) throws IOException {
+        final Path directory = getDirectory();
+        Files.createDirectories(directory);
+        final Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                new IndexWriter(out).write(index);
+            }
+            Files.move(temp, directory.resolve(key + ENTRY_SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        evict(directory, directory.resolve(key + ENTRY_SUFFIX), MAX_SIZE);
+    }
+
+    /**
+     * Evicts the least recently used entries, until the size of the cache is within its maximum size.
+     *
+     * @param directory the cache directory
+     * @param retained an entry which is retained, even if the cache is still too large without it
+     * @param maxSize the maximum size of the cache, in bytes
+     */
+    static synchronized void evict(final Path directory, final Path retained, final long maxSize) {
+        final List<Path> entries = new ArrayList<>();
+        long size = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + ENTRY_SUFFIX)) {
+            for (Path entry : stream) {
+                entries.add(entry);
+                size += Files.size(entry);
+            }
+            if (size <= maxSize) {
+                return;
+            }
+            final Map<Path, FileTime> times = new HashMap<>();
+            for (Path entry : entries) {
+                times.put(entry, Files.getLastModifiedTime(entry));
+            }
+            entries.sort(Comparator.comparing(times::get));
+            for (Path entry : entries) {
+                if (size <= maxSize) {
+                    break;
+                }
+                if (entry.equals(retained)) {
+                    continue;
+                }
+                final long entrySize = Files.size(entry);
+                if (Files.deleteIfExists(entry)) {
+                    ROOT_LOGGER.debugf("Evicted cached annotation index %s", entry.getFileName());
+                }
+                size -= entrySize;
+            }
+        } catch (IOException e) {
+            // entries may be removed concurrently, eviction is retried on the next store
+            ROOT_LOGGER.debugf(e, "Failed to evict cached annotation indexes from %s", directory);
+        }
+    }
+
+    static Path getDirectory() {
+        return Paths.get(WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.SERVER_DATA_DIR, "."), "ee", "annotation-index");
+    }
+
+    private static long maxSize() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(MAX_SIZE_PROPERTY, null);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                ROOT_LOGGER.invalidAnnotationIndexCacheMaxSize(value, MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+            }
+        }
+        return DEFAULT_MAX_SIZE;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.Phase;
+
+/**
+ * The JFR event emitted for each timed execution of a deployment unit processor.
+ */
+@Name("org.jboss.as.ee.DeploymentProcessor")
+@Label("Deployment Processor")
+@Category({"WildFly", "Deployment"})
+@Description("The execution of a deployment unit processor on a deployment unit")
+@StackTrace(false)
+final class DeploymentProcessorEvent extends Event {
+
+    @Label("Deployment")
+    String deployment;
+
+    @Label("Subsystem")
+    String subsystem;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Priority")
+    int priority;
+
+    @Label("Processor")
+    String processor;
+
+    @Label("Wall Time")
+    @Timespan
+    long wallTime;
+
+    @Label("CPU Time")
+    @Timespan
+    long cpuTime;
+
+    static void commit(final DeploymentUnit deploymentUnit, final String subsystemName, final Phase phase, final int priority, final String processorName, final long wallTime, final long cpuTime) {
+        final DeploymentProcessorEvent event = new DeploymentProcessorEvent();
+        if (event.shouldCommit()) {
+            final DeploymentUnit parent = deploymentUnit.getParent();
+            event.deployment = parent == null ? deploymentUnit.getName() : parent.getName() + '/' + deploymentUnit.getName();
+            event.subsystem = subsystemName;
+            event.phase = phase.name();
+            event.priority = priority;
+            event.processor = processorName;
+            event.wallTime = wallTime;
+            event.cpuTime = cpuTime;
+            event.commit();
+        }
+    }
+}
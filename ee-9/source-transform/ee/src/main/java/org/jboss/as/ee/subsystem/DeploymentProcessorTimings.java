@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.ee.logging.EeLogger;
+import org.jboss.as.server.DeploymentProcessorTarget;
+import org.jboss.as.server.deployment.AttachmentKey;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentPhaseContext;
+import org.jboss.as.server.deployment.DeploymentResourceSupport;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.server.deployment.Phase;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * The wall and CPU time spent by each deployment unit processor on a deployment unit.
+ * <p>
+ * Timing is opt-in, enabled by the {@code jboss.ee.deployment-processor-timing} system property. When enabled, the
+ * processors registered through a {@link #wrap(DeploymentProcessorTarget) wrapped} deployment processor target are
+ * timed, the timings of each deployment unit are exposed by its {@code subsystem=ee} resource, and each processor
+ * execution is emitted as a JFR event. When disabled, processors are registered as is.
+ */
+public final class DeploymentProcessorTimings {
+
+    public static final String ENABLED_PROPERTY = "jboss.ee.deployment-processor-timing";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"));
+
+    private static final AttachmentKey<DeploymentProcessorTimings> ATTACHMENT_KEY = AttachmentKey.create(DeploymentProcessorTimings.class);
+
+    private final Map<String, ModelNode> timings = new LinkedHashMap<>();
+
+    private DeploymentProcessorTimings() {
+    }
+
+    /**
+     * Wraps the specified deployment processor target, so that the processors added to it are timed, if timing is enabled.
+     *
+     * @param processorTarget the target to wrap
+     * @return the wrapped target, or the specified target if timing is disabled
+     */
+    public static DeploymentProcessorTarget wrap(final DeploymentProcessorTarget processorTarget) {
+        if (!ENABLED) {
+            return processorTarget;
+        }
+        return (subsystemName, phase, priority, processor) -> processorTarget.addDeploymentProcessor(subsystemName, phase, priority, new TimedDeploymentUnitProcessor(subsystemName, phase, priority, processor));
+    }
+
+    /**
+     * Retrieves the timings of the specified deployment unit.
+     *
+     * @param deploymentUnit the deployment unit
+     * @return a list with a node for each processor executed, in order, which is empty if timing is disabled
+     */
+    static ModelNode getTimings(final DeploymentUnit deploymentUnit) {
+        final ModelNode result = new ModelNode().setEmptyList();
+        final DeploymentProcessorTimings timings = deploymentUnit.getAttachment(ATTACHMENT_KEY);
+        if (timings != null) {
+            final List<ModelNode> values;
+            synchronized (timings) {
+                values = new ArrayList<>(timings.timings.values());
+            }
+            for (ModelNode value : values) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    private void record(final String subsystemName, final Phase phase, final int priority, final String processor, final long wallTime, final long cpuTime) {
+        final ModelNode timing = new ModelNode();
+        timing.get(EeDeploymentDefinition.SUBSYSTEM.getName()).set(subsystemName);
+        timing.get(EeDeploymentDefinition.PHASE.getName()).set(phase.name());
+        timing.get(EeDeploymentDefinition.PRIORITY.getName()).set(priority);
+        timing.get(EeDeploymentDefinition.PROCESSOR.getName()).set(processor);
+        timing.get(EeDeploymentDefinition.WALL_TIME.getName()).set(wallTime);
+        if (cpuTime >= 0) {
+            timing.get(EeDeploymentDefinition.CPU_TIME.getName()).set(cpuTime);
+        }
+        timing.protect();
+        // a phase may be executed again, e.g. on a dependency restart, only its last execution is kept
+        final String key = phase.name() + '/' + priority + '/' + processor;
+        synchronized (this) {
+            timings.remove(key);
+            timings.put(key, timing);
+        }
+    }
+
+    private static DeploymentProcessorTimings getOrCreate(final DeploymentUnit deploymentUnit) {
+        // the processors of a deployment unit are executed sequentially
+        DeploymentProcessorTimings timings = deploymentUnit.getAttachment(ATTACHMENT_KEY);
+        if (timings == null) {
+            timings = new DeploymentProcessorTimings();
+            deploymentUnit.putAttachment(ATTACHMENT_KEY, timings);
+            final DeploymentResourceSupport deploymentResourceSupport = deploymentUnit.getAttachment(Attachments.DEPLOYMENT_RESOURCE_SUPPORT);
+            if (deploymentResourceSupport != null && !deploymentResourceSupport.hasDeploymentSubsystemModel(EeExtension.SUBSYSTEM_NAME)) {
+                // registers the deployment's ee resource, which exposes the timings
+                deploymentResourceSupport.getDeploymentSubsystemModel(EeExtension.SUBSYSTEM_NAME);
+            }
+        }
+        return timings;
+    }
+
+    private static class TimedDeploymentUnitProcessor implements DeploymentUnitProcessor {
+
+        private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+        private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+        private final String subsystemName;
+        private final Phase phase;
+        private final int priority;
+        private final DeploymentUnitProcessor processor;
+        private final String processorName;
+
+        private TimedDeploymentUnitProcessor(final String subsystemName, final Phase phase, final int priority, final DeploymentUnitProcessor processor) {
+            this.subsystemName = subsystemName;
+            this.phase = phase;
+            this.priority = priority;
+            this.processor = processor;
+            this.processorName = processor.getClass().getName();
+        }
+
+        @Override
+        public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
+            final long cpuStart = CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+            final long start = System.nanoTime();
+            try {
+                processor.deploy(phaseContext);
+            } finally {
+                final long wallTime = System.nanoTime() - start;
+                final long cpuTime = cpuStart >= 0 ? THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart : -1;
+                final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
+                getOrCreate(deploymentUnit).record(subsystemName, phase, priority, processorName, wallTime, cpuTime);
+                DeploymentProcessorEvent.commit(deploymentUnit, subsystemName, phase, priority, processorName, wallTime, cpuTime);
+                EeLogger.ROOT_LOGGER.tracef("Deployment processor %s took %d ns in phase %s of %s", processorName, wallTime, phase, deploymentUnit.getName());
+            }
+        }
+
+        @Override
+        public void undeploy(final DeploymentUnit deploymentUnit) {
+            processor.undeploy(deploymentUnit);
+        }
+    }
+}
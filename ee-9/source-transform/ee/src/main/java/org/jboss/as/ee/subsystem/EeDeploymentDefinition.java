@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBDEPLOYMENT;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectListAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.Services;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * The runtime resource of the EE subsystem on a deployment, which exposes the timings of its deployment unit processors.
+ *
+ * @see DeploymentProcessorTimings
+ */
+class EeDeploymentDefinition extends SimpleResourceDefinition {
+
+    static final SimpleAttributeDefinition SUBSYSTEM = new SimpleAttributeDefinitionBuilder("subsystem", ModelType.STRING).build();
+    static final SimpleAttributeDefinition PHASE = new SimpleAttributeDefinitionBuilder("phase", ModelType.STRING).build();
+    static final SimpleAttributeDefinition PRIORITY = new SimpleAttributeDefinitionBuilder("priority", ModelType.INT).build();
+    static final SimpleAttributeDefinition PROCESSOR = new SimpleAttributeDefinitionBuilder("processor", ModelType.STRING).build();
+    static final SimpleAttributeDefinition WALL_TIME = new SimpleAttributeDefinitionBuilder("wall-time", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+    static final SimpleAttributeDefinition CPU_TIME = new SimpleAttributeDefinitionBuilder("cpu-time", ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+
+    static final AttributeDefinition DEPLOYMENT_PROCESSOR_TIMINGS = new ObjectListAttributeDefinition.Builder("deployment-processor-timings",
+            new ObjectTypeAttributeDefinition.Builder("deployment-processor-timing", SUBSYSTEM, PHASE, PRIORITY, PROCESSOR, WALL_TIME, CPU_TIME).build())
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final EeDeploymentDefinition INSTANCE = new EeDeploymentDefinition();
+
+    private EeDeploymentDefinition() {
+        super(new Parameters(EeExtension.PATH_SUBSYSTEM, EeExtension.getResourceDescriptionResolver(DEPLOYMENT)).setFeature(false).setRuntime());
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        resourceRegistration.registerReadOnlyAttribute(DEPLOYMENT_PROCESSOR_TIMINGS, (context, operation) -> {
+            final DeploymentUnit deploymentUnit = getDeploymentUnit(context);
+            context.getResult().set(deploymentUnit != null ? DeploymentProcessorTimings.getTimings(deploymentUnit) : new ModelNode().setEmptyList());
+        });
+    }
+
+    private static DeploymentUnit getDeploymentUnit(final OperationContext context) {
+        final PathAddress address = context.getCurrentAddress();
+        final String deploymentName = address.getElement(0).getValue();
+        final ServiceName serviceName;
+        if (address.size() > 2 && SUBDEPLOYMENT.equals(address.getElement(1).getKey())) {
+            serviceName = Services.deploymentUnitName(deploymentName, address.getElement(1).getValue());
+        } else if (DEPLOYMENT.equals(address.getElement(0).getKey())) {
+            serviceName = Services.deploymentUnitName(deploymentName);
+        } else {
+            return null;
+        }
+        final ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+        if (controller == null || controller.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        return (DeploymentUnit) controller.getValue();
+    }
+}
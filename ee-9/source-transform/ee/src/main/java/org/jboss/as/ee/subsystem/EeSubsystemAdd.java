@@ -79,6 +79,8 @@ import org.jboss.as.ee.naming.InApplicationClientBindingProcessor;
 import org.jboss.as.ee.naming.InstanceNameBindingProcessor;
 import org.jboss.as.ee.naming.ModuleContextProcessor;
 import org.jboss.as.ee.security.JaccEarDeploymentProcessor;
+import org.jboss.as.ee.structure.AnnotationIndexCacheProcessor;
+import org.jboss.as.ee.structure.AnnotationIndexCacheStoreProcessor;
 import org.jboss.as.ee.structure.AnnotationPropertyReplacementProcessor;
 import org.jboss.as.ee.structure.AppJBossAllParser;
 import org.jboss.as.ee.structure.ApplicationClientDeploymentProcessor;
@@ -166,7 +168,8 @@ public class EeSubsystemAdd extends AbstractBoottimeAddStepHandler {
         final boolean legacyJacc = !elytronJacc && capabilitySupport.hasCapability(LEGACY_JACC_CAPABILITY);
 
         context.addStep(new AbstractDeploymentChainStep() {
-            protected void execute(DeploymentProcessorTarget processorTarget) {
+            protected void execute(DeploymentProcessorTarget target) {
+                final DeploymentProcessorTarget processorTarget = DeploymentProcessorTimings.wrap(target);
 
                 ROOT_LOGGER.debug("Activating EE subsystem");
 
@@ -192,6 +195,11 @@ public class EeSubsystemAdd extends AbstractBoottimeAddStepHandler {
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_EE_RESOURCE_INJECTION_REGISTRY, new ResourceReferenceRegistrySetupProcessor());
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_GLOBAL_MODULES, moduleDependencyProcessor);
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_GLOBAL_DIRECTORIES, directoryDependencyProcessor);
+                if (AnnotationIndexCacheProcessor.isEnabled()) {
+                    // around the core annotation indexing processor
+                    processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_ANNOTATION_INDEX - 1, new AnnotationIndexCacheProcessor());
+                    processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_ANNOTATION_INDEX + 1, new AnnotationIndexCacheStoreProcessor());
+                }
 
 
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.PARSE, Phase.PARSE_EE_MODULE_NAME, new EEModuleNameProcessor());
@@ -19,6 +19,7 @@ package org.jboss.as.ee.subsystem;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -35,6 +36,18 @@ public interface ManagedExecutorServiceMetricsAttributes {
     String MAX_THREAD_COUNT = "max-thread-count";
     String TASK_COUNT = "task-count";
     String THREAD_COUNT = "thread-count";
+    String QUEUE_WAIT_TIME_TOTAL = "queue-wait-time-total";
+    String QUEUE_WAIT_TIME_MAX = "queue-wait-time-max";
+    String QUEUE_WAIT_TIME_P50 = "queue-wait-time-p50";
+    String QUEUE_WAIT_TIME_P99 = "queue-wait-time-p99";
+    String EXECUTION_TIME_TOTAL = "execution-time-total";
+    String EXECUTION_TIME_MAX = "execution-time-max";
+    String EXECUTION_TIME_P50 = "execution-time-p50";
+    String EXECUTION_TIME_P99 = "execution-time-p99";
+    String LATENESS_TOTAL = "lateness-total";
+    String LATENESS_MAX = "lateness-max";
+    String LATENESS_P50 = "lateness-p50";
+    String LATENESS_P99 = "lateness-p99";
 
     AttributeDefinition ACTIVE_THREAD_COUNT_AD = new SimpleAttributeDefinitionBuilder(ACTIVE_THREAD_COUNT, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
@@ -57,4 +70,52 @@ public interface ManagedExecutorServiceMetricsAttributes {
     AttributeDefinition THREAD_COUNT_AD = new SimpleAttributeDefinitionBuilder(THREAD_COUNT, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
+    AttributeDefinition QUEUE_WAIT_TIME_TOTAL_AD = new SimpleAttributeDefinitionBuilder(QUEUE_WAIT_TIME_TOTAL, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition QUEUE_WAIT_TIME_MAX_AD = new SimpleAttributeDefinitionBuilder(QUEUE_WAIT_TIME_MAX, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition QUEUE_WAIT_TIME_P50_AD = new SimpleAttributeDefinitionBuilder(QUEUE_WAIT_TIME_P50, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition QUEUE_WAIT_TIME_P99_AD = new SimpleAttributeDefinitionBuilder(QUEUE_WAIT_TIME_P99, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition EXECUTION_TIME_TOTAL_AD = new SimpleAttributeDefinitionBuilder(EXECUTION_TIME_TOTAL, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition EXECUTION_TIME_MAX_AD = new SimpleAttributeDefinitionBuilder(EXECUTION_TIME_MAX, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition EXECUTION_TIME_P50_AD = new SimpleAttributeDefinitionBuilder(EXECUTION_TIME_P50, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition EXECUTION_TIME_P99_AD = new SimpleAttributeDefinitionBuilder(EXECUTION_TIME_P99, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition LATENESS_TOTAL_AD = new SimpleAttributeDefinitionBuilder(LATENESS_TOTAL, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition LATENESS_MAX_AD = new SimpleAttributeDefinitionBuilder(LATENESS_MAX, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition LATENESS_P50_AD = new SimpleAttributeDefinitionBuilder(LATENESS_P50, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    AttributeDefinition LATENESS_P99_AD = new SimpleAttributeDefinitionBuilder(LATENESS_P99, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
 }
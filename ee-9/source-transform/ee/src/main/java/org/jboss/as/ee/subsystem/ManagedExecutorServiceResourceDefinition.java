@@ -52,6 +52,8 @@ import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Eduardo Martins
  */
@@ -75,6 +77,7 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
     public static final String KEEPALIVE_TIME = "keepalive-time";
     public static final String QUEUE_LENGTH = "queue-length";
     public static final String REJECT_POLICY = "reject-policy";
+    public static final String VIRTUAL_THREADS = "virtual-threads";
 
     public static final SimpleAttributeDefinition JNDI_NAME_AD =
             new SimpleAttributeDefinitionBuilder(JNDI_NAME, ModelType.STRING, false)
@@ -171,7 +174,14 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
                     .setValidator(EnumValidator.create(AbstractManagedExecutorService.RejectPolicy.class))
                     .build();
 
-    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, THREAD_FACTORY_AD, THREAD_PRIORITY_AD, HUNG_TASK_TERMINATION_PERIOD_AD, HUNG_TASK_THRESHOLD_AD, LONG_RUNNING_TASKS_AD, CORE_THREADS_AD, MAX_THREADS_AD, KEEPALIVE_TIME_AD, QUEUE_LENGTH_AD, REJECT_POLICY_AD};
+    public static final SimpleAttributeDefinition VIRTUAL_THREADS_AD =
+            new SimpleAttributeDefinitionBuilder(VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, THREAD_FACTORY_AD, THREAD_PRIORITY_AD, HUNG_TASK_TERMINATION_PERIOD_AD, HUNG_TASK_THRESHOLD_AD, LONG_RUNNING_TASKS_AD, CORE_THREADS_AD, MAX_THREADS_AD, KEEPALIVE_TIME_AD, QUEUE_LENGTH_AD, REJECT_POLICY_AD, VIRTUAL_THREADS_AD};
 
     public static final PathElement PATH_ELEMENT = PathElement.pathElement(EESubsystemModel.MANAGED_EXECUTOR_SERVICE);
 
@@ -188,6 +198,14 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
             .addMetric(ManagedExecutorServiceMetricsAttributes.MAX_THREAD_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getMaxThreadsCount()))
             .addMetric(ManagedExecutorServiceMetricsAttributes.TASK_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getTaskCount()))
             .addMetric(ManagedExecutorServiceMetricsAttributes.THREAD_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getThreadsCount()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.QUEUE_WAIT_TIME_TOTAL_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getTotal(TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.QUEUE_WAIT_TIME_MAX_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getMax(TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.QUEUE_WAIT_TIME_P50_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getPercentile(50, TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.QUEUE_WAIT_TIME_P99_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getPercentile(99, TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.EXECUTION_TIME_TOTAL_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getTotal(TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.EXECUTION_TIME_MAX_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getMax(TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.EXECUTION_TIME_P50_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getPercentile(50, TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.EXECUTION_TIME_P99_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getPercentile(99, TimeUnit.MILLISECONDS)))
             .build();
 
     /**
@@ -47,6 +47,8 @@ import org.jboss.as.ee.concurrent.service.ManagedScheduledExecutorServiceService
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Eduardo Martins
  */
@@ -168,6 +170,14 @@ public class ManagedScheduledExecutorServiceResourceDefinition extends SimpleRes
             .addMetric(ManagedExecutorServiceMetricsAttributes.MAX_THREAD_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getMaxThreadsCount()))
             .addMetric(ManagedExecutorServiceMetricsAttributes.TASK_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getTaskCount()))
             .addMetric(ManagedExecutorServiceMetricsAttributes.THREAD_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getThreadsCount()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.LATENESS_TOTAL_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getTotal(TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.LATENESS_MAX_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getMax(TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.LATENESS_P50_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getPercentile(50, TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.LATENESS_P99_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getPercentile(99, TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.EXECUTION_TIME_TOTAL_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getTotal(TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.EXECUTION_TIME_MAX_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getMax(TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.EXECUTION_TIME_P50_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getPercentile(50, TimeUnit.MILLISECONDS)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.EXECUTION_TIME_P99_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getPercentile(99, TimeUnit.MILLISECONDS)))
             .build();
 
     /**
@@ -48,8 +48,9 @@ public class ManagedThreadFactoryAdd extends AbstractAddStepHandler {
 
         final String jndiName = ManagedExecutorServiceResourceDefinition.JNDI_NAME_AD.resolveModelAttribute(context, model).asString();
         final int priority = ManagedThreadFactoryResourceDefinition.PRIORITY_AD.resolveModelAttribute(context, model).asInt();
+        final boolean virtualThreads = ManagedThreadFactoryResourceDefinition.VIRTUAL_THREADS_AD.resolveModelAttribute(context, model).asBoolean();
 
-        final ManagedThreadFactoryService service = new ManagedThreadFactoryService(name, jndiName, priority);
+        final ManagedThreadFactoryService service = new ManagedThreadFactoryService(name, jndiName, priority, virtualThreads);
         final CapabilityServiceBuilder serviceBuilder = context.getCapabilityServiceTarget().addCapability(ManagedThreadFactoryResourceDefinition.CAPABILITY);
         String contextService = null;
         if(model.hasDefined(ManagedThreadFactoryResourceDefinition.CONTEXT_SERVICE)) {
@@ -52,6 +52,7 @@ public class ManagedThreadFactoryResourceDefinition extends SimpleResourceDefini
     public static final String JNDI_NAME = "jndi-name";
     public static final String CONTEXT_SERVICE = "context-service";
     public static final String PRIORITY = "priority";
+    public static final String VIRTUAL_THREADS = "virtual-threads";
 
     public static final SimpleAttributeDefinition JNDI_NAME_AD =
             new SimpleAttributeDefinitionBuilder(JNDI_NAME, ModelType.STRING, false)
@@ -75,7 +76,14 @@ public class ManagedThreadFactoryResourceDefinition extends SimpleResourceDefini
                     .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
                     .build();
 
-    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, PRIORITY_AD};
+    public static final SimpleAttributeDefinition VIRTUAL_THREADS_AD =
+            new SimpleAttributeDefinitionBuilder(VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, PRIORITY_AD, VIRTUAL_THREADS_AD};
 
     public static final ManagedThreadFactoryResourceDefinition INSTANCE = new ManagedThreadFactoryResourceDefinition();
 
@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ComponentStartLimiter}.
+ */
+public class ComponentStartLimiterTestCase {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void bound() throws InterruptedException {
+        ComponentStartLimiter limiter = new ComponentStartLimiter(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch proceed = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch completed = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            limiter.execute(this.executor, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    proceed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                completed.countDown();
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(2, running.get());
+
+        proceed.countDown();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    public void waitHandsOverSlot() throws InterruptedException {
+        ComponentStartLimiter limiter = new ComponentStartLimiter(1);
+        CountDownLatch dependency = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        limiter.execute(this.executor, () -> {
+            // e.g. a @PostConstruct waiting for a component queued behind it
+            ComponentStartLimiter waitLimiter = ComponentStartLimiter.beginWait();
+            try {
+                dependency.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                ComponentStartLimiter.endWait(waitLimiter);
+            }
+            completed.countDown();
+        });
+        limiter.execute(this.executor, dependency::countDown);
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -26,6 +26,8 @@ public class ComponentClientInstance implements Serializable {
 
     private final Map<Object, Object> contextInformation = new HashMap<Object, Object>();
     private volatile boolean constructionComplete = false;
+    // Keys and values of the context information, alternately, resolved once construction is complete
+    private transient volatile Object[] privateData;
 
     public Object getViewInstanceData(final Object key) {
         return contextInformation.get(key);
@@ -39,8 +41,25 @@ public class ComponentClientInstance implements Serializable {
     }
 
     void prepareInterceptorContext(InterceptorContext interceptorContext){
-        for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
-            interceptorContext.putPrivateData(entry.getKey(), entry.getValue());
+        Object[] privateData = this.privateData;
+        if (privateData == null) {
+            if (!constructionComplete) {
+                for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
+                    interceptorContext.putPrivateData(entry.getKey(), entry.getValue());
+                }
+                return;
+            }
+            // The context information can no longer change, so avoid iterating over the map for every invocation
+            privateData = new Object[contextInformation.size() * 2];
+            int index = 0;
+            for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
+                privateData[index++] = entry.getKey();
+                privateData[index++] = entry.getValue();
+            }
+            this.privateData = privateData;
+        }
+        for (int i = 0; i < privateData.length; i += 2) {
+            interceptorContext.putPrivateData(privateData[i], privateData[i + 1]);
         }
     }
 
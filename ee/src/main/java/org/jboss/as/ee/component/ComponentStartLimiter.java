@@ -0,0 +1,161 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jboss.as.ee.logging.EeLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Bounds the number of components of a deployment, including its sub deployments, which start concurrently on the
+ * server executor. Starts over the bound are queued, and run in submission order as running starts complete.
+ * <p>
+ * A component start which waits for another component to start, e.g. a {@code @PostConstruct} invoking a bean which
+ * is not one of its dependencies, hands its slot over to the next queued start while waiting, so the bound never
+ * deadlocks a deployment.
+ * <p>
+ * The bound is set by the {@code jboss.ee.component-start-threads} system property. By default, or if the value is lower
+ * than 1, component starts are not bounded.
+ */
+public final class ComponentStartLimiter {
+
+    public static final String THREADS_PROPERTY = "jboss.ee.component-start-threads";
+
+    private static final int THREADS = threads();
+
+    /**
+     * the limiter of the component start running in the current thread, if any
+     */
+    private static final ThreadLocal<ComponentStartLimiter> current = new ThreadLocal<>();
+
+    private final int limit;
+    private final Deque<Runnable> pending = new ArrayDeque<>();
+    private int running;
+    // the executor running the starts, i.e. the server executor
+    private Executor executor;
+
+    ComponentStartLimiter(final int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Creates the limiter of a deployment.
+     *
+     * @return the limiter, or {@code null} if component starts are not bounded
+     */
+    public static ComponentStartLimiter create() {
+        return THREADS > 0 ? new ComponentStartLimiter(THREADS) : null;
+    }
+
+    /**
+     * Runs the specified component start on the specified executor, once the number of running starts is below the bound.
+     *
+     * @param executor the executor running the start
+     * @param task the component start
+     */
+    void execute(final Executor executor, final Runnable task) {
+        synchronized (this) {
+            this.executor = executor;
+            if (running >= limit) {
+                pending.add(task);
+                return;
+            }
+            running++;
+        }
+        submit(executor, task);
+    }
+
+    private void submit(final Executor executor, final Runnable task) {
+        final Runnable start = () -> {
+            current.set(this);
+            try {
+                task.run();
+            } finally {
+                current.remove();
+                release();
+            }
+        };
+        try {
+            executor.execute(start);
+        } catch (RejectedExecutionException e) {
+            start.run();
+        }
+    }
+
+    private void release() {
+        final Runnable next;
+        final Executor executor;
+        synchronized (this) {
+            next = pending.poll();
+            if (next == null) {
+                running--;
+                return;
+            }
+            executor = this.executor;
+        }
+        submit(executor, next);
+    }
+
+    /**
+     * Called before the current thread waits for a component to start. If the thread runs a bounded component start,
+     * its slot is handed over to the next queued start.
+     *
+     * @return the limiter to pass to {@link #endWait(ComponentStartLimiter)}, or {@code null}
+     */
+    static ComponentStartLimiter beginWait() {
+        final ComponentStartLimiter limiter = current.get();
+        if (limiter != null) {
+            limiter.release();
+        }
+        return limiter;
+    }
+
+    /**
+     * Called once the current thread stopped waiting for a component to start. The slot is taken back, even if this
+     * temporarily exceeds the bound.
+     *
+     * @param limiter the limiter returned by {@link #beginWait()}
+     */
+    static void endWait(final ComponentStartLimiter limiter) {
+        if (limiter != null) {
+            synchronized (limiter) {
+                limiter.running++;
+            }
+        }
+    }
+
+    private static int threads() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(THREADS_PROPERTY, null);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                EeLogger.ROOT_LOGGER.invalidComponentStartThreads(value, THREADS_PROPERTY);
+            }
+        }
+        return 0;
+    }
+}
@@ -24,7 +24,9 @@ package org.jboss.as.ee.component;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
@@ -34,6 +36,11 @@ import org.jboss.msc.value.InjectedValue;
 
 /**
  * Service wrapper for a {@link Component} which starts and stops the component instance.
+ * <p>
+ * The component is started asynchronously, on the server executor, once the services it depends on are up, which
+ * include the start services of the components it depends on (e.g. through {@code @DependsOn}). Independent
+ * components, such as {@code @Startup} singletons, thus start concurrently, up to the bound of the deployment's
+ * {@link ComponentStartLimiter}, if any.
  *
  * @author John Bailey
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
@@ -42,6 +49,18 @@ public final class ComponentStartService implements Service<Component> {
 
     private final InjectedValue<BasicComponent> component = new InjectedValue<BasicComponent>();
     private final InjectedValue<ExecutorService> executor = new InjectedValue<ExecutorService>();
+    private final ComponentStartLimiter limiter;
+
+    public ComponentStartService() {
+        this(null);
+    }
+
+    /**
+     * @param limiter the limiter bounding the concurrent component starts of the deployment, or {@code null}
+     */
+    public ComponentStartService(final ComponentStartLimiter limiter) {
+        this.limiter = limiter;
+    }
 
     /**
      * {@inheritDoc}
@@ -51,7 +70,12 @@ public final class ComponentStartService implements Service<Component> {
             @Override
             public void run() {
                 try {
-                    getValue().start();
+                    final BasicComponent component = getValue();
+                    final long start = System.nanoTime();
+                    component.start();
+                    if (EeLogger.ROOT_LOGGER.isDebugEnabled()) {
+                        EeLogger.ROOT_LOGGER.debugf("Component %s started in %d ms", component.getComponentName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    }
                     context.complete();
                 } catch (Throwable e) {
                     context.failed(new StartException(e));
@@ -59,7 +83,11 @@ public final class ComponentStartService implements Service<Component> {
             }
         };
         try {
-            executor.getValue().submit(task);
+            if (limiter != null) {
+                limiter.execute(executor.getValue(), task);
+            } else {
+                executor.getValue().submit(task);
+            }
         } catch (RejectedExecutionException e) {
             task.run();
         } finally {
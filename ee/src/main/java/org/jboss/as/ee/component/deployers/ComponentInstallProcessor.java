@@ -40,6 +40,7 @@ import org.jboss.as.ee.component.Component;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.ComponentNamingMode;
 import org.jboss.as.ee.component.ComponentRegistry;
+import org.jboss.as.ee.component.ComponentStartLimiter;
 import org.jboss.as.ee.component.ComponentStartService;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ee.component.DependencyConfigurator;
@@ -150,7 +151,7 @@ public final class ComponentInstallProcessor implements DeploymentUnitProcessor
         final BasicComponentCreateService createService = configuration.getComponentCreateServiceFactory().constructService(configuration);
         final ServiceBuilder<Component> createBuilder = serviceTarget.addService(createServiceName, createService);
 
-        final ComponentStartService startService = new ComponentStartService();
+        final ComponentStartService startService = new ComponentStartService(getComponentStartLimiter(deploymentUnit));
         final ServiceBuilder<Component> startBuilder = serviceTarget.addService(startServiceName, startService);
 
         deploymentUnit.addToAttachmentList(org.jboss.as.server.deployment.Attachments.DEPLOYMENT_COMPLETE_SERVICES, startServiceName);
@@ -302,6 +303,23 @@ public final class ComponentInstallProcessor implements DeploymentUnitProcessor
         }
     }
 
+    /**
+     * Returns the limiter shared by the component starts of the top level deployment and its sub deployments.
+     */
+    private static ComponentStartLimiter getComponentStartLimiter(DeploymentUnit deploymentUnit) {
+        final DeploymentUnit topLevelDeployment = deploymentUnit.getParent() == null ? deploymentUnit : deploymentUnit.getParent();
+        synchronized (topLevelDeployment) {
+            ComponentStartLimiter limiter = topLevelDeployment.getAttachment(Attachments.COMPONENT_START_LIMITER);
+            if (limiter == null) {
+                limiter = ComponentStartLimiter.create();
+                if (limiter != null) {
+                    topLevelDeployment.putAttachment(Attachments.COMPONENT_START_LIMITER, limiter);
+                }
+            }
+            return limiter;
+        }
+    }
+
     private void handleDuplicateService(ComponentConfiguration configuration, String bindingName) {
         String name = configuration.getComponentName();
         if (SPEC_COMPONENTS.contains(name)) {
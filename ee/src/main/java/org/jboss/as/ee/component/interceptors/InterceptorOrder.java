@@ -183,6 +183,8 @@ public class InterceptorOrder {
         public static final int SECURITY_IDENTITY_OUTFLOW = 0x340;
         // after security we take note of the invocation
         public static final int EJB_WAIT_TIME_INTERCEPTOR = 0x350;
+        // throttles message delivery to MDBs, deliveries held back are accounted as wait time
+        public static final int MESSAGE_DELIVERY_CONCURRENCY = 0x360;
         public static final int INVOCATION_CONTEXT_INTERCEPTOR = 0x400;
         // should happen before the CMT/BMT interceptors
         /**
@@ -41,6 +41,7 @@ import java.io.ObjectOutputStream;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -48,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Thread.currentThread;
 
@@ -98,6 +100,11 @@ public class ConcurrentContext {
     private final Map<String, ContextHandleFactory> factoryMap = new HashMap<>();
     private List<ContextHandleFactory> factoryOrderedList;
 
+    /**
+     * the handles saved by the context invariant factories, per context service using this context
+     */
+    private final Map<ContextService, InvariantHandles> invariantHandles = new ConcurrentHashMap<>();
+
     private volatile ServiceName serviceName;
 
     /**
@@ -127,6 +134,7 @@ public class ConcurrentContext {
         SortedSet<ContextHandleFactory> sortedSet = new TreeSet<>(comparator);
         sortedSet.addAll(factoryMap.values());
         factoryOrderedList = new ArrayList<>(sortedSet);
+        invariantHandles.clear();
     }
 
     /**
@@ -136,13 +144,64 @@ public class ConcurrentContext {
      * @return
      */
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        final List<SetupContextHandle> handles = new ArrayList<>(factoryOrderedList.size());
-        for (ContextHandleFactory factory : factoryOrderedList) {
-            handles.add(factory.saveContext(contextService, contextObjectProperties));
+        if (contextObjectProperties != null && !contextObjectProperties.isEmpty()) {
+            // the handles saved with context object properties are specific to the caller, and never shared
+            final List<ContextHandleFactory> factories = factoryOrderedList;
+            final List<SetupContextHandle> handles = new ArrayList<>(factories.size());
+            for (ContextHandleFactory factory : factories) {
+                handles.add(factory.saveContext(contextService, contextObjectProperties));
+            }
+            return new ChainedSetupContextHandle(this, handles);
+        }
+        InvariantHandles invariantHandles = this.invariantHandles.get(contextService);
+        if (invariantHandles == null) {
+            synchronized (this) {
+                invariantHandles = this.invariantHandles.get(contextService);
+                if (invariantHandles == null) {
+                    // the handles of context invariant factories are saved once per context service, and then shared by all tasks
+                    invariantHandles = new InvariantHandles(factoryOrderedList, contextService, contextObjectProperties);
+                    this.invariantHandles.put(contextService, invariantHandles);
+                }
+            }
+        }
+        if (invariantHandles.sharedSetupContextHandle != null) {
+            return invariantHandles.sharedSetupContextHandle;
+        }
+        final List<SetupContextHandle> handles = new ArrayList<>(invariantHandles.factories.size());
+        for (int i = 0; i < invariantHandles.handles.length; i++) {
+            handles.add(invariantHandles.invariant[i] ? invariantHandles.handles[i] : invariantHandles.factories.get(i).saveContext(contextService, contextObjectProperties));
         }
         return new ChainedSetupContextHandle(this, handles);
     }
 
+    /**
+     * The handles saved by the context invariant factories, for a specific context service.
+     */
+    private class InvariantHandles {
+
+        private final List<ContextHandleFactory> factories;
+        private final boolean[] invariant;
+        private final SetupContextHandle[] handles;
+        private final ChainedSetupContextHandle sharedSetupContextHandle;
+
+        private InvariantHandles(List<ContextHandleFactory> factories, ContextService contextService, Map<String, String> contextObjectProperties) {
+            this.factories = factories;
+            this.invariant = new boolean[factories.size()];
+            this.handles = new SetupContextHandle[factories.size()];
+            boolean allInvariant = true;
+            for (int i = 0; i < handles.length; i++) {
+                final ContextHandleFactory factory = factories.get(i);
+                if (factory.isContextInvariant()) {
+                    invariant[i] = true;
+                    handles[i] = factory.saveContext(contextService, contextObjectProperties);
+                } else {
+                    allInvariant = false;
+                }
+            }
+            this.sharedSetupContextHandle = allInvariant ? new ChainedSetupContextHandle(ConcurrentContext.this, Arrays.asList(handles)) : null;
+        }
+    }
+
     /**
      * A setup context handle that is a chain of other setup context handles
      */
@@ -64,4 +64,17 @@ public interface ManagedExecutorRuntimeStats {
      * @return the current number of executor threads
      */
     int getThreadsCount();
+
+    /**
+     *
+     * @return the times tasks waited to start execution, measured from submission, or for scheduled tasks from the
+     * time the task was due, which is the task's lateness
+     */
+    LatencyHistogram getQueueWaitTimes();
+
+    /**
+     *
+     * @return the execution times of tasks
+     */
+    LatencyHistogram getExecutionTimes();
 }
@@ -19,8 +19,12 @@ package org.jboss.as.ee.concurrent;
 
 import org.glassfish.enterprise.concurrent.AbstractManagedExecutorService;
 
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
+
 import java.util.Collection;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Executor runtime stats obtained from a thread pool executor.
@@ -30,15 +34,20 @@ class ManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeStats {
 
     private final AbstractManagedExecutorService abstractManagedExecutorService;
     private final ThreadPoolExecutor threadPoolExecutor;
+    private final ManagedExecutorWithHungThreads executorWithHungThreads;
+    private final LatencyHistogram queueWaitTimes = new LatencyHistogram();
+    private final LatencyHistogram executionTimes = new LatencyHistogram();
 
     ManagedExecutorRuntimeStatsImpl(ManagedExecutorServiceImpl executorService) {
         this.abstractManagedExecutorService = executorService;
         this.threadPoolExecutor = executorService.getThreadPoolExecutor();
+        this.executorWithHungThreads = executorService;
     }
 
     ManagedExecutorRuntimeStatsImpl(ManagedScheduledExecutorServiceImpl executorService) {
         this.abstractManagedExecutorService = executorService;
         this.threadPoolExecutor = executorService.getThreadPoolExecutor();
+        this.executorWithHungThreads = executorService;
     }
 
     @Override
@@ -59,7 +68,7 @@ class ManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeStats {
     @Override
     public int getHungThreadsCount() {
         final Collection hungThreads = abstractManagedExecutorService.getHungThreads();
-        return hungThreads != null ? hungThreads.size() : 0;
+        return (hungThreads != null ? hungThreads.size() : 0) + executorWithHungThreads.getHungVirtualThreadTasks().size();
     }
 
     @Override
@@ -76,4 +85,36 @@ class ManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeStats {
     public int getQueueSize() {
         return threadPoolExecutor.getQueue().size();
     }
+
+    @Override
+    public LatencyHistogram getQueueWaitTimes() {
+        return queueWaitTimes;
+    }
+
+    @Override
+    public LatencyHistogram getExecutionTimes() {
+        return executionTimes;
+    }
+
+    /**
+     * Records the time a task waited before starting its execution.
+     * @param task the task
+     * @param startTime the {@link System#nanoTime()} when the task started
+     */
+    void taskStarting(ManagedFutureTask task, long startTime) {
+        if (task instanceof ManagedExecutorServiceImpl.SubmittedTask) {
+            queueWaitTimes.record(startTime - ((ManagedExecutorServiceImpl.SubmittedTask) task).submitTime);
+        } else if (task instanceof Delayed) {
+            // a scheduled task, still reporting the delay until the trigger time of the current execution
+            queueWaitTimes.record(-((Delayed) task).getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Records the execution time of a task.
+     * @param executionTime the execution time, in nanoseconds
+     */
+    void taskDone(long executionTime) {
+        executionTimes.record(executionTime);
+    }
 }
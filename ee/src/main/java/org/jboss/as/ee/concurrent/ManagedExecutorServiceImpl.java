@@ -24,9 +24,12 @@ package org.jboss.as.ee.concurrent;
 
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.ManagedThreadFactoryImpl;
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -43,17 +46,57 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
 
     private final ControlPoint controlPoint;
     private final ManagedExecutorRuntimeStats runtimeStats;
+    private final long hungTaskThreshold;
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, ContextServiceImpl contextService, RejectPolicy rejectPolicy, BlockingQueue<Runnable> queue, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy, queue);
         this.controlPoint = controlPoint;
-        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        this.runtimeStats = createRuntimeStats(managedThreadFactory);
+        this.hungTaskThreshold = hungTaskThreshold;
+        allowVirtualThreadsTimeOut(keepAliveTime);
     }
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy);
         this.controlPoint = controlPoint;
-        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        this.runtimeStats = createRuntimeStats(managedThreadFactory);
+        this.hungTaskThreshold = hungTaskThreshold;
+        allowVirtualThreadsTimeOut(keepAliveTime);
+    }
+
+    private ManagedExecutorRuntimeStats createRuntimeStats(ManagedThreadFactoryImpl managedThreadFactory) {
+        final ManagedExecutorRuntimeStatsImpl runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        if (managedThreadFactory instanceof org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl) {
+            ((org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl) managedThreadFactory).setExecutorRuntimeStats(runtimeStats);
+        }
+        return runtimeStats;
+    }
+
+    /**
+     * With virtual threads the pool size is a bound on concurrently running tasks, rather than a number of threads
+     * to keep around, thus idle virtual threads are discarded once the keep alive time elapses.
+     */
+    private void allowVirtualThreadsTimeOut(long keepAliveTime) {
+        if (isVirtual() && keepAliveTime > 0) {
+            getThreadPoolExecutor().allowCoreThreadTimeOut(true);
+        }
+    }
+
+    /**
+     *
+     * @return true if the executor's tasks run in virtual threads
+     */
+    public boolean isVirtual() {
+        final ManagedThreadFactoryImpl managedThreadFactory = getManagedThreadFactory();
+        return managedThreadFactory instanceof org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl && ((org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl) managedThreadFactory).isVirtual();
+    }
+
+    @Override
+    public Collection<ManagedFutureTask> getHungVirtualThreadTasks() {
+        if (isLongRunningTasks() || !isVirtual()) {
+            return Collections.emptyList();
+        }
+        return ((org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl) getManagedThreadFactory()).getHungVirtualThreadTasks(hungTaskThreshold);
     }
 
     @Override
@@ -100,6 +143,16 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
         }
     }
 
+    @Override
+    protected <V> ManagedFutureTask<V> getNewTaskFor(Runnable r, V result) {
+        return new SubmittedTask<>(this, r, result);
+    }
+
+    @Override
+    protected ManagedFutureTask getNewTaskFor(Callable callable) {
+        return new SubmittedTask<Object>(this, callable);
+    }
+
     @Override
     protected ThreadPoolExecutor getThreadPoolExecutor() {
         return (ThreadPoolExecutor) super.getThreadPoolExecutor();
@@ -112,4 +165,20 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     public ManagedExecutorRuntimeStats getRuntimeStats() {
         return runtimeStats;
     }
+
+    /**
+     * A task which knows when it was submitted, to measure the time it waited in the executor's queue.
+     */
+    static final class SubmittedTask<V> extends ManagedFutureTask<V> {
+
+        final long submitTime = System.nanoTime();
+
+        SubmittedTask(ManagedExecutorServiceImpl executor, Runnable runnable, V result) {
+            super(executor, runnable, result);
+        }
+
+        SubmittedTask(ManagedExecutorServiceImpl executor, Callable<V> callable) {
+            super(executor, callable);
+        }
+    }
 }
@@ -26,6 +26,8 @@ import org.glassfish.enterprise.concurrent.AbstractManagedThread;
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
 import org.glassfish.enterprise.concurrent.spi.ContextHandle;
+import org.glassfish.enterprise.concurrent.spi.ContextSetupProvider;
+import org.jboss.as.ee.logging.EeLogger;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -33,6 +35,13 @@ import javax.enterprise.concurrent.ManagedThreadFactory;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link ManagedThreadFactory} implementation ensuring {@link SecurityIdentity} propagation into new threads.
@@ -51,10 +60,50 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
      */
     private final AccessControlContext accessControlContext;
 
+    /**
+     * the context service used to capture and apply the context of new virtual threads
+     */
+    private final ContextServiceImpl contextService;
+
+    /**
+     * the JDK factory of virtual threads, null if the factory creates platform threads
+     */
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * the tasks currently executing in virtual threads, used for hung task detection
+     */
+    private final Map<Thread, VirtualThreadTask> virtualThreadTasks = new ConcurrentHashMap<>();
+
+    /**
+     * the virtual threads created by the factory which are still running
+     */
+    private final Set<Thread> virtualThreads = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean stopped;
+
+    /**
+     * the runtime stats of the executor owning the factory, which records the execution time of its tasks
+     */
+    private volatile ManagedExecutorRuntimeStatsImpl executorRuntimeStats;
+
     public ManagedThreadFactoryImpl(String name, ContextServiceImpl contextService, int priority) {
+        this(name, contextService, priority, false);
+    }
+
+    /**
+     *
+     * @param name the factory's name
+     * @param contextService the context service used to capture the context of new threads
+     * @param priority the priority set on new platform threads
+     * @param virtual if true, and the Java runtime supports it, new threads are virtual threads
+     */
+    public ManagedThreadFactoryImpl(String name, ContextServiceImpl contextService, int priority, boolean virtual) {
         super(name, contextService, priority);
         this.priority = priority;
         this.accessControlContext = AccessController.getContext();
+        this.contextService = contextService;
+        this.virtualThreadFactory = virtual ? createVirtualThreadFactory(name) : null;
     }
 
     /**
@@ -65,6 +114,36 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         return priority;
     }
 
+    /**
+     *
+     * @return true if the factory creates virtual threads, false otherwise
+     */
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        if (virtualThreadFactory == null) {
+            return super.newThread(r);
+        }
+        if (stopped) {
+            throw new IllegalStateException(MANAGED_THREAD_FACTORY_STOPPED);
+        }
+        final ContextSetupProvider contextSetupProvider = contextService != null ? contextService.getContextSetupProvider() : null;
+        ContextHandle contextHandleForSetup = savedContextHandleForSetup;
+        if (contextHandleForSetup == null && contextSetupProvider != null) {
+            contextHandleForSetup = contextSetupProvider.saveContext(contextService);
+        }
+        if (contextHandleForSetup != null) {
+            // app thread, do identity wrap
+            r = SecurityIdentityUtils.doIdentityWrap(r);
+        }
+        final Thread t = AccessController.doPrivileged(new CreateVirtualThreadAction(new VirtualThreadRunnable(r, contextSetupProvider, contextHandleForSetup)), accessControlContext);
+        resetContextClassLoader(t);
+        return t;
+    }
+
     protected AbstractManagedThread createThread(Runnable r, final ContextHandle contextHandleForSetup) {
         if (contextHandleForSetup != null) {
             // app thread, do identity wrap
@@ -72,6 +151,11 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         }
         // use the factory's acc as privileged, otherwise the new thread inherits current thread's acc
         final AbstractManagedThread t = AccessController.doPrivileged(new CreateThreadAction(r, contextHandleForSetup), accessControlContext);
+        resetContextClassLoader(t);
+        return t;
+    }
+
+    private static void resetContextClassLoader(final Thread t) {
         // reset thread classloader to prevent leaks
         if (!WildFlySecurityManager.isChecking()) {
             t.setContextClassLoader(null);
@@ -81,22 +165,94 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
                 return null;
             });
         }
-        return t;
+    }
+
+    /**
+     * Sets the runtime stats of the executor using the factory, to be notified of the start and end of each task.
+     * @param executorRuntimeStats the executor's runtime stats
+     */
+    void setExecutorRuntimeStats(ManagedExecutorRuntimeStatsImpl executorRuntimeStats) {
+        this.executorRuntimeStats = executorRuntimeStats;
     }
 
     @Override
     public void taskStarting(Thread t, ManagedFutureTask task) {
         super.taskStarting(t, task);
+        final long startTime = System.nanoTime();
         if (t instanceof ManagedThread) {
             ((ManagedThread)t).task = task;
+            ((ManagedThread)t).taskStartNanoTime = startTime;
+        } else if (virtualThreadFactory != null) {
+            virtualThreadTasks.put(t, new VirtualThreadTask(task, startTime));
+        }
+        final ManagedExecutorRuntimeStatsImpl executorRuntimeStats = this.executorRuntimeStats;
+        if (executorRuntimeStats != null) {
+            executorRuntimeStats.taskStarting(task, startTime);
         }
     }
 
     @Override
     public void taskDone(Thread t) {
         super.taskDone(t);
+        long startTime = 0;
         if (t instanceof ManagedThread) {
             ((ManagedThread)t).task = null;
+            startTime = ((ManagedThread)t).taskStartNanoTime;
+        } else if (virtualThreadFactory != null) {
+            final VirtualThreadTask virtualThreadTask = virtualThreadTasks.remove(t);
+            if (virtualThreadTask != null) {
+                startTime = virtualThreadTask.startTime;
+            }
+        }
+        final ManagedExecutorRuntimeStatsImpl executorRuntimeStats = this.executorRuntimeStats;
+        if (executorRuntimeStats != null && startTime != 0) {
+            executorRuntimeStats.taskDone(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Retrieves the tasks which have been executing in virtual threads for longer than the specified threshold.
+     * @param hungTaskThreshold the threshold, in milliseconds
+     * @return the hung tasks
+     */
+    Collection<ManagedFutureTask> getHungVirtualThreadTasks(long hungTaskThreshold) {
+        final Collection<ManagedFutureTask> hungTasks = new ArrayList<>();
+        if (hungTaskThreshold > 0) {
+            final long now = System.nanoTime();
+            final long threshold = TimeUnit.MILLISECONDS.toNanos(hungTaskThreshold);
+            for (VirtualThreadTask virtualThreadTask : virtualThreadTasks.values()) {
+                if (now - virtualThreadTask.startTime > threshold) {
+                    hungTasks.add(virtualThreadTask.task);
+                }
+            }
+        }
+        return hungTasks;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        super.stop();
+        for (Thread t : virtualThreads) {
+            t.interrupt();
+        }
+    }
+
+    /**
+     * Creates a JDK factory of virtual threads. The Thread.Builder API is only available since Java 21, so it is
+     * looked up reflectively.
+     * @param name the managed thread factory's name
+     * @return the virtual thread factory, or null if the Java runtime does not support virtual threads
+     */
+    private static ThreadFactory createVirtualThreadFactory(String name) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-VirtualThread-", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            EeLogger.ROOT_LOGGER.virtualThreadsNotSupported(name);
+            return null;
         }
     }
 
@@ -115,12 +271,70 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         }
     }
 
+    private final class CreateVirtualThreadAction implements PrivilegedAction<Thread> {
+        private final Runnable r;
+
+        private CreateVirtualThreadAction(Runnable r) {
+            this.r = r;
+        }
+
+        @Override
+        public Thread run() {
+            return virtualThreadFactory.newThread(r);
+        }
+    }
+
+    /**
+     * The task of a virtual thread, which applies the context captured when the thread was created.
+     */
+    private final class VirtualThreadRunnable implements Runnable {
+        private final Runnable r;
+        private final ContextSetupProvider contextSetupProvider;
+        private final ContextHandle contextHandleForSetup;
+
+        private VirtualThreadRunnable(Runnable r, ContextSetupProvider contextSetupProvider, ContextHandle contextHandleForSetup) {
+            this.r = r;
+            this.contextSetupProvider = contextSetupProvider;
+            this.contextHandleForSetup = contextHandleForSetup;
+        }
+
+        @Override
+        public void run() {
+            final Thread currentThread = Thread.currentThread();
+            virtualThreads.add(currentThread);
+            ContextHandle contextHandleForReset = null;
+            try {
+                if (contextHandleForSetup != null) {
+                    contextHandleForReset = contextSetupProvider.setup(contextHandleForSetup);
+                }
+                r.run();
+            } finally {
+                if (contextHandleForReset != null) {
+                    contextSetupProvider.reset(contextHandleForReset);
+                }
+                virtualThreads.remove(currentThread);
+            }
+        }
+    }
+
+    private static final class VirtualThreadTask {
+        private final ManagedFutureTask task;
+        private final long startTime;
+
+        private VirtualThreadTask(ManagedFutureTask task, long startTime) {
+            this.task = task;
+            this.startTime = startTime;
+        }
+    }
+
     /**
      * Managed thread extension, to allow canceling the task running in the thread.
      * @author emmartins
      */
     public class ManagedThread extends org.glassfish.enterprise.concurrent.ManagedThreadFactoryImpl.ManagedThread {
         volatile ManagedFutureTask task = null;
+        // the System.nanoTime() when the task started, only accessed by the thread itself
+        long taskStartNanoTime;
         /**
          *
          * @param target
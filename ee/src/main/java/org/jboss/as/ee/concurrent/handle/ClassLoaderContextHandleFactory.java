@@ -55,6 +55,11 @@ public class ClassLoaderContextHandleFactory implements ContextHandleFactory {
         return NAME;
     }
 
+    @Override
+    public boolean isContextInvariant() {
+        return true;
+    }
+
     @Override
     public int getChainPriority() {
         return 100;
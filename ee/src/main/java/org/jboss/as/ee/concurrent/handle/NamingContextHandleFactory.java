@@ -59,6 +59,11 @@ public class NamingContextHandleFactory implements ContextHandleFactory {
         return NAME;
     }
 
+    @Override
+    public boolean isContextInvariant() {
+        return true;
+    }
+
     @Override
     public int getChainPriority() {
         return 200;
@@ -58,6 +58,11 @@ public class OtherEESetupActionsContextHandleFactory implements ContextHandleFac
         return NAME;
     }
 
+    @Override
+    public boolean isContextInvariant() {
+        return true;
+    }
+
     @Override
     public int getChainPriority() {
         return 400;
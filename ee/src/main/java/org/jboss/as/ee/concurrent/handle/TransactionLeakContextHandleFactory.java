@@ -54,6 +54,11 @@ public class TransactionLeakContextHandleFactory implements ContextHandleFactory
         return NAME;
     }
 
+    @Override
+    public boolean isContextInvariant() {
+        return true;
+    }
+
     @Override
     public int getChainPriority() {
         // must be higher/after other ee setup actions, which include the connector invocation context setup
@@ -41,24 +41,27 @@ public class ManagedThreadFactoryService extends EEConcurrentAbstractService<Man
     private final String name;
     private final InjectedValue<ContextServiceImpl> contextService;
     private final int priority;
+    private final boolean virtual;
 
     /**
      * @param name
      * @param jndiName
      * @param priority
-     * @see org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl#ManagedThreadFactoryImpl(String, org.glassfish.enterprise.concurrent.ContextServiceImpl, int)
+     * @param virtual
+     * @see org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl#ManagedThreadFactoryImpl(String, org.glassfish.enterprise.concurrent.ContextServiceImpl, int, boolean)
      */
-    public ManagedThreadFactoryService(String name, String jndiName, int priority) {
+    public ManagedThreadFactoryService(String name, String jndiName, int priority, boolean virtual) {
         super(jndiName);
         this.name = name;
         this.contextService = new InjectedValue<>();
         this.priority = priority;
+        this.virtual = virtual;
     }
 
     @Override
     void startValue(StartContext context) throws StartException {
         final String threadFactoryName = "EE-ManagedThreadFactory-"+name;
-        managedThreadFactory = new ManagedThreadFactoryImpl(threadFactoryName, contextService.getOptionalValue(), priority);
+        managedThreadFactory = new ManagedThreadFactoryImpl(threadFactoryName, contextService.getOptionalValue(), priority, virtual);
     }
 
     @Override
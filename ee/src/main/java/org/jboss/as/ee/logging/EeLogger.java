@@ -1219,4 +1219,28 @@ public interface EeLogger extends BasicLogger {
             "specifications. The conflicting class is %s. Solutions include providing an alternate name for the component " +
             "or renaming the class.")
     void duplicateJndiBindingFound(String componentName, String jndiName, Class clazz);
+
+    /**
+     * Logs a message indicating that virtual threads are not supported by the Java runtime.
+     * @param threadFactoryName the name of the thread factory.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 136, value = "Virtual threads are not supported by this Java runtime, %s will create platform threads")
+    void virtualThreadsNotSupported(String threadFactoryName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 137, value = "Failed to store the annotation index of %s in the annotation index cache")
+    void failedToStoreCachedAnnotationIndex(@Cause Throwable cause, String resourceRoot);
+
+    @LogMessage(level = WARN)
+    @Message(id = 138, value = "Invalid value %s for system property %s, using %d deployment processing threads")
+    void invalidDeploymentProcessingThreads(String value, String property, int threads);
+
+    @LogMessage(level = WARN)
+    @Message(id = 139, value = "Invalid value %s for system property %s, component starts are not bounded")
+    void invalidComponentStartThreads(String value, String property);
+
+    @LogMessage(level = WARN)
+    @Message(id = 140, value = "Invalid value %s for system property %s, using %d")
+    void invalidAnnotationIndexCacheMaxSize(String value, String property, long maxSize);
 }
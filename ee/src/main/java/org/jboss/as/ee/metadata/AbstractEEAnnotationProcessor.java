@@ -28,6 +28,7 @@ import org.jboss.as.ee.component.Attachments;
 import org.jboss.as.ee.component.EEModuleClassDescription;
 import org.jboss.as.ee.component.EEModuleDescription;
 import org.jboss.as.ee.structure.EJBAnnotationPropertyReplacement;
+import org.jboss.as.ee.utils.ParallelProcessingUtils;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
@@ -53,8 +54,10 @@ public abstract class AbstractEEAnnotationProcessor implements DeploymentUnitPro
         }
 
         final List<ClassAnnotationInformationFactory> factories = annotationInformationFactories();
-        for (final ClassAnnotationInformationFactory factory : factories) {
-            final Map<String, ClassAnnotationInformation<?, ?>> data = factory.createAnnotationInformation(index, propertyReplacer);
+        // the factories only read the index, so their information is created concurrently, and then added in order
+        final List<Map<String, ClassAnnotationInformation<?, ?>>> factoriesData = ParallelProcessingUtils.process(deploymentUnit, getClass().getSimpleName(), factories,
+                factory -> (Map<String, ClassAnnotationInformation<?, ?>>) factory.createAnnotationInformation(index, propertyReplacer));
+        for (final Map<String, ClassAnnotationInformation<?, ?>> data : factoriesData) {
             for (Map.Entry<String, ClassAnnotationInformation<?, ?>> entry : data.entrySet()) {
                 EEModuleClassDescription clazz = eeModuleDescription.addOrGetLocalClassDescription(entry.getKey());
                 clazz.addAnnotationInformation(entry.getValue());
@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.structure;
+
+import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
+
+import java.io.IOException;
+
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentPhaseContext;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.server.deployment.DeploymentUtils;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.jandex.Index;
+
+/**
+ * Processor that attaches the cached annotation index of each resource root, before the deployment's resource roots are
+ * scanned. Resource roots with a cached index are not scanned again, the others are marked so that their index is
+ * cached once computed, by the {@link AnnotationIndexCacheStoreProcessor}.
+ */
+public class AnnotationIndexCacheProcessor implements DeploymentUnitProcessor {
+
+    /**
+     * Whether the annotation index cache is enabled, in which case this processor, and the
+     * {@link AnnotationIndexCacheStoreProcessor}, should be registered.
+     *
+     * @return {@code true} if the cache is enabled
+     */
+    public static boolean isEnabled() {
+        return AnnotationIndexCache.ENABLED;
+    }
+
+    @Override
+    public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
+        final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
+        for (ResourceRoot resourceRoot : DeploymentUtils.allResourceRoots(deploymentUnit)) {
+            if (!AnnotationIndexCache.isCacheable(resourceRoot)) {
+                continue;
+            }
+            final String key;
+            try {
+                key = AnnotationIndexCache.computeKey(resourceRoot);
+            } catch (IOException e) {
+                // the resource root is scanned as usual, which reports any actual read failure
+                ROOT_LOGGER.debugf(e, "Failed to compute the annotation index cache key of %s", resourceRoot);
+                continue;
+            }
+            final Index index = AnnotationIndexCache.read(key);
+            if (index != null) {
+                ROOT_LOGGER.debugf("Using cached annotation index %s for %s", key, resourceRoot);
+                resourceRoot.putAttachment(Attachments.ANNOTATION_INDEX, index);
+            } else {
+                resourceRoot.putAttachment(AnnotationIndexCache.CACHE_KEY, key);
+            }
+        }
+    }
+}
@@ -74,7 +74,8 @@ public class DefaultBindingsAdd extends AbstractBoottimeAddStepHandler {
         }
 
         context.addStep(new AbstractDeploymentChainStep() {
-            protected void execute(DeploymentProcessorTarget processorTarget) {
+            protected void execute(DeploymentProcessorTarget target) {
+                final DeploymentProcessorTarget processorTarget = DeploymentProcessorTimings.wrap(target);
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, STRUCTURE_EE_DEFAULT_BINDINGS_CONFIG, defaultBindingsConfigurationProcessor);
             }
         }, OperationContext.Stage.RUNTIME);
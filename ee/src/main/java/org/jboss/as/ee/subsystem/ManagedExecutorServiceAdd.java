@@ -70,18 +70,24 @@ public class ManagedExecutorServiceAdd extends AbstractAddStepHandler {
         final long hungTaskTerminationPeriod = ManagedExecutorServiceResourceDefinition.HUNG_TASK_TERMINATION_PERIOD_AD.resolveModelAttribute(context, model).asLong();
         final long hungTaskThreshold = ManagedExecutorServiceResourceDefinition.HUNG_TASK_THRESHOLD_AD.resolveModelAttribute(context, model).asLong();
         final boolean longRunningTasks = ManagedExecutorServiceResourceDefinition.LONG_RUNNING_TASKS_AD.resolveModelAttribute(context, model).asBoolean();
+        final boolean virtualThreads = ManagedExecutorServiceResourceDefinition.VIRTUAL_THREADS_AD.resolveModelAttribute(context, model).asBoolean();
 
         final int coreThreads;
         final ModelNode coreThreadsModel = ManagedExecutorServiceResourceDefinition.CORE_THREADS_AD.resolveModelAttribute(context, model);
-        if (coreThreadsModel.isDefined()) {
+        final ModelNode maxThreadsModel = ManagedExecutorServiceResourceDefinition.MAX_THREADS_AD.resolveModelAttribute(context, model);
+        if (virtualThreads) {
+            // virtual threads are not worth pooling, max-threads is the number of tasks allowed to run concurrently
+            coreThreads = maxThreadsModel.isDefined() && maxThreadsModel.asInt() > 0 ? maxThreadsModel.asInt() : Integer.MAX_VALUE;
+        } else if (coreThreadsModel.isDefined()) {
             coreThreads = coreThreadsModel.asInt();
         } else {
             coreThreads = (ProcessorInfo.availableProcessors() * 2);
         }
 
         final int maxThreads;
-        final ModelNode maxThreadsModel = ManagedExecutorServiceResourceDefinition.MAX_THREADS_AD.resolveModelAttribute(context, model);
-        if (maxThreadsModel.isDefined()) {
+        if (virtualThreads) {
+            maxThreads = coreThreads;
+        } else if (maxThreadsModel.isDefined()) {
             maxThreads = maxThreadsModel.asInt();
         } else {
             maxThreads = coreThreads;
@@ -117,7 +123,7 @@ public class ManagedExecutorServiceAdd extends AbstractAddStepHandler {
 
         final CapabilityServiceBuilder serviceBuilder = context.getCapabilityServiceTarget().addCapability(ManagedExecutorServiceResourceDefinition.CAPABILITY);
         final Supplier<ManagedExecutorHungTasksPeriodicTerminationService> hungTasksPeriodicTerminationService = serviceBuilder.requires(ConcurrentServiceNames.HUNG_TASK_PERIODIC_TERMINATION_SERVICE_NAME);
-        final ManagedExecutorServiceService service = new ManagedExecutorServiceService(name, jndiName, hungTaskThreshold, hungTaskTerminationPeriod, longRunningTasks, coreThreads, maxThreads, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueLength, rejectPolicy, threadPriority, hungTasksPeriodicTerminationService);
+        final ManagedExecutorServiceService service = new ManagedExecutorServiceService(name, jndiName, hungTaskThreshold, hungTaskTerminationPeriod, longRunningTasks, coreThreads, maxThreads, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueLength, rejectPolicy, threadPriority, virtualThreads, hungTasksPeriodicTerminationService);
         serviceBuilder.setInstance(service);
         String contextService = null;
         if(model.hasDefined(ManagedExecutorServiceResourceDefinition.CONTEXT_SERVICE)) {
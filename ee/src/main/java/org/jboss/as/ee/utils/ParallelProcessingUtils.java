@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ee.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ee.logging.EeLogger;
+import org.jboss.as.server.Services;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.msc.service.ServiceController;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Fans out independent units of deployment processing work, such as the processing of each component of a deployment
+ * unit, on the server executor. Sub deployments are already processed concurrently by the service container, so this
+ * only parallelizes work within a single deployment unit processor invocation.
+ * <p>
+ * The number of threads working on a single invocation, including the calling thread, is set by the
+ * {@code jboss.ee.deployment-processing-threads} system property, and defaults to the number of available processors.
+ * A value lower than 2 disables the parallel processing.
+ */
+public final class ParallelProcessingUtils {
+
+    public static final String THREADS_PROPERTY = "jboss.ee.deployment-processing-threads";
+
+    private static final int THREADS = threads();
+
+    /**
+     * A unit of work, applied to each item.
+     */
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R apply(T item) throws DeploymentUnitProcessingException;
+    }
+
+    /**
+     * Applies the specified task to each item, concurrently if enabled, and waits for all of them to complete. The
+     * calling thread also processes items, so that progress does not depend on the executor availability.
+     *
+     * @param deploymentUnit the deployment unit being processed
+     * @param description the description of the work, used for logging
+     * @param items the items to process
+     * @param task the task applied to each item, which must not depend on the state of the calling thread
+     * @return the results, in the order of the items
+     * @throws DeploymentUnitProcessingException the first failure of a task, after all tasks completed
+     */
+    public static <T, R> List<R> process(final DeploymentUnit deploymentUnit, final String description, final List<T> items, final Task<? super T, R> task) throws DeploymentUnitProcessingException {
+        final int size = items.size();
+        final Executor executor = (THREADS < 2 || size < 2) ? null : getServerExecutor(deploymentUnit);
+        final List<R> results = new ArrayList<>(size);
+        if (executor == null) {
+            for (T item : items) {
+                results.add(task.apply(item));
+            }
+            return results;
+        }
+        final long start = System.nanoTime();
+        final List<FutureTask<R>> futures = new ArrayList<>(size);
+        for (T item : items) {
+            futures.add(new FutureTask<>(() -> task.apply(item)));
+        }
+        // each worker, including the calling thread, runs the next task not picked yet
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                futures.get(i).run();
+            }
+        };
+        final int helpers = Math.min(THREADS, size) - 1;
+        try {
+            for (int i = 0; i < helpers; i++) {
+                executor.execute(worker);
+            }
+        } catch (RejectedExecutionException e) {
+            // the server is shutting down, the remaining tasks are run by the calling thread
+        }
+        worker.run();
+        Throwable failure = null;
+        for (FutureTask<R> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof DeploymentUnitProcessingException) {
+                throw (DeploymentUnitProcessingException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new DeploymentUnitProcessingException(failure);
+        }
+        EeLogger.ROOT_LOGGER.debugf("%s: processed %d items in %d ms", description, size, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return results;
+    }
+
+    private static Executor getServerExecutor(final DeploymentUnit deploymentUnit) {
+        final ServiceController<?> controller = deploymentUnit.getServiceRegistry().getService(Services.JBOSS_SERVER_EXECUTOR);
+        return (controller != null && controller.getState() == ServiceController.State.UP) ? (Executor) controller.getValue() : null;
+    }
+
+    private static int threads() {
+        final int defaultThreads = Runtime.getRuntime().availableProcessors();
+        final String value = WildFlySecurityManager.getPropertyPrivileged(THREADS_PROPERTY, null);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                EeLogger.ROOT_LOGGER.invalidDeploymentProcessingThreads(value, THREADS_PROPERTY, defaultThreads);
+            }
+        }
+        return defaultThreads;
+    }
+
+    private ParallelProcessingUtils() {
+    }
+}
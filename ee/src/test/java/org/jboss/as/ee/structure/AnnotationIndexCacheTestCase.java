@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.structure;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for the eviction of {@link AnnotationIndexCache} entries.
+ */
+public class AnnotationIndexCacheTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void evict() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        Path oldest = createEntry(directory, "a", 1000);
+        Path older = createEntry(directory, "b", 2000);
+        Path newest = createEntry(directory, "c", 3000);
+
+        // within the maximum size
+        AnnotationIndexCache.evict(directory, newest, 30);
+        assertTrue(Files.exists(oldest));
+        assertTrue(Files.exists(older));
+        assertTrue(Files.exists(newest));
+
+        AnnotationIndexCache.evict(directory, newest, 20);
+        assertFalse(Files.exists(oldest));
+        assertTrue(Files.exists(older));
+        assertTrue(Files.exists(newest));
+    }
+
+    @Test
+    public void evictRetained() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        Path oldest = createEntry(directory, "a", 1000);
+        Path newest = createEntry(directory, "b", 2000);
+
+        // the retained entry is kept, even if the cache is still too large with it
+        AnnotationIndexCache.evict(directory, oldest, 5);
+        assertTrue(Files.exists(oldest));
+        assertFalse(Files.exists(newest));
+    }
+
+    private static Path createEntry(Path directory, String key, long lastModified) throws IOException {
+        Path entry = directory.resolve(key + ".idx");
+        Files.write(entry, new byte[10]);
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(lastModified));
+        return entry;
+    }
+}
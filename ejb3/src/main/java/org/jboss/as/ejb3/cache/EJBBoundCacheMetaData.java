@@ -33,6 +33,7 @@ public class EJBBoundCacheMetaData extends AbstractEJBBoundMetaData {
     private static final long serialVersionUID = -3246398329247802494L;
 
     private String cacheName;
+    private Integer readyPoolSize;
 
     public String getCacheName() {
         return cacheName;
@@ -41,4 +42,12 @@ public class EJBBoundCacheMetaData extends AbstractEJBBoundMetaData {
     public void setCacheName(final String cacheName) {
         this.cacheName = cacheName;
     }
+
+    public Integer getReadyPoolSize() {
+        return readyPoolSize;
+    }
+
+    public void setReadyPoolSize(final Integer readyPoolSize) {
+        this.readyPoolSize = readyPoolSize;
+    }
 }
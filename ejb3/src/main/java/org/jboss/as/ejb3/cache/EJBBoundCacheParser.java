@@ -30,7 +30,7 @@ import org.jboss.metadata.property.PropertyReplacer;
 
 /**
  * Parser for <code>urn:ejb-cache</code> namespace. The <code>urn:ejb-cache</code> namespace elements
- * can be used to configure cache names for Jakarta Enterprise Beans.
+ * can be used to configure cache names, and the size of the ready pool of stateful session beans, for Jakarta Enterprise Beans.
  *
  * @author Jaikiran Pai
  * @author Stuart Douglas
@@ -39,10 +39,12 @@ public class EJBBoundCacheParser extends AbstractEJBBoundMetaDataParser<EJBBound
 
     public static final String NAMESPACE_URI_1_0 = "urn:ejb-cache:1.0";
     public static final String NAMESPACE_URI_2_0 = "urn:ejb-cache:2.0";
+    public static final String NAMESPACE_URI_2_1 = "urn:ejb-cache:2.1";
 
 
     private static final String ROOT_ELEMENT_CACHE = "cache";
     private static final String CACHE_REF = "cache-ref";
+    private static final String READY_POOL_SIZE = "ready-pool-size";
 
     @Override
     public EJBBoundCacheMetaData parse(final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
@@ -61,7 +63,7 @@ public class EJBBoundCacheParser extends AbstractEJBBoundMetaDataParser<EJBBound
         final String namespaceURI = reader.getNamespaceURI();
         final String elementName = reader.getLocalName();
         // if it doesn't belong to our namespace then let the super handle this
-        if (!NAMESPACE_URI_1_0.equals(namespaceURI) && !NAMESPACE_URI_2_0.equals(namespaceURI)) {
+        if (!NAMESPACE_URI_1_0.equals(namespaceURI) && !NAMESPACE_URI_2_0.equals(namespaceURI) && !NAMESPACE_URI_2_1.equals(namespaceURI)) {
             super.processElement(cacheMetaData, reader, propertyReplacer);
             return;
         }
@@ -69,6 +71,13 @@ public class EJBBoundCacheParser extends AbstractEJBBoundMetaDataParser<EJBBound
             final String cacheName = getElementText(reader, propertyReplacer);
             // set the cache name in the metadata
             cacheMetaData.setCacheName(cacheName);
+        } else if (READY_POOL_SIZE.equals(elementName) && NAMESPACE_URI_2_1.equals(namespaceURI)) {
+            final String readyPoolSize = getElementText(reader, propertyReplacer);
+            try {
+                cacheMetaData.setReadyPoolSize(Integer.parseUnsignedInt(readyPoolSize.trim()));
+            } catch (NumberFormatException e) {
+                throw unexpectedValue(reader, e);
+            }
         } else {
             throw unexpectedElement(reader);
         }
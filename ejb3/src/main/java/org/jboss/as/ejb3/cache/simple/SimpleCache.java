@@ -21,12 +21,19 @@
  */
 package org.jboss.as.ejb3.cache.simple;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -41,9 +48,12 @@ import org.jboss.ejb.client.NodeAffinity;
 import org.wildfly.clustering.ee.Scheduler;
 import org.wildfly.clustering.ee.cache.scheduler.LinkedScheduledEntries;
 import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.ejb.PassivationListener;
 
 /**
  * Simple {@link Cache} implementation using in-memory storage and eager expiration.
+ * If configured with a maximum size, the least recently used idle beans exceeding that size are passivated to a local store,
+ * and activated again upon their next access.
  *
  * @param <K> the cache key type
  * @param <V> the cache value type
@@ -57,27 +67,48 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
     private final Duration timeout;
     private final ServerEnvironment environment;
     private final Scheduler<K, Instant> scheduler = new LocalScheduler<>(new LinkedScheduledEntries<>(), this, Duration.ZERO);
+    private final int maxSize;
+    private final PassivationListener<V> passivationListener;
+    private final SimplePassivationStore<V> store;
+    // Keys of idle beans eligible for passivation, ordered from least to most recently used
+    private final Set<K> idle = new LinkedHashSet<>();
+    private final AtomicInteger passivated = new AtomicInteger();
 
     public SimpleCache(StatefulObjectFactory<V> factory, Supplier<K> identifierFactory, StatefulTimeoutInfo timeout, ServerEnvironment environment) {
+        this(factory, identifierFactory, timeout, environment, Integer.MAX_VALUE, null, null);
+    }
+
+    public SimpleCache(StatefulObjectFactory<V> factory, Supplier<K> identifierFactory, StatefulTimeoutInfo timeout, ServerEnvironment environment, int maxSize, PassivationListener<V> passivationListener, SimplePassivationStore<V> store) {
         this.factory = factory;
         this.identifierFactory = identifierFactory;
         // A value of -1 means the bean will never be removed due to timeout
         this.timeout = (timeout != null && timeout.getValue() >= 0) ? Duration.of(timeout.getValue(), timeout.getTimeUnit().toChronoUnit()) : null;
         this.environment = environment;
+        this.maxSize = maxSize;
+        this.passivationListener = passivationListener;
+        this.store = store;
     }
 
     @Override
     public void start() {
-        // Do nothing
+        if (this.store != null) {
+            this.store.start();
+        }
     }
 
     @Override
     public void stop() {
         this.scheduler.close();
         for (Map.Entry<K, Entry<V>> entry : this.entries.entrySet()) {
-            this.factory.destroyInstance(entry.getValue().getValue());
+            entry.getValue().remove(this.factory::destroyInstance, this::removePassivated);
         }
         this.entries.clear();
+        if (this.store != null) {
+            synchronized (this.idle) {
+                this.idle.clear();
+            }
+            this.store.close();
+        }
     }
 
     @Override
@@ -103,19 +134,30 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
         }
         V bean = this.factory.createInstance();
         this.entries.put(bean.getId(), new Entry<>(bean));
+        if (this.store != null) {
+            this.evict();
+            // A newly created bean is idle until its first invocation, but is not itself a candidate for immediate eviction
+            this.idle(bean.getId());
+        }
         return bean;
     }
 
     @Override
     public void discard(V value) {
-        this.entries.remove(value.getId());
+        K id = value.getId();
+        Entry<V> entry = this.entries.remove(id);
+        if (entry != null) {
+            this.busy(id);
+            entry.remove(bean -> {}, this::removePassivated);
+        }
     }
 
     @Override
     public void remove(K key) {
         Entry<V> entry = this.entries.remove(key);
         if (entry != null) {
-            this.factory.destroyInstance(entry.getValue());
+            this.busy(key);
+            entry.remove(this.factory::destroyInstance, this::removePassivated);
         }
     }
 
@@ -124,8 +166,14 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
         Entry<V> entry = this.entries.get(key);
         if (entry == null) return null;
         this.scheduler.cancel(key);
-        entry.use();
-        return entry.getValue();
+        this.busy(key);
+        try {
+            return entry.use(file -> this.activate(key, file));
+        } catch (RuntimeException e) {
+            // Passivated bean could not be restored
+            this.entries.remove(key, entry);
+            throw e;
+        }
     }
 
     @Override
@@ -137,33 +185,38 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
     public void release(V bean) {
         K id = bean.getId();
         Entry<V> entry = this.entries.get(id);
-        if (entry != null
-                && entry.done()
-                && this.timeout != null) {
-            if (!this.timeout.isZero()) {
-                this.scheduler.schedule(id, Instant.now().plus(this.timeout));
-            } else {
-                // The Jakarta Enterprise Beans specification allows a 0 timeout, which means the bean is immediately eligible
-                // for removal.
-                // However, removing it directly is faster than scheduling it for immediate removal.
-                remove(id);
+        if (entry != null && entry.done()) {
+            if (this.timeout != null) {
+                if (!this.timeout.isZero()) {
+                    this.scheduler.schedule(id, Instant.now().plus(this.timeout));
+                } else {
+                    // The Jakarta Enterprise Beans specification allows a 0 timeout, which means the bean is immediately eligible
+                    // for removal.
+                    // However, removing it directly is faster than scheduling it for immediate removal.
+                    remove(id);
+                    return;
+                }
+            }
+            if (this.store != null) {
+                this.idle(id);
+                this.evict();
             }
         }
     }
 
     @Override
     public int getCacheSize() {
-        return this.entries.size();
+        return this.entries.size() - this.passivated.get();
     }
 
     @Override
     public int getPassivatedCount() {
-        return 0;
+        return this.passivated.get();
     }
 
     @Override
     public int getTotalSize() {
-        return this.getCacheSize();
+        return this.entries.size();
     }
 
     @Override
@@ -172,24 +225,113 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
         return true;
     }
 
+    private void idle(K key) {
+        synchronized (this.idle) {
+            this.idle.add(key);
+        }
+    }
+
+    private void busy(K key) {
+        if (this.store != null) {
+            synchronized (this.idle) {
+                this.idle.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Passivates least recently used idle beans until the number of beans in memory no longer exceeds the maximum size.
+     */
+    private void evict() {
+        while (this.getCacheSize() > this.maxSize) {
+            K key = null;
+            synchronized (this.idle) {
+                Iterator<K> keys = this.idle.iterator();
+                if (keys.hasNext()) {
+                    key = keys.next();
+                    keys.remove();
+                }
+            }
+            if (key == null) return;
+            Entry<V> entry = this.entries.get(key);
+            if (entry != null) {
+                try {
+                    entry.passivate(this::passivate);
+                } catch (RuntimeException e) {
+                    EjbLogger.ROOT_LOGGER.failedToPassivateBean(key, e);
+                }
+            }
+        }
+    }
+
+    private Path passivate(V bean) {
+        this.passivationListener.prePassivate(bean);
+        try {
+            Path file = this.store.store(bean);
+            this.passivated.incrementAndGet();
+            return file;
+        } catch (IOException | RuntimeException e) {
+            this.passivationListener.postActivate(bean);
+            throw EjbLogger.ROOT_LOGGER.passivationFailed(e, bean.getId());
+        }
+    }
+
+    private V activate(K id, Path file) {
+        try {
+            V bean = this.store.load(file);
+            this.passivationListener.postActivate(bean);
+            return bean;
+        } catch (IOException e) {
+            throw EjbLogger.ROOT_LOGGER.passivatedBeanActivationFailed(e, id, file);
+        } finally {
+            this.passivated.decrementAndGet();
+        }
+    }
+
+    private void removePassivated(Path file) {
+        this.store.remove(file);
+        this.passivated.decrementAndGet();
+    }
+
     static class Entry<V> {
-        private final V value;
-        private final AtomicInteger usage = new AtomicInteger();
+        private V value;
+        private Path file;
+        private int usage;
+        private boolean removed;
 
         Entry(V value) {
             this.value = value;
         }
 
-        void use() {
-            this.usage.incrementAndGet();
+        synchronized V use(Function<Path, V> activation) {
+            if (this.value == null) {
+                this.value = activation.apply(this.file);
+                this.file = null;
+            }
+            this.usage += 1;
+            return this.value;
         }
 
-        boolean done() {
-            return this.usage.decrementAndGet() == 0;
+        synchronized boolean done() {
+            return --this.usage == 0;
         }
 
-        V getValue() {
-            return this.value;
+        synchronized void passivate(Function<V, Path> passivation) {
+            if (!this.removed && (this.usage == 0) && (this.value != null)) {
+                this.file = passivation.apply(this.value);
+                this.value = null;
+            }
+        }
+
+        synchronized void remove(Consumer<V> valueRemover, Consumer<Path> fileRemover) {
+            if (!this.removed) {
+                this.removed = true;
+                if (this.value != null) {
+                    valueRemover.accept(this.value);
+                } else if (this.file != null) {
+                    fileRemover.accept(this.file);
+                }
+            }
         }
     }
 }
@@ -29,14 +29,20 @@ import org.jboss.as.ejb3.cache.Cache;
 import org.jboss.as.ejb3.cache.CacheFactory;
 import org.jboss.as.ejb3.cache.Identifiable;
 import org.jboss.as.ejb3.cache.StatefulObjectFactory;
+import org.jboss.as.ejb3.component.stateful.MarshallingConfigurationRepositoryServiceConfigurator;
 import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
 import org.jboss.as.server.ServerEnvironment;
 import org.jboss.as.server.ServerEnvironmentService;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.modules.Module;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
 import org.wildfly.clustering.ejb.PassivationListener;
+import org.wildfly.clustering.marshalling.jboss.JBossByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.MarshallingConfigurationRepository;
 import org.wildfly.clustering.service.ServiceSupplierDependency;
 import org.wildfly.clustering.service.SimpleServiceNameProvider;
 import org.wildfly.clustering.service.SupplierDependency;
@@ -52,10 +58,17 @@ public class SimpleCacheFactoryServiceConfigurator<K, V extends Identifiable<K>>
 
     private final StatefulComponentDescription componentDescription;
     private final SupplierDependency<ServerEnvironment> environment = new ServiceSupplierDependency<>(ServerEnvironmentService.SERVICE_NAME);
+    private final Integer maxSize;
+    private final Module module;
+    private final SupplierDependency<MarshallingConfigurationRepository> repository;
 
-    public SimpleCacheFactoryServiceConfigurator(StatefulComponentDescription description) {
+    public SimpleCacheFactoryServiceConfigurator(DeploymentUnit unit, StatefulComponentDescription description, Integer maxSize) {
         super(description.getCacheFactoryServiceName());
         this.componentDescription = description;
+        // Beans that are not passivation capable are never evicted
+        this.maxSize = description.isPassivationApplicable() ? maxSize : null;
+        this.module = unit.getAttachment(Attachments.MODULE);
+        this.repository = (this.maxSize != null) ? new ServiceSupplierDependency<>(new MarshallingConfigurationRepositoryServiceConfigurator(unit)) : null;
     }
 
     @Override
@@ -63,12 +76,19 @@ public class SimpleCacheFactoryServiceConfigurator<K, V extends Identifiable<K>>
         ServiceName name = this.getServiceName();
         ServiceBuilder<?> builder = target.addService(name);
         Consumer<CacheFactory<K, V>> factory = this.environment.register(builder).provides(name);
+        if (this.repository != null) {
+            this.repository.register(builder);
+        }
         Service service = Service.newInstance(factory, this);
         return builder.setInstance(service);
     }
 
     @Override
     public Cache<K, V> createCache(Supplier<K> identifierFactory, StatefulObjectFactory<V> factory, PassivationListener<V> passivationListener) {
-        return new SimpleCache<>(factory, identifierFactory, this.componentDescription.getStatefulTimeout(), this.environment.get());
+        if (this.maxSize == null) {
+            return new SimpleCache<>(factory, identifierFactory, this.componentDescription.getStatefulTimeout(), this.environment.get());
+        }
+        SimplePassivationStore<V> store = new SimplePassivationStore<>(new JBossByteBufferMarshaller(this.repository.get(), this.module.getClassLoader()), this.environment.get().getServerTempDir().toPath());
+        return new SimpleCache<>(factory, identifierFactory, this.componentDescription.getStatefulTimeout(), this.environment.get(), this.maxSize, passivationListener, store);
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.cache.simple;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Local storage for the beans of a {@link SimpleCache} evicted from memory.
+ * Each passivated bean is marshalled to its own file within a temporary directory that is removed when the store is closed.
+ *
+ * @param <V> the cache value type
+ */
+public class SimplePassivationStore<V> implements AutoCloseable {
+
+    private final ByteBufferMarshaller marshaller;
+    private final Path parent;
+    private final AtomicLong fileIndex = new AtomicLong();
+    private volatile Path directory;
+
+    public SimplePassivationStore(ByteBufferMarshaller marshaller, Path parent) {
+        this.marshaller = marshaller;
+        this.parent = parent.resolve("ejb3").resolve("simple-cache");
+    }
+
+    /**
+     * Creates the directory in which passivated beans will be stored.
+     */
+    public void start() {
+        try {
+            Files.createDirectories(this.parent);
+            this.directory = Files.createTempDirectory(this.parent, null);
+        } catch (IOException e) {
+            throw EjbLogger.ROOT_LOGGER.passivationDirectoryCreationFailed(this.parent.toString());
+        }
+    }
+
+    /**
+     * Writes the specified bean to local storage.
+     * @param value a bean
+     * @return the location of the stored bean
+     * @throws IOException if the bean could not be marshalled
+     */
+    public Path store(V value) throws IOException {
+        Path file = this.directory.resolve(Long.toString(this.fileIndex.incrementAndGet()));
+        try (OutputStream output = Files.newOutputStream(file)) {
+            this.marshaller.writeTo(output, value);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Reads the bean from the specified location, and removes it from local storage.
+     * @param file the location of a stored bean
+     * @return the stored bean
+     * @throws IOException if the bean could not be unmarshalled
+     */
+    @SuppressWarnings("unchecked")
+    public V load(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return (V) this.marshaller.readFrom(input);
+        } finally {
+            this.remove(file);
+        }
+    }
+
+    /**
+     * Removes the bean at the specified location from local storage.
+     * @param file the location of a stored bean
+     */
+    public void remove(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            EjbLogger.ROOT_LOGGER.debugf(e, "Failed to delete %s", file);
+        }
+    }
+
+    @Override
+    public void close() {
+        Path directory = this.directory;
+        if (directory != null) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    this.remove(file);
+                }
+            } catch (IOException e) {
+                EjbLogger.ROOT_LOGGER.debugf(e, "Failed to list %s", directory);
+            }
+            this.remove(directory);
+            this.directory = null;
+        }
+    }
+}
@@ -58,6 +58,7 @@ import org.jboss.as.ejb3.component.interceptors.ShutDownInterceptorFactory;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
 import org.jboss.as.ejb3.context.CurrentInvocationContext;
 import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.security.AuthorizationCache;
 import org.jboss.as.ejb3.security.EJBSecurityMetaData;
 import org.jboss.as.ejb3.security.JaccInterceptor;
 import org.jboss.as.ejb3.subsystem.EJBStatistics;
@@ -125,6 +126,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
     private final AtomicBoolean exceptionLoggingEnabled;
 
     private final SecurityDomain securityDomain;
+    private final AuthorizationCache authorizationCache;
     private final boolean enableJacc;
     private ThreadLocal<SecurityIdentity> incomingRunAsIdentity;
     private final Function<SecurityIdentity, Set<SecurityIdentity>> identityOutflowFunction;
@@ -181,6 +183,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         this.exceptionLoggingEnabled = ejbComponentCreateService.getExceptionLoggingEnabled();
 
         this.securityDomain = ejbComponentCreateService.getSecurityDomain();
+        this.authorizationCache = ejbComponentCreateService.getAuthorizationCache();
         this.enableJacc = ejbComponentCreateService.isEnableJacc();
         this.legacyCompliantPrincipalPropagation = ejbComponentCreateService.isLegacyCompliantPrincipalPropagation();
         this.incomingRunAsIdentity = new ThreadLocal<>();
@@ -571,6 +574,14 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         return securityDomain;
     }
 
+    /**
+     * Returns the cache of authorization decisions of the application security domain of this component, if any.
+     * @return an authorization cache, or null, if this component is not associated with an application security domain
+     */
+    public AuthorizationCache getAuthorizationCache() {
+        return authorizationCache;
+    }
+
     public boolean isSecurityDomainKnown() {
         return securityDomain != null;
     }
@@ -46,7 +46,9 @@ import org.jboss.as.ee.component.ViewDescription;
 import org.jboss.as.ejb3.component.interceptors.ShutDownInterceptorFactory;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponentDescription;
 import org.jboss.as.ejb3.deployment.ApplicationExceptions;
+import org.jboss.as.ejb3.security.AuthorizationCache;
 import org.jboss.as.ejb3.security.EJBSecurityMetaData;
+import org.jboss.as.ejb3.subsystem.ApplicationSecurityDomainService.ApplicationSecurityDomain;
 import org.jboss.as.ejb3.suspend.EJBSuspendHandlerService;
 import org.jboss.as.ejb3.timerservice.spi.ManagedTimerServiceFactory;
 import org.jboss.invocation.InterceptorFactory;
@@ -98,6 +100,7 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
     private final InjectedValue<ControlPoint> controlPoint = new InjectedValue<>();
     private final InjectedValue<AtomicBoolean> exceptionLoggingEnabled = new InjectedValue<>();
     private final InjectedValue<SecurityDomain> securityDomain = new InjectedValue<>();
+    private final InjectedValue<ApplicationSecurityDomain> applicationSecurityDomain = new InjectedValue<>();
     private final InjectedValue<Function> identityOutflowFunction = new InjectedValue<>();
     private final InjectedValue<EJBSuspendHandlerService> ejbSuspendHandler = new InjectedValue<>();
     private final InjectedValue<ManagedTimerServiceFactory> timerServiceFactory = new InjectedValue<>();
@@ -369,6 +372,15 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
         return securityDomain.getOptionalValue();
     }
 
+    public Injector<ApplicationSecurityDomain> getApplicationSecurityDomainInjector() {
+        return applicationSecurityDomain;
+    }
+
+    public AuthorizationCache getAuthorizationCache() {
+        final ApplicationSecurityDomain applicationSecurityDomain = this.applicationSecurityDomain.getOptionalValue();
+        return (applicationSecurityDomain != null) ? applicationSecurityDomain.getAuthorizationCache() : null;
+    }
+
     public boolean isEnableJacc() {
         return jaccRequired;
     }
@@ -24,6 +24,7 @@ package org.jboss.as.ejb3.component.invocationmetrics;
 import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -31,6 +32,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ejb.TransactionAttributeType;
 
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
@@ -66,6 +70,14 @@ public class InvocationMetrics {
 
     private final ConcurrentMap<String, AtomicReference<Values>> methods = new ConcurrentHashMap<String, AtomicReference<Values>>();
 
+    private final Map<TransactionAttributeType, LongAdder> transactionAttributes = new EnumMap<TransactionAttributeType, LongAdder>(TransactionAttributeType.class);
+
+    public InvocationMetrics() {
+        for (TransactionAttributeType type : TransactionAttributeType.values()) {
+            transactionAttributes.put(type, new LongAdder());
+        }
+    }
+
     void finishInvocation(final Method method, final long invocationWaitTime, final long invocationExecutionTime) {
         concurrent.decrementAndGet();
         for(;;) {
@@ -161,6 +173,26 @@ public class InvocationMetrics {
         return peakConcurrent.get();
     }
 
+    /**
+     * Returns the counter of invocations of container-managed transaction methods with the given transaction attribute.
+     * @param type a transaction attribute
+     * @return an invocation counter
+     */
+    public LongAdder getTransactionAttributeCounter(final TransactionAttributeType type) {
+        return transactionAttributes.get(type);
+    }
+
+    /**
+     * @return the number of invocations of container-managed transaction methods, per transaction attribute
+     */
+    public Map<TransactionAttributeType, Long> getTransactionAttributeInvocations() {
+        final Map<TransactionAttributeType, Long> result = new EnumMap<TransactionAttributeType, Long>(TransactionAttributeType.class);
+        for (Map.Entry<TransactionAttributeType, LongAdder> entry : transactionAttributes.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return result;
+    }
+
     public long getWaitTime() {
         return values.get().waitTime;
     }
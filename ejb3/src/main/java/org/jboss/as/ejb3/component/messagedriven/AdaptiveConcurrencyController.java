@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of concurrent message deliveries to a message-driven bean, adjusting the limit between a
+ * minimum and a maximum using additive increase / multiplicative decrease.
+ * <p>
+ * Deliveries are sampled over windows of at least one second. At the end of a window the limit is
+ * <ul>
+ * <li>decreased by a quarter if the error rate exceeded 10% or the average delivery latency exceeded twice the
+ * baseline latency, i.e. the lowest average latency observed, slowly drifting towards the current latency;</li>
+ * <li>increased by one if deliveries had to wait for the limit, i.e. messages are backing up;</li>
+ * <li>left unchanged otherwise.</li>
+ * </ul>
+ * The limit starts at the maximum, so that delivery is only throttled once the bean shows signs of overload.
+ * Deliveries held back by the limit block the resource adapter session delivering them.
+ */
+public final class AdaptiveConcurrencyController {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+    private static final int MIN_WINDOW_DELIVERIES = 10;
+    private static final double ERROR_RATE_THRESHOLD = 0.1;
+    private static final double LATENCY_TOLERANCE = 2;
+    private static final double DECREASE_FACTOR = 0.75;
+    // fraction by which the baseline latency follows a higher window latency
+    private static final double BASELINE_DRIFT = 1d / 32;
+
+    private final int min;
+    private final int max;
+    private final Lock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    // guarded by lock
+    private int active;
+    private long windowStart = System.nanoTime();
+    private int windowDeliveries;
+    private int windowErrors;
+    private long windowLatency;
+    private boolean windowBacklog;
+    private double baselineLatency;
+    // written under lock
+    private volatile int limit;
+    private volatile long increases;
+    private volatile long decreases;
+
+    AdaptiveConcurrencyController(final int min, final int max) {
+        this.min = min;
+        this.max = max;
+        this.limit = max;
+    }
+
+    /**
+     * Waits until the current limit permits another delivery.
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (active >= limit) {
+                windowBacklog = true;
+                available.await();
+            }
+            active++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the outcome of a delivery started by {@link #acquire()}, adjusting the limit at the end of a window.
+     *
+     * @param latency the delivery latency in nanoseconds
+     * @param failed whether the delivery failed
+     */
+    void release(final long latency, final boolean failed) {
+        release(latency, failed, System.nanoTime());
+    }
+
+    void release(final long latency, final boolean failed, final long now) {
+        lock.lock();
+        try {
+            active--;
+            windowDeliveries++;
+            windowLatency += latency;
+            if (failed) {
+                windowErrors++;
+            }
+            if (now - windowStart >= WINDOW && windowDeliveries >= MIN_WINDOW_DELIVERIES) {
+                adjust();
+                windowStart = now;
+                windowDeliveries = 0;
+                windowErrors = 0;
+                windowLatency = 0;
+                windowBacklog = false;
+            }
+            if (active < limit) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust() {
+        final double latency = (double) windowLatency / windowDeliveries;
+        if (baselineLatency == 0 || latency < baselineLatency) {
+            baselineLatency = latency;
+        } else {
+            baselineLatency += (latency - baselineLatency) * BASELINE_DRIFT;
+        }
+        final int limit = this.limit;
+        if ((double) windowErrors / windowDeliveries > ERROR_RATE_THRESHOLD || latency > baselineLatency * LATENCY_TOLERANCE) {
+            final int decreased = Math.max(min, (int) (limit * DECREASE_FACTOR));
+            if (decreased < limit) {
+                this.limit = decreased;
+                decreases++;
+            }
+        } else if (windowBacklog && limit < max) {
+            this.limit = limit + 1;
+            increases++;
+        }
+    }
+
+    /**
+     * Returns the current maximum number of concurrent deliveries.
+     *
+     * @return the delivery concurrency
+     */
+    public int getConcurrency() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of times the delivery concurrency was increased.
+     *
+     * @return the number of increases
+     */
+    public long getIncreases() {
+        return increases;
+    }
+
+    /**
+     * Returns the number of times the delivery concurrency was decreased.
+     *
+     * @return the number of decreases
+     */
+    public long getDecreases() {
+        return decreases;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.ComponentInterceptorFactory;
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.InterceptorFactory;
+import org.jboss.invocation.InterceptorFactoryContext;
+
+/**
+ * Subjects message deliveries to the {@link AdaptiveConcurrencyController} of a message-driven bean.
+ */
+final class AdaptiveConcurrencyInterceptor implements Interceptor {
+
+    static final InterceptorFactory FACTORY = new ComponentInterceptorFactory() {
+        @Override
+        protected Interceptor create(Component component, InterceptorFactoryContext context) {
+            return new AdaptiveConcurrencyInterceptor(((MessageDrivenComponent) component).getDeliveryConcurrencyController());
+        }
+    };
+
+    private final AdaptiveConcurrencyController controller;
+
+    private AdaptiveConcurrencyInterceptor(final AdaptiveConcurrencyController controller) {
+        this.controller = controller;
+    }
+
+    @Override
+    public Object processInvocation(InterceptorContext context) throws Exception {
+        try {
+            controller.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        }
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final Object result = context.proceed();
+            failed = false;
+            return result;
+        } finally {
+            controller.release(System.nanoTime() - start, failed);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.pool.Pool;
+
+/**
+ * Pool lease shared by the consecutive deliveries of a message endpoint.
+ * <p>
+ * Instead of obtaining a bean instance from the pool for each message, the deliveries of an endpoint reuse the
+ * same instance until either the batch size is reached, the batch timeout elapses or the endpoint is released.
+ * Once the batch timeout elapses, an idle instance is returned to the pool by the scheduler, and an instance in use
+ * is returned at the end of its delivery.
+ * An instance that is discarded because of a system exception ends the batch; the next delivery obtains a fresh
+ * instance. Transaction demarcation is not affected, each message is still delivered in its own transaction.
+ * <p>
+ * A resource adapter uses a message endpoint from a single thread at a time, but may release it from another one.
+ */
+final class MessageDeliveryBatch {
+
+    private final Pool<MessageDrivenComponentInstance> pool;
+    private final ScheduledExecutorService scheduler;
+    private final int size;
+    private final long timeout;
+    // the leased instance while no delivery is in progress
+    private MessageDrivenComponentInstance instance;
+    private int deliveries;
+    private long leaseStart;
+    private ScheduledFuture<?> expiration;
+    private boolean closed;
+
+    MessageDeliveryBatch(final Pool<MessageDrivenComponentInstance> pool, final ScheduledExecutorService scheduler, final int size, final long timeout, final TimeUnit unit) {
+        this.pool = pool;
+        this.scheduler = scheduler;
+        this.size = size;
+        this.timeout = unit.toNanos(timeout);
+    }
+
+    /**
+     * Obtains the instance for the next delivery, which must be handed back using either {@link #release} or
+     * {@link #discard}.
+     *
+     * @return the bean instance
+     */
+    MessageDrivenComponentInstance acquire() {
+        MessageDrivenComponentInstance expired = null;
+        synchronized (this) {
+            if (instance != null) {
+                final MessageDrivenComponentInstance leased = instance;
+                instance = null;
+                if (!isExpired()) {
+                    deliveries++;
+                    return leased;
+                }
+                expired = leased;
+                cancelExpiration();
+            }
+        }
+        if (expired != null) {
+            pool.release(expired);
+        }
+        final MessageDrivenComponentInstance leased = pool.get();
+        synchronized (this) {
+            leaseStart = System.nanoTime();
+            deliveries = 1;
+            try {
+                expiration = scheduler.schedule(this::expire, timeout, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // the component is stopping, the instance is returned on release of the endpoint
+                expiration = null;
+            }
+        }
+        return leased;
+    }
+
+    /**
+     * Hands back the instance after a successful delivery. The instance is kept for the next delivery unless the
+     * batch is complete.
+     *
+     * @param leased the instance obtained from {@link #acquire()}
+     */
+    void release(final MessageDrivenComponentInstance leased) {
+        synchronized (this) {
+            if (!closed && deliveries < size && !isExpired()) {
+                instance = leased;
+                return;
+            }
+            cancelExpiration();
+        }
+        pool.release(leased);
+    }
+
+    /**
+     * Hands back an instance which must not be used anymore.
+     *
+     * @param leased the instance obtained from {@link #acquire()}
+     */
+    void discard(final MessageDrivenComponentInstance leased) {
+        synchronized (this) {
+            cancelExpiration();
+        }
+        pool.discard(leased);
+    }
+
+    /**
+     * Returns the leased instance, if any, to the pool. Called when the message endpoint is released.
+     */
+    void close() {
+        final MessageDrivenComponentInstance leased;
+        synchronized (this) {
+            closed = true;
+            leased = instance;
+            instance = null;
+            cancelExpiration();
+        }
+        if (leased != null) {
+            pool.release(leased);
+        }
+    }
+
+    /**
+     * Returns the instance to the pool if it is still idle once the batch timeout elapsed.
+     */
+    private void expire() {
+        final MessageDrivenComponentInstance leased;
+        synchronized (this) {
+            // an instance in use is returned by release(), a new lease has its own expiration
+            if (instance == null || !isExpired()) {
+                return;
+            }
+            leased = instance;
+            instance = null;
+            expiration = null;
+        }
+        pool.release(leased);
+    }
+
+    private boolean isExpired() {
+        return System.nanoTime() - leaseStart >= timeout;
+    }
+
+    private void cancelExpiration() {
+        if (expiration != null) {
+            expiration.cancel(false);
+            expiration = null;
+        }
+    }
+}
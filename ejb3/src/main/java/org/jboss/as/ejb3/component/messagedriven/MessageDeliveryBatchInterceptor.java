@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import java.rmi.RemoteException;
+
+import org.jboss.as.ee.component.ComponentInstance;
+import org.jboss.as.ejb3.component.interceptors.AbstractEJBInterceptor;
+import org.jboss.as.ejb3.component.pool.PooledInstanceInterceptor;
+import org.jboss.invocation.InterceptorContext;
+
+/**
+ * Associates the bean instance leased by the {@link MessageDeliveryBatch} of a message endpoint with the invocation.
+ * Invocations which do not originate from a message endpoint, such as timeouts, obtain their instance from the pool.
+ */
+final class MessageDeliveryBatchInterceptor extends AbstractEJBInterceptor {
+    static final MessageDeliveryBatchInterceptor INSTANCE = new MessageDeliveryBatchInterceptor();
+
+    private MessageDeliveryBatchInterceptor() {
+    }
+
+    @Override
+    public Object processInvocation(InterceptorContext context) throws Exception {
+        final MessageDeliveryBatch batch = context.getPrivateData(MessageDeliveryBatch.class);
+        if (batch == null) {
+            return PooledInstanceInterceptor.INSTANCE.processInvocation(context);
+        }
+        final MessageDrivenComponent component = getComponent(context, MessageDrivenComponent.class);
+        final MessageDrivenComponentInstance instance = batch.acquire();
+        context.putPrivateData(ComponentInstance.class, instance);
+        boolean discarded = false;
+        try {
+            return context.proceed();
+        } catch (Exception ex) {
+            // Detect app exception
+            if (component.getApplicationException(ex.getClass(), context.getMethod()) != null) {
+                throw ex;
+            }
+            if (ex instanceof RuntimeException || ex instanceof RemoteException) {
+                discarded = true;
+                batch.discard(instance);
+            }
+            throw ex;
+        } catch (final Error e) {
+            discarded = true;
+            batch.discard(instance);
+            throw e;
+        } catch (final Throwable t) {
+            discarded = true;
+            batch.discard(instance);
+            throw new RuntimeException(t);
+        } finally {
+            if (!discarded) {
+                batch.release(instance);
+            }
+        }
+    }
+}
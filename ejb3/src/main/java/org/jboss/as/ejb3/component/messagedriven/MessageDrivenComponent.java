@@ -26,7 +26,10 @@ import static java.util.Collections.emptyMap;
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import jakarta.ejb.TransactionAttributeType;
 import jakarta.resource.ResourceException;
@@ -52,6 +55,7 @@ import org.jboss.invocation.Interceptor;
 import org.jboss.jca.core.spi.rar.Endpoint;
 import org.jboss.metadata.ejb.spec.MethodInterfaceType;
 import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.security.manager.action.GetClassLoaderAction;
 
@@ -62,6 +66,13 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
 
     private final Pool<MessageDrivenComponentInstance> pool;
     private final String poolName;
+    private final int deliveryBatchSize;
+    private final long deliveryBatchTimeout;
+    private final AdaptiveConcurrencyController deliveryConcurrencyController;
+    // delivery batches of the message endpoints, keyed by the endpoint delegate
+    private final Map<Object, MessageDeliveryBatch> deliveryBatches = Collections.synchronizedMap(new IdentityHashMap<>());
+    // returns the bean instances of idle delivery batches to the pool
+    private volatile ScheduledThreadPoolExecutor deliveryBatchScheduler;
 
     private final SuspendController suspendController;
     private final ActivationSpec activationSpec;
@@ -140,6 +151,10 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
             this.pool = poolConfig.createPool(factory);
             this.poolName = poolConfig.getPoolName();
         }
+        this.deliveryBatchSize = ejbComponentCreateService.getDeliveryBatchSize();
+        this.deliveryBatchTimeout = ejbComponentCreateService.getDeliveryBatchTimeout();
+        final int deliveryConcurrencyMax = ejbComponentCreateService.getDeliveryConcurrencyMax();
+        this.deliveryConcurrencyController = deliveryConcurrencyMax > 0 ? new AdaptiveConcurrencyController(ejbComponentCreateService.getDeliveryConcurrencyMin(), deliveryConcurrencyMax) : null;
         this.classLoader = ejbComponentCreateService.getModuleClassLoader();
         this.suspendController = ejbComponentCreateService.getSuspendControllerInjectedValue().getValue();
         this.activationSpec = activationSpec;
@@ -181,6 +196,12 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
 
             @Override
             public Object obtain(long timeout, TimeUnit unit) {
+                if (pool != null && deliveryBatchSize > 1) {
+                    final MessageDeliveryBatch batch = new MessageDeliveryBatch(pool, deliveryBatchScheduler, deliveryBatchSize, deliveryBatchTimeout, TimeUnit.MILLISECONDS);
+                    final Object delegate = createViewInstanceProxy(getComponentClass(), Collections.singletonMap(MessageDeliveryBatch.class, batch));
+                    deliveryBatches.put(delegate, batch);
+                    return delegate;
+                }
                 // like this it's a disconnected invocation
 //                return getComponentView(messageListenerInterface).getViewForInstance(null);
                 return createViewInstanceProxy(getComponentClass(), emptyMap());
@@ -188,7 +209,10 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
 
             @Override
             public void release(Object obj) {
-                // do nothing
+                final MessageDeliveryBatch batch = deliveryBatches.remove(obj);
+                if (batch != null) {
+                    batch.close();
+                }
             }
 
             @Override
@@ -217,6 +241,24 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         return poolName;
     }
 
+    /**
+     * Returns the maximum number of consecutive messages a message endpoint delivers to the same bean instance.
+     *
+     * @return the delivery batch size, 1 if delivery batching is disabled
+     */
+    public int getDeliveryBatchSize() {
+        return deliveryBatchSize;
+    }
+
+    /**
+     * Returns the controller adjusting the number of concurrent message deliveries.
+     *
+     * @return the controller, or null if adaptive delivery concurrency is disabled
+     */
+    public AdaptiveConcurrencyController getDeliveryConcurrencyController() {
+        return deliveryConcurrencyController;
+    }
+
     void setEndpoint(final Endpoint endpoint) {
         this.endpoint = endpoint;
     }
@@ -247,6 +289,10 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
 
         if (this.pool != null) {
             this.pool.start();
+            if (this.deliveryBatchSize > 1) {
+                this.deliveryBatchScheduler = new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory(MessageDrivenComponent.class));
+                this.deliveryBatchScheduler.setRemoveOnCancelPolicy(true);
+            }
         }
     }
 
@@ -259,6 +305,11 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
             this.started = false;
         }
 
+        if (this.deliveryBatchScheduler != null) {
+            this.deliveryBatchScheduler.shutdownNow();
+            this.deliveryBatchScheduler = null;
+        }
+
         if (this.pool != null) {
             this.pool.stop();
         }
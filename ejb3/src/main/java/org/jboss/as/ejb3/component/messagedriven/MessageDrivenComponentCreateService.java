@@ -68,6 +68,10 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
     private final InjectedValue<PoolConfig> poolConfig = new InjectedValue<PoolConfig>();
     private final InjectedValue<SuspendController> suspendControllerInjectedValue = new InjectedValue<>();
     private final ClassLoader moduleClassLoader;
+    private final int deliveryBatchSize;
+    private final long deliveryBatchTimeout;
+    private final int deliveryConcurrencyMin;
+    private final int deliveryConcurrencyMax;
 
     /**
      * Construct a new instance.
@@ -86,6 +90,10 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
 
         this.activationProps = componentDescription.getActivationProps();
         this.moduleClassLoader = componentConfiguration.getModuleClassLoader();
+        this.deliveryBatchSize = componentDescription.getDeliveryBatchSize();
+        this.deliveryBatchTimeout = componentDescription.getDeliveryBatchTimeout();
+        this.deliveryConcurrencyMin = componentDescription.getDeliveryConcurrencyMin();
+        this.deliveryConcurrencyMax = componentDescription.getDeliveryConcurrencyMax();
     }
 
     @Override
@@ -260,6 +268,22 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         return this.resourceAdapterInjectedValue;
     }
 
+    public int getDeliveryBatchSize() {
+        return deliveryBatchSize;
+    }
+
+    public long getDeliveryBatchTimeout() {
+        return deliveryBatchTimeout;
+    }
+
+    public int getDeliveryConcurrencyMin() {
+        return deliveryConcurrencyMin;
+    }
+
+    public int getDeliveryConcurrencyMax() {
+        return deliveryConcurrencyMax;
+    }
+
     public ClassLoader getModuleClassLoader() {
         return moduleClassLoader;
     }
@@ -23,6 +23,7 @@ package org.jboss.as.ejb3.component.messagedriven;
 
 import static org.jboss.as.server.deployment.Attachments.CAPABILITY_SERVICE_SUPPORT;
 
+import java.lang.reflect.Method;
 import java.util.Properties;
 import jakarta.ejb.MessageDrivenBean;
 import jakarta.ejb.TransactionManagementType;
@@ -32,6 +33,7 @@ import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.ee.component.Attachments;
 import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.ComponentClientInstance;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.ComponentConfigurator;
 import org.jboss.as.ee.component.ComponentDescription;
@@ -50,9 +52,9 @@ import org.jboss.as.ejb3.component.interceptors.CurrentInvocationContextIntercep
 import org.jboss.as.ejb3.component.pool.PoolConfig;
 import org.jboss.as.ejb3.deployment.EjbJarDescription;
 import org.jboss.as.ejb3.logging.EjbLogger;
-import org.jboss.as.ejb3.tx.CMTTxInterceptor;
 import org.jboss.as.ejb3.tx.EjbBMTInterceptor;
 import org.jboss.as.ejb3.tx.LifecycleCMTTxInterceptor;
+import org.jboss.as.ejb3.tx.MethodCMTTxInterceptor;
 import org.jboss.as.ejb3.tx.TimerCMTTxInterceptor;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -79,6 +81,33 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
     private static final String STRICT_MAX_POOL_CONFIG_CAPABILITY_NAME = "org.wildfly.ejb3.pool-config";
     private static final String DEFAULT_MDB_POOL_CONFIG_CAPABILITY_NAME = "org.wildfly.ejb3.pool-config.mdb-default";
 
+    /**
+     * Activation config property setting the maximum number of consecutive messages a message endpoint delivers to
+     * the same bean instance before returning it to the pool. Values greater than 1 enable delivery batching.
+     * The property is consumed by the container and is not passed on to the resource adapter.
+     */
+    public static final String DELIVERY_BATCH_SIZE = "deliveryBatchSize";
+    /**
+     * Activation config property setting the time, in milliseconds, after which a message endpoint returns its
+     * bean instance to the pool, even if fewer than {@link #DELIVERY_BATCH_SIZE} messages have been delivered to it.
+     * The property is consumed by the container and is not passed on to the resource adapter.
+     */
+    public static final String DELIVERY_BATCH_TIMEOUT = "deliveryBatchTimeout";
+    private static final long DEFAULT_DELIVERY_BATCH_TIMEOUT = 1000;
+    /**
+     * Activation config property setting the maximum number of concurrent message deliveries. Setting it enables
+     * adaptive delivery concurrency, which lowers the number of concurrent deliveries when delivery latency or
+     * errors increase, and raises it again while messages are backing up.
+     * The property is consumed by the container and is not passed on to the resource adapter.
+     */
+    public static final String DELIVERY_CONCURRENCY_MAX = "deliveryConcurrencyMax";
+    /**
+     * Activation config property setting the minimum number of concurrent message deliveries when adaptive delivery
+     * concurrency is enabled. Defaults to 1.
+     * The property is consumed by the container and is not passed on to the resource adapter.
+     */
+    public static final String DELIVERY_CONCURRENCY_MIN = "deliveryConcurrencyMin";
+
     private final Properties activationProps;
     private String resourceAdapterName;
     private boolean deliveryActive;
@@ -87,6 +116,10 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
     private String mdbPoolConfigName;
     private final String messageListenerInterfaceName;
     private final boolean defaultMdbPoolAvailable;
+    private final int deliveryBatchSize;
+    private final long deliveryBatchTimeout;
+    private final int deliveryConcurrencyMin;
+    private final int deliveryConcurrencyMax;
 
     /**
      * Construct a new instance.
@@ -109,6 +142,10 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
         this.resourceAdapterName = defaultResourceAdapterName;
         this.deliveryActive = true;
         this.activationProps = activationProps;
+        this.deliveryBatchSize = (int) removeActivationProperty(activationProps, DELIVERY_BATCH_SIZE, 1, Integer.MAX_VALUE);
+        this.deliveryBatchTimeout = removeActivationProperty(activationProps, DELIVERY_BATCH_TIMEOUT, DEFAULT_DELIVERY_BATCH_TIMEOUT, Long.MAX_VALUE);
+        this.deliveryConcurrencyMax = (int) removeActivationProperty(activationProps, DELIVERY_CONCURRENCY_MAX, 0, Integer.MAX_VALUE);
+        this.deliveryConcurrencyMin = (int) removeActivationProperty(activationProps, DELIVERY_CONCURRENCY_MIN, 1, this.deliveryConcurrencyMax > 0 ? this.deliveryConcurrencyMax : Integer.MAX_VALUE);
         this.messageListenerInterfaceName = messageListenerInterfaceName;
         this.defaultMdbPoolAvailable = defaultMdbPoolAvailable;
 
@@ -236,6 +273,59 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
         return defaultMdbPoolAvailable;
     }
 
+    private long removeActivationProperty(final Properties activationProps, final String name, final long defaultValue, final long maxValue) {
+        final String value = activationProps != null ? activationProps.getProperty(name) : null;
+        if (value == null) {
+            return defaultValue;
+        }
+        activationProps.remove(name);
+        try {
+            final long result = Long.parseLong(value.trim());
+            if (result > 0 && result <= maxValue) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw EjbLogger.ROOT_LOGGER.invalidActivationConfigPropertyValue(value, name, getComponentName());
+    }
+
+    /**
+     * Returns the maximum number of consecutive messages delivered to the same bean instance by a message endpoint.
+     *
+     * @return the delivery batch size, 1 if delivery batching is disabled
+     */
+    public int getDeliveryBatchSize() {
+        return deliveryBatchSize;
+    }
+
+    /**
+     * Returns the time, in milliseconds, after which a message endpoint returns its bean instance to the pool.
+     *
+     * @return the delivery batch timeout
+     */
+    public long getDeliveryBatchTimeout() {
+        return deliveryBatchTimeout;
+    }
+
+    /**
+     * Returns the minimum number of concurrent message deliveries when adaptive delivery concurrency is enabled.
+     *
+     * @return the minimum delivery concurrency
+     */
+    public int getDeliveryConcurrencyMin() {
+        return deliveryConcurrencyMin;
+    }
+
+    /**
+     * Returns the maximum number of concurrent message deliveries when adaptive delivery concurrency is enabled.
+     *
+     * @return the maximum delivery concurrency, 0 if adaptive delivery concurrency is disabled
+     */
+    public int getDeliveryConcurrencyMax() {
+        return deliveryConcurrencyMax;
+    }
+
     public Properties getActivationProps() {
         return activationProps;
     }
@@ -306,8 +396,26 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
                 configuration.addViewInterceptor(MessageDrivenComponentInstanceAssociatingFactory.instance(), InterceptorOrder.View.ASSOCIATING_INTERCEPTOR);
 
                 final MessageDrivenComponentDescription mdb = (MessageDrivenComponentDescription) componentConfiguration.getComponentDescription();
+                if (mdb.getDeliveryConcurrencyMax() > 0) {
+                    configuration.addViewInterceptor(AdaptiveConcurrencyInterceptor.FACTORY, InterceptorOrder.View.MESSAGE_DELIVERY_CONCURRENCY);
+                }
+                if (mdb.getDeliveryBatchSize() > 1) {
+                    // make the delivery batch of the message endpoint, if any, available to every invocation on its view instance
+                    configuration.addClientPostConstructInterceptor(new ImmediateInterceptorFactory(new Interceptor() {
+                        @Override
+                        public Object processInvocation(final InterceptorContext context) throws Exception {
+                            final MessageDeliveryBatch batch = context.getPrivateData(MessageDeliveryBatch.class);
+                            if (batch != null) {
+                                context.getPrivateData(ComponentClientInstance.class).setViewInstanceData(MessageDeliveryBatch.class, batch);
+                            }
+                            return context.proceed();
+                        }
+                    }), InterceptorOrder.ClientPostConstruct.INSTANCE_CREATE);
+                }
                 if (mdb.getTransactionManagementType() == TransactionManagementType.CONTAINER) {
-                    configuration.addViewInterceptor(CMTTxInterceptor.FACTORY, InterceptorOrder.View.CMT_TRANSACTION_INTERCEPTOR);
+                    for (Method method : configuration.getProxyFactory().getCachedMethods()) {
+                        configuration.addViewInterceptor(method, new MethodCMTTxInterceptor.Factory(method), InterceptorOrder.View.CMT_TRANSACTION_INTERCEPTOR);
+                    }
                 }
             }
         });
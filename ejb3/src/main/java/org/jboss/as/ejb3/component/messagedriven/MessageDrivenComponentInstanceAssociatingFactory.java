@@ -52,7 +52,7 @@ public class MessageDrivenComponentInstanceAssociatingFactory extends ComponentI
         }
         final MessageDrivenComponent mdbComponent = (MessageDrivenComponent) component;
         if (mdbComponent.getPool() != null) {
-            return PooledInstanceInterceptor.INSTANCE;
+            return mdbComponent.getDeliveryBatchSize() > 1 ? MessageDeliveryBatchInterceptor.INSTANCE : PooledInstanceInterceptor.INSTANCE;
         } else {
             return NonPooledEJBComponentInstanceAssociatingInterceptor.INSTANCE;
         }
@@ -96,8 +96,16 @@ class ContainerManagedConcurrencyInterceptor implements Interceptor {
                 unit = accessTimeoutOnMethod.getTimeUnit();
             }
         }
-        // try getting the lock
-        boolean success = lock.tryLock(time, unit);
+        // try getting the lock without waiting, honouring any pending writer
+        boolean success = lock.tryLock(0, TimeUnit.NANOSECONDS);
+        if (!success && (time > 0)) {
+            long start = System.nanoTime();
+            try {
+                success = lock.tryLock(time, unit);
+            } finally {
+                lockableComponent.recordLockWait(System.nanoTime() - start);
+            }
+        }
         if (!success) {
             throw EjbLogger.ROOT_LOGGER.concurrentAccessTimeoutException(lockableComponent.getComponentName(), time + unit.name());
         }
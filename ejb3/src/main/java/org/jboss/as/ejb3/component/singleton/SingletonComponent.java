@@ -26,6 +26,8 @@ import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 
 import jakarta.ejb.LockType;
@@ -74,9 +76,12 @@ public class SingletonComponent extends SessionBeanComponent {
     private final Object creationLock = new Object();
 
     /**
-     * A spec compliant {@link EJBReadWriteLock}
+     * A spec compliant {@link EJBReadWriteLock} or {@link StripedReadWriteLock}
      */
-    private final ReadWriteLock readWriteLock = new EJBReadWriteLock();
+    private final ReadWriteLock readWriteLock;
+
+    private final LongAdder lockWaitTime = new LongAdder();
+    private final LongAdder lockWaitCount = new LongAdder();
 
     /**
      * Construct a new instance.
@@ -94,6 +99,7 @@ public class SingletonComponent extends SessionBeanComponent {
         this.methodLockTypes = singletonComponentCreateService.getMethodApplicableLockTypes();
         this.methodAccessTimeouts = singletonComponentCreateService.getMethodApplicableAccessTimeouts();
         this.defaultAccessTimeoutProvider = singletonComponentCreateService.getDefaultAccessTimeoutService();
+        this.readWriteLock = singletonComponentCreateService.isStripedLock() ? new StripedReadWriteLock() : new EJBReadWriteLock();
     }
 
     @Override
@@ -185,6 +191,29 @@ public class SingletonComponent extends SessionBeanComponent {
         return readWriteLock;
     }
 
+    /**
+     * Records the time an invocation waited to acquire the container-managed concurrency lock.
+     * @param nanos the wait time, in nanoseconds
+     */
+    void recordLockWait(long nanos) {
+        this.lockWaitTime.add(nanos);
+        this.lockWaitCount.increment();
+    }
+
+    /**
+     * @return the total time, in milliseconds, that invocations waited to acquire the container-managed concurrency lock
+     */
+    public long getLockWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.lockWaitTime.sum());
+    }
+
+    /**
+     * @return the number of invocations that waited to acquire the container-managed concurrency lock
+     */
+    public long getLockWaitCount() {
+        return this.lockWaitCount.sum();
+    }
+
     private void destroySingletonInstance() {
         synchronized (creationLock) {
             if (this.singletonComponentInstance != null) {
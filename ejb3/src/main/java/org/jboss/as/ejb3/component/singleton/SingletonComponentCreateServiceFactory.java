@@ -40,10 +40,12 @@ import java.util.List;
 public class SingletonComponentCreateServiceFactory extends EJBComponentCreateServiceFactory {
 
     private final boolean initOnStartup;
+    private final boolean stripedLock;
     private final List<ServiceName> dependsOn;
 
-    public SingletonComponentCreateServiceFactory(final boolean initServiceOnStartup, final List<ServiceName> dependsOn) {
+    public SingletonComponentCreateServiceFactory(final boolean initServiceOnStartup, final boolean stripedLock, final List<ServiceName> dependsOn) {
         this.initOnStartup = initServiceOnStartup;
+        this.stripedLock = stripedLock;
         this.dependsOn = dependsOn;
     }
 
@@ -60,6 +62,6 @@ public class SingletonComponentCreateServiceFactory extends EJBComponentCreateSe
                 serviceBuilder.addDependency(DefaultAccessTimeoutService.SINGLETON_SERVICE_NAME, DefaultAccessTimeoutService.class, componentCreateService.getDefaultAccessTimeoutInjector());
             }
         });
-        return new SingletonComponentCreateService(configuration, this.ejbJarConfiguration, this.initOnStartup, dependsOn);
+        return new SingletonComponentCreateService(configuration, this.ejbJarConfiguration, this.initOnStartup, this.stripedLock, dependsOn);
     }
 }
@@ -80,6 +80,11 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
      */
     private boolean initOnStartup;
 
+    /**
+     * Flag to indicate whether container-managed concurrency uses a {@link StripedReadWriteLock}
+     */
+    private boolean stripedLock;
+
     private final List<ServiceName> dependsOn = new ArrayList<ServiceName>();
 
     /**
@@ -111,7 +116,7 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
         ComponentConfiguration singletonComponentConfiguration = new ComponentConfiguration(this, classIndex, moduleClassLoader, moduleLoader);
         // setup the component create service
-        singletonComponentConfiguration.setComponentCreateServiceFactory(new SingletonComponentCreateServiceFactory(this.isInitOnStartup(), dependsOn));
+        singletonComponentConfiguration.setComponentCreateServiceFactory(new SingletonComponentCreateServiceFactory(this.isInitOnStartup(), this.isStripedLock(), dependsOn));
         final String definedSecurityDomain = getDefinedSecurityDomain();
         final boolean securityRequired = hasBeanLevelSecurityMetadata();
         if (securityRequired) {
@@ -196,6 +201,24 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
     }
 
+    /**
+     * Returns true if container-managed concurrency of this singleton bean uses a {@link StripedReadWriteLock}, which scales better for read-mostly beans.
+     *
+     * @return true, if a striped lock is used, false otherwise
+     */
+    public boolean isStripedLock() {
+        return this.stripedLock;
+    }
+
+    /**
+     * Indicates whether container-managed concurrency of this singleton bean should use a {@link StripedReadWriteLock}.
+     *
+     * @param stripedLock true, if a striped lock should be used, false otherwise
+     */
+    public void setStripedLock(boolean stripedLock) {
+        this.stripedLock = stripedLock;
+    }
+
     @Override
     public SessionBeanType getSessionBeanType() {
         return SessionBeanComponentDescription.SessionBeanType.SINGLETON;
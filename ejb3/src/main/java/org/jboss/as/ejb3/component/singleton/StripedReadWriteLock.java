@@ -0,0 +1,301 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * A {@link ReadWriteLock} optimized for read-mostly singleton beans, whose read lock acquisition scales across cores.
+ * Readers register themselves in one of several counters, selected per thread, instead of contending on shared lock state.
+ * A writer first announces itself, which diverts new readers to wait for the writer, and then waits for the registered readers to drain.
+ * As with {@link EJBReadWriteLock}, both locks are reentrant, the write lock owner may acquire the read lock,
+ * and an {@link jakarta.ejb.IllegalLoopbackException} is thrown when a thread holding a read lock requests the write lock.
+ */
+public class StripedReadWriteLock implements ReadWriteLock {
+
+    private static final int STRIPES = stripes();
+    // Space reader counters 128 bytes apart, to avoid false sharing between stripes
+    private static final int PADDING = 16;
+
+    private static int stripes() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        // Next power of 2 of twice the number of processors, at most 64
+        return Math.min(Integer.highestOneBit(Math.max(processors * 2 - 1, 1)) << 1, 64);
+    }
+
+    private final AtomicLongArray readers = new AtomicLongArray(STRIPES * PADDING);
+    // Held by the writer that owns, or is acquiring, the write lock
+    private final ReentrantLock writerLock = new ReentrantLock();
+    private final ThreadLocal<int[]> readHolds = ThreadLocal.withInitial(() -> new int[1]);
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+    // The thread owning, or acquiring, the write lock
+    private volatile Thread writer;
+    // Guarded by writerLock
+    private int writeHolds;
+
+    @Override
+    public Lock readLock() {
+        return this.readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return this.writeLock;
+    }
+
+    private static int stripe() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & (STRIPES - 1)) * PADDING;
+    }
+
+    private long readers() {
+        long count = 0;
+        for (int i = 0; i < STRIPES; ++i) {
+            count += this.readers.get(i * PADDING);
+        }
+        return count;
+    }
+
+    private void releaseReader(int stripe) {
+        this.readers.decrementAndGet(stripe);
+        Thread writer = this.writer;
+        if (writer != null) {
+            // Writer may be waiting for readers to drain
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Attempts to acquire the read lock.
+     * @param timeout the maximum time to wait, in nanoseconds, or a negative value to wait indefinitely
+     * @param interruptible indicates whether this thread may be interrupted while waiting
+     * @return true, if the read lock was acquired, false otherwise
+     */
+    boolean acquireRead(long timeout, boolean interruptible) throws InterruptedException {
+        int[] holds = this.readHolds.get();
+        int stripe = stripe();
+        if ((holds[0] > 0) || (this.writer == Thread.currentThread())) {
+            // Reentrant acquisition, or acquisition by the write lock owner, which no writer could be waiting for
+            this.readers.incrementAndGet(stripe);
+            holds[0] += 1;
+            return true;
+        }
+        long deadline = (timeout > 0) ? System.nanoTime() + timeout : 0;
+        while (true) {
+            this.readers.incrementAndGet(stripe);
+            if (this.writer == null) {
+                holds[0] += 1;
+                return true;
+            }
+            // A writer owns, or is acquiring, the write lock
+            this.releaseReader(stripe);
+            if (timeout == 0) {
+                return false;
+            }
+            // Wait until the writer releases the write lock
+            if (timeout < 0) {
+                if (interruptible) {
+                    this.writerLock.lockInterruptibly();
+                } else {
+                    this.writerLock.lock();
+                }
+            } else if (!this.writerLock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+            this.writerLock.unlock();
+        }
+    }
+
+    void releaseRead() {
+        int[] holds = this.readHolds.get();
+        if (holds[0] == 0) {
+            throw new IllegalMonitorStateException();
+        }
+        holds[0] -= 1;
+        this.releaseReader(stripe());
+    }
+
+    /**
+     * Attempts to acquire the write lock.
+     * @param timeout the maximum time to wait, in nanoseconds, or a negative value to wait indefinitely
+     * @param interruptible indicates whether this thread may be interrupted while waiting
+     * @return true, if the write lock was acquired, false otherwise
+     */
+    boolean acquireWrite(long timeout, boolean interruptible) throws InterruptedException {
+        if (this.readHolds.get()[0] > 0) {
+            throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+        }
+        Thread current = Thread.currentThread();
+        if (this.writer == current) {
+            this.writeHolds += 1;
+            return true;
+        }
+        long deadline = (timeout > 0) ? System.nanoTime() + timeout : 0;
+        if (timeout < 0) {
+            if (interruptible) {
+                this.writerLock.lockInterruptibly();
+            } else {
+                this.writerLock.lock();
+            }
+        } else if (!this.writerLock.tryLock(timeout, TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        // Divert new readers, then wait for current readers to drain
+        this.writer = current;
+        boolean interrupted = false;
+        while (this.readers() > 0) {
+            if (timeout < 0) {
+                LockSupport.park(this);
+            } else {
+                long remaining = deadline - System.nanoTime();
+                if ((timeout == 0) || (remaining <= 0)) {
+                    this.abortWrite();
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            if (Thread.interrupted()) {
+                if (interruptible) {
+                    this.abortWrite();
+                    throw new InterruptedException();
+                }
+                interrupted = true;
+            }
+        }
+        this.writeHolds = 1;
+        if (interrupted) {
+            current.interrupt();
+        }
+        return true;
+    }
+
+    private void abortWrite() {
+        this.writer = null;
+        this.writerLock.unlock();
+    }
+
+    void releaseWrite() {
+        if (this.writer != Thread.currentThread()) {
+            throw new IllegalMonitorStateException();
+        }
+        this.writeHolds -= 1;
+        if (this.writeHolds == 0) {
+            this.abortWrite();
+        }
+    }
+
+    private class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            try {
+                StripedReadWriteLock.this.acquireRead(-1, false);
+            } catch (InterruptedException e) {
+                // Not interruptible
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            StripedReadWriteLock.this.acquireRead(-1, true);
+        }
+
+        @Override
+        public boolean tryLock() {
+            try {
+                return StripedReadWriteLock.this.acquireRead(0, false);
+            } catch (InterruptedException e) {
+                // Does not wait
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return StripedReadWriteLock.this.acquireRead(Math.max(unit.toNanos(time), 0), true);
+        }
+
+        @Override
+        public void unlock() {
+            StripedReadWriteLock.this.releaseRead();
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            try {
+                StripedReadWriteLock.this.acquireWrite(-1, false);
+            } catch (InterruptedException e) {
+                // Not interruptible
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            StripedReadWriteLock.this.acquireWrite(-1, true);
+        }
+
+        @Override
+        public boolean tryLock() {
+            try {
+                return StripedReadWriteLock.this.acquireWrite(0, false);
+            } catch (InterruptedException e) {
+                // Does not wait
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return StripedReadWriteLock.this.acquireWrite(Math.max(unit.toNanos(time), 0), true);
+        }
+
+        @Override
+        public void unlock() {
+            StripedReadWriteLock.this.releaseWrite();
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -90,6 +90,7 @@ public class StatefulComponentDescription extends SessionBeanComponentDescriptio
     private final Map<MethodIdentifier, StatefulRemoveMethod> removeMethods = new HashMap<MethodIdentifier, StatefulRemoveMethod>();
     private StatefulTimeoutInfo statefulTimeout;
     private CacheInfo cache;
+    private int readyPoolSize;
     // by default stateful beans are passivation capable, but beans can override it via annotation or deployment descriptor, starting Jakarta Enterprise Beans 3.2
     private boolean passivationApplicable = true;
     private final ServiceName deploymentUnitServiceName;
@@ -419,6 +420,19 @@ public class StatefulComponentDescription extends SessionBeanComponentDescriptio
         this.cache = cache;
     }
 
+    /**
+     * Returns the number of instances of this bean which are created ahead of session creation.
+     *
+     * @return the size of the ready pool, 0 if instances are created on demand
+     */
+    public int getReadyPoolSize() {
+        return this.readyPoolSize;
+    }
+
+    public void setReadyPoolSize(int readyPoolSize) {
+        this.readyPoolSize = readyPoolSize;
+    }
+
     @Override
     public boolean isPassivationApplicable() {
         return this.passivationApplicable;
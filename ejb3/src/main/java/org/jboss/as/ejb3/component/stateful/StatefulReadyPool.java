@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.stateful;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of constructed stateful session bean instances which are not yet bound to a session.
+ * <p>
+ * Creating a session takes an instance from the pool, if one is available, instead of constructing, injecting and
+ * post-constructing an instance on the caller's thread. Every time an instance is taken the pool is refilled in the
+ * background, by at most one task at a time. A failure to create an instance stops the refill, which is retried by
+ * the next session creation.
+ *
+ * @param <T> the instance type
+ */
+public class StatefulReadyPool<T> {
+
+    private final BlockingQueue<T> instances;
+    private final Supplier<T> factory;
+    private final Consumer<T> destroyer;
+    private final Consumer<RuntimeException> failureHandler;
+    private final Executor executor;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Creates a new ready pool.
+     *
+     * @param size the maximum number of ready instances
+     * @param factory creates ready instances
+     * @param destroyer destroys ready instances which are not needed anymore
+     * @param failureHandler handles a failure to create a ready instance
+     * @param executor the executor running the refill
+     */
+    public StatefulReadyPool(int size, Supplier<T> factory, Consumer<T> destroyer, Consumer<RuntimeException> failureHandler, Executor executor) {
+        this.instances = new ArrayBlockingQueue<>(size);
+        this.factory = factory;
+        this.destroyer = destroyer;
+        this.failureHandler = failureHandler;
+        this.executor = executor;
+    }
+
+    /**
+     * Fills the pool in the background.
+     */
+    public void start() {
+        this.scheduleRefill();
+    }
+
+    /**
+     * Takes a ready instance from the pool.
+     *
+     * @return a ready instance, or null if the pool is empty
+     */
+    public T poll() {
+        T instance = this.instances.poll();
+        if (instance == null) {
+            this.misses.increment();
+        }
+        this.scheduleRefill();
+        return instance;
+    }
+
+    /**
+     * Stops refilling the pool and destroys the remaining ready instances.
+     */
+    public void close() {
+        this.closed = true;
+        this.drain();
+    }
+
+    /**
+     * Returns the number of ready instances.
+     *
+     * @return the pool depth
+     */
+    public int getDepth() {
+        return this.instances.size();
+    }
+
+    /**
+     * Returns the number of instances created by the refill.
+     *
+     * @return the refill count
+     */
+    public long getRefillCount() {
+        return this.refills.sum();
+    }
+
+    /**
+     * Returns the number of times the pool was empty when an instance was requested.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    private void scheduleRefill() {
+        if (!this.closed && this.instances.remainingCapacity() > 0 && this.refilling.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::refill);
+            } catch (RejectedExecutionException e) {
+                this.refilling.set(false);
+            }
+        }
+    }
+
+    private void refill() {
+        try {
+            while (!this.closed && this.instances.remainingCapacity() > 0) {
+                T instance = this.factory.get();
+                this.refills.increment();
+                if (!this.instances.offer(instance)) {
+                    this.destroyer.accept(instance);
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            this.failureHandler.accept(e);
+        } finally {
+            this.refilling.set(false);
+        }
+        if (this.closed) {
+            // Destroy any instance offered after the pool was drained
+            this.drain();
+        }
+    }
+
+    private void drain() {
+        for (T instance = this.instances.poll(); instance != null; instance = this.instances.poll()) {
+            this.destroyer.accept(instance);
+        }
+    }
+}
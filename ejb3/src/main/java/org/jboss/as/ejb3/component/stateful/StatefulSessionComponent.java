@@ -28,6 +28,10 @@ import java.security.PrivilegedAction;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import jakarta.ejb.ConcurrentAccessException;
@@ -44,6 +48,7 @@ import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ejb3.cache.Cache;
 import org.jboss.as.ejb3.cache.CacheFactory;
 import org.jboss.as.ejb3.cache.StatefulObjectFactory;
+import org.jboss.as.ejb3.cache.simple.SimpleCache;
 import org.jboss.as.ejb3.component.DefaultAccessTimeoutService;
 import org.jboss.as.ejb3.component.EJBBusinessMethod;
 import org.jboss.as.ejb3.component.EJBComponentUnavailableException;
@@ -63,6 +68,7 @@ import org.jboss.invocation.InterceptorFactory;
 import org.jboss.invocation.InterceptorFactoryContext;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.msc.service.ServiceController;
+import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.clustering.ejb.PassivationListener;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 import org.wildfly.extension.requestcontroller.RunResult;
@@ -104,6 +110,9 @@ public class StatefulSessionComponent extends SessionBeanComponent implements St
     private final Supplier<CacheFactory<SessionID, StatefulSessionComponentInstance>> cacheFactory;
     private final InterceptorFactory ejb2XRemoveMethod;
     private Interceptor ejb2XRemoveMethodInterceptor;
+    private final int readyPoolSize;
+    private volatile StatefulReadyPool<StatefulSessionComponentInstance> readyPool;
+    private ExecutorService readyPoolExecutor;
 
     /**
      * Set of context keys for serializable interceptors.
@@ -134,10 +143,22 @@ public class StatefulSessionComponent extends SessionBeanComponent implements St
         this.ejb2XRemoveMethod = ejbComponentCreateService.getEjb2XRemoveMethod();
         this.serialiableInterceptorContextKeys = ejbComponentCreateService.getSerializableInterceptorContextKeys();
         this.cacheFactory = ejbComponentCreateService.getCacheFactory();
+        this.readyPoolSize = ejbComponentCreateService.getReadyPoolSize();
     }
 
     @Override
     public StatefulSessionComponentInstance createInstance() {
+        final StatefulReadyPool<StatefulSessionComponentInstance> readyPool = this.readyPool;
+        if (readyPool != null) {
+            final StatefulSessionComponentInstance instance = readyPool.poll();
+            if (instance != null) {
+                return instance;
+            }
+        }
+        return (StatefulSessionComponentInstance) super.createInstance();
+    }
+
+    private StatefulSessionComponentInstance createReadyInstance() {
         return (StatefulSessionComponentInstance) super.createInstance();
     }
 
@@ -271,6 +292,15 @@ public class StatefulSessionComponent extends SessionBeanComponent implements St
         return this.cache;
     }
 
+    /**
+     * Returns the pool of instances created ahead of session creation.
+     *
+     * @return the ready pool, or null if instances are created on demand
+     */
+    public StatefulReadyPool<StatefulSessionComponentInstance> getReadyPool() {
+        return this.readyPool;
+    }
+
     @Override
     protected BasicComponentInstance instantiateComponentInstance(final Interceptor preDestroyInterceptor, final Map<Method, Interceptor> methodInterceptors, Map<Object, Object> context) {
         StatefulSessionComponentInstance instance = new StatefulSessionComponentInstance(this, preDestroyInterceptor, methodInterceptors, context);
@@ -333,6 +363,19 @@ public class StatefulSessionComponent extends SessionBeanComponent implements St
 
         this.cache = this.cacheFactory.get().createCache(IdentifierFactory.UUID, this, this);
         this.cache.start();
+
+        if (this.readyPoolSize > 0) {
+            // Instances of a distributable cache must be created within the cache, so that nested beans share their group
+            if (this.cache instanceof SimpleCache) {
+                final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 1L, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), new DefaultThreadFactory(StatefulReadyPool.class));
+                executor.allowCoreThreadTimeOut(true);
+                this.readyPoolExecutor = executor;
+                this.readyPool = new StatefulReadyPool<>(this.readyPoolSize, this::createReadyInstance, this::destroyInstance, e -> EjbLogger.ROOT_LOGGER.failedToCreateReadyPoolInstance(getComponentName(), e), executor);
+                this.readyPool.start();
+            } else {
+                EjbLogger.ROOT_LOGGER.readyPoolNotSupported(getComponentName());
+            }
+        }
     }
 
     @Override
@@ -360,6 +403,12 @@ public class StatefulSessionComponent extends SessionBeanComponent implements St
 
     @Override
     public void done() {
+        if (this.readyPool != null) {
+            this.readyPool.close();
+            this.readyPool = null;
+            this.readyPoolExecutor.shutdown();
+            this.readyPoolExecutor = null;
+        }
         this.cache.stop();
 
         cache = null;
@@ -165,6 +165,10 @@ public class StatefulSessionComponentCreateService extends SessionBeanComponentC
         return serializableInterceptorContextKeys;
     }
 
+    int getReadyPoolSize() {
+        return this.componentDescription.getReadyPoolSize();
+    }
+
     Supplier<CacheFactory<SessionID, StatefulSessionComponentInstance>> getCacheFactory() {
         return this.cacheFactory;
     }
@@ -0,0 +1,224 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import java.lang.reflect.Method;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * An executor service that runs each task on a new virtual thread.
+ * Rather than bounding the number of threads, the number of concurrently running tasks is bounded by a semaphore.
+ * Tasks submitted while no permit is available are queued, without blocking the submitting thread, until a running task completes.
+ */
+public class VirtualThreadExecutorService extends AbstractExecutorService {
+
+    /**
+     * Creates a factory of virtual threads, if supported by the current JVM.
+     * @param prefix the name prefix of created threads
+     * @return a virtual thread factory, or null, if virtual threads are not supported by the current JVM.
+     */
+    public static ThreadFactory createVirtualThreadFactory(String prefix) {
+        PrivilegedAction<ThreadFactory> action = () -> {
+            try {
+                // Virtual threads are not available to our target JVM version
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+                Method factoryMethod = builderClass.getMethod("factory");
+                ThreadFactory factory = (ThreadFactory) factoryMethod.invoke(builder);
+                // Preview releases throw UnsupportedOperationException on thread creation, unless preview features are enabled
+                factory.newThread(() -> {});
+                return factory;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        };
+        return WildFlySecurityManager.doUnchecked(action);
+    }
+
+    private final ThreadFactory factory;
+    private final Semaphore permits;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a new executor service.
+     * @param factory a factory of virtual threads
+     * @param maxConcurrency the maximum number of tasks that may run concurrently
+     */
+    public VirtualThreadExecutorService(ThreadFactory factory, int maxConcurrency) {
+        this.factory = factory;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (this.shutdown) {
+            throw new RejectedExecutionException();
+        }
+        this.queueSize.incrementAndGet();
+        this.queue.add(task);
+        this.drain();
+    }
+
+    private void drain() {
+        while (!this.queue.isEmpty() && this.permits.tryAcquire()) {
+            Runnable task = this.queue.poll();
+            if (task != null) {
+                this.queueSize.decrementAndGet();
+                this.activeCount.incrementAndGet();
+                try {
+                    this.factory.newThread(new Task(task)).start();
+                } catch (RuntimeException | Error e) {
+                    this.activeCount.decrementAndGet();
+                    this.permits.release();
+                    throw e;
+                }
+            } else {
+                this.permits.release();
+            }
+        }
+    }
+
+    private void complete() {
+        this.activeCount.decrementAndGet();
+        this.completedTaskCount.increment();
+        this.permits.release();
+        // Run the next queued task, if any
+        this.drain();
+        this.signalIfTerminated();
+    }
+
+    private void signalIfTerminated() {
+        if (this.isTerminated()) {
+            synchronized (this) {
+                this.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        // Ensure tasks queued concurrently with shutdown are still run
+        this.drain();
+        this.signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        List<Runnable> tasks = new ArrayList<>(this.queueSize.get());
+        Runnable task = this.queue.poll();
+        while (task != null) {
+            this.queueSize.decrementAndGet();
+            tasks.add(task);
+            task = this.queue.poll();
+        }
+        this.signalIfTerminated();
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.shutdown && (this.activeCount.get() == 0) && this.queue.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (!this.isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of tasks waiting for a permit to run.
+     * @return the number of queued tasks
+     */
+    public int getQueueSize() {
+        return this.queueSize.get();
+    }
+
+    /**
+     * Returns the number of tasks currently running.
+     * @return the number of running tasks
+     */
+    public int getActiveCount() {
+        return this.activeCount.get();
+    }
+
+    /**
+     * Returns the number of tasks that have completed.
+     * @return the number of completed tasks
+     */
+    public long getCompletedTaskCount() {
+        return this.completedTaskCount.sum();
+    }
+
+    private class Task implements Runnable {
+        private final Runnable task;
+
+        Task(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            // Virtual threads inherit the context class loader of their creator, which may be that of a deployment
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged((ClassLoader) null);
+            try {
+                this.task.run();
+            } finally {
+                VirtualThreadExecutorService.this.complete();
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import static org.jboss.as.server.security.SecurityMetaData.ATTACHMENT_KEY;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.ee.component.ComponentDescription;
 import org.jboss.as.ee.component.EEModuleDescription;
+import org.jboss.as.ejb3.component.EJBComponentCreateService;
 import org.jboss.as.ejb3.component.EJBComponentDescription;
 import org.jboss.as.ejb3.deployment.EJBSecurityDomainService;
 import org.jboss.as.ejb3.logging.EjbLogger;
@@ -182,7 +183,10 @@ public class EJBDefaultSecurityDomainProcessor implements DeploymentUnitProcesso
                             ejbComponentDescription.setRequiresJacc(selectedElytronDomainConfig.isEnableJacc());
                             ejbComponentDescription.setLegacyCompliantPrincipalPropagation(selectedElytronDomainConfig.isLegacyCompliantPrincipalPropagation());
                             ejbComponentDescription.getConfigurators().add((context, description, configuration) ->
-                                            configuration.getCreateDependencies().add((serviceBuilder, service) -> serviceBuilder.requires(ejbSecurityDomainServiceName))
+                                            configuration.getCreateDependencies().add((serviceBuilder, service) -> {
+                                                serviceBuilder.requires(ejbSecurityDomainServiceName);
+                                                serviceBuilder.addDependency(applicationSecurityDomainServiceName, ApplicationSecurityDomain.class, ((EJBComponentCreateService) service).getApplicationSecurityDomainInjector());
+                                            })
                             );
                         } else if (definedSecurityDomain == null && defaultDomainMapping != null) {
                             ejbComponentDescription.setOutflowSecurityDomainsConfigured(outflowSecurityDomainsConfigured);
@@ -190,7 +194,10 @@ public class EJBDefaultSecurityDomainProcessor implements DeploymentUnitProcesso
                             ejbComponentDescription.setRequiresJacc(defaultDomainMapping.isEnableJacc());
                             ejbComponentDescription.setLegacyCompliantPrincipalPropagation(defaultDomainMapping.isLegacyCompliantPrincipalPropagation());
                             ejbComponentDescription.getConfigurators().add((context, description, configuration) ->
-                                            configuration.getCreateDependencies().add((serviceBuilder, service) -> serviceBuilder.requires(ejbSecurityDomainServiceName))
+                                            configuration.getCreateDependencies().add((serviceBuilder, service) -> {
+                                                serviceBuilder.requires(ejbSecurityDomainServiceName);
+                                                serviceBuilder.addDependency(defaultElytronDomainServiceName.getParent(), ApplicationSecurityDomain.class, ((EJBComponentCreateService) service).getApplicationSecurityDomainInjector());
+                                            })
                             );
                         }
                     }
@@ -79,19 +79,33 @@ public class CacheMergingProcessor extends AbstractMergingProcessor<StatefulComp
         final List<EJBBoundCacheMetaData> caches = assemblyDescriptor.getAny(EJBBoundCacheMetaData.class);
 
         String cacheName = null;
+        Integer readyPoolSize = null;
         if (caches != null) {
             for (final EJBBoundCacheMetaData cacheMetaData : caches) {
                 // if this applies for all Jakarta Enterprise Beans and if there isn't a pool name already explicitly specified
                 // for the specific bean (i.e. via an ejb-name match)
-                if ("*".equals(cacheMetaData.getEjbName()) && cacheName == null) {
-                    cacheName = cacheMetaData.getCacheName();
+                if ("*".equals(cacheMetaData.getEjbName())) {
+                    if (cacheName == null) {
+                        cacheName = cacheMetaData.getCacheName();
+                    }
+                    if (readyPoolSize == null) {
+                        readyPoolSize = cacheMetaData.getReadyPoolSize();
+                    }
                 } else if (ejbName.equals(cacheMetaData.getEjbName())) {
-                    cacheName = cacheMetaData.getCacheName();
+                    if (cacheMetaData.getCacheName() != null) {
+                        cacheName = cacheMetaData.getCacheName();
+                    }
+                    if (cacheMetaData.getReadyPoolSize() != null) {
+                        readyPoolSize = cacheMetaData.getReadyPoolSize();
+                    }
                 }
             }
         }
         if (cacheName != null) {
             description.setCache(new CacheInfo(cacheName));
         }
+        if (readyPoolSize != null) {
+            description.setReadyPoolSize(readyPoolSize);
+        }
     }
 }
@@ -35,14 +35,19 @@ import org.jboss.as.ee.metadata.MethodAnnotationAggregator;
 import org.jboss.as.ee.metadata.RuntimeAnnotationInformation;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
+import org.jboss.as.ejb3.component.singleton.SingletonComponentDescription;
 import org.jboss.as.ejb3.concurrency.AccessTimeoutDetails;
+import org.jboss.as.ejb3.concurrency.EJBBoundLockMetaData;
+import org.jboss.as.ejb3.deployment.EjbDeploymentAttachmentKeys;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.reflect.ClassReflectionIndex;
 import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
 import org.jboss.invocation.proxy.MethodIdentifier;
+import org.jboss.metadata.ejb.spec.AssemblyDescriptorMetaData;
 import org.jboss.metadata.ejb.spec.ConcurrentMethodMetaData;
 import org.jboss.metadata.ejb.spec.ConcurrentMethodsMetaData;
+import org.jboss.metadata.ejb.spec.EjbJarMetaData;
 import org.jboss.metadata.ejb.spec.NamedMethodMetaData;
 import org.jboss.metadata.ejb.spec.SessionBean31MetaData;
 import org.jboss.metadata.ejb.spec.SessionBeanMetaData;
@@ -90,6 +95,10 @@ public class EjbConcurrencyMergingProcessor extends AbstractMergingProcessor<Ses
 
     protected void handleDeploymentDescriptor(final DeploymentUnit deploymentUnit, final DeploymentReflectionIndex deploymentReflectionIndex, final Class<?> componentClass, final SessionBeanComponentDescription componentConfiguration) throws DeploymentUnitProcessingException {
 
+        if (componentConfiguration instanceof SingletonComponentDescription) {
+            handleLockMetaData(deploymentUnit, (SingletonComponentDescription) componentConfiguration);
+        }
+
         if (componentConfiguration.getDescriptorData() == null) {
             return;
         }
@@ -127,6 +136,33 @@ public class EjbConcurrencyMergingProcessor extends AbstractMergingProcessor<Ses
     }
 
 
+    private static void handleLockMetaData(final DeploymentUnit deploymentUnit, final SingletonComponentDescription componentConfiguration) {
+        final EjbJarMetaData metaData = deploymentUnit.getAttachment(EjbDeploymentAttachmentKeys.EJB_JAR_METADATA);
+        if (metaData == null) {
+            return;
+        }
+        final AssemblyDescriptorMetaData assemblyDescriptor = metaData.getAssemblyDescriptor();
+        if (assemblyDescriptor == null) {
+            return;
+        }
+        final List<EJBBoundLockMetaData> locks = assemblyDescriptor.getAny(EJBBoundLockMetaData.class);
+        if (locks == null) {
+            return;
+        }
+        Boolean striped = null;
+        for (final EJBBoundLockMetaData lockMetaData : locks) {
+            // a bean specific entry takes precedence over a "*" entry
+            if ("*".equals(lockMetaData.getEjbName()) && striped == null) {
+                striped = lockMetaData.isStriped();
+            } else if (componentConfiguration.getEJBName().equals(lockMetaData.getEjbName())) {
+                striped = lockMetaData.isStriped();
+            }
+        }
+        if (striped != null) {
+            componentConfiguration.setStripedLock(striped);
+        }
+    }
+
     private Method resolveMethod(final DeploymentReflectionIndex index, final Class<?> currentClass, final Class<?> componentClass, final NamedMethodMetaData methodData) throws DeploymentUnitProcessingException {
         if (currentClass == null) {
             throw EjbLogger.ROOT_LOGGER.failToFindMethodWithParameterTypes(componentClass.getName(), methodData.getMethodName(), methodData.getMethodParams());
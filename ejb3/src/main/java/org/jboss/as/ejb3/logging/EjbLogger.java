@@ -33,6 +33,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InvalidClassException;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.rmi.RemoteException;
 import java.sql.SQLException;
 import java.util.Date;
@@ -2734,7 +2735,6 @@ public interface EjbLogger extends BasicLogger {
     @Message(id = 399, value = "Incompatible cache implementations in nested hierarchy")
     IllegalStateException incompatibleCaches();
 
-    @Deprecated
     @Message(id = 400, value = "Failed to passivate %s")
     RuntimeException passivationFailed(@Cause Throwable cause, Object id);
 
@@ -2742,7 +2742,6 @@ public interface EjbLogger extends BasicLogger {
     @Message(id = 401, value = "Failed to activate %s")
     RuntimeException activationFailed(@Cause Throwable cause, Object id);
 
-    @Deprecated
     @Message(id = 402, value = "Failed to create passivation directory: %s")
     RuntimeException passivationDirectoryCreationFailed(String path);
 
@@ -3261,4 +3260,34 @@ public interface EjbLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 532, value = "Database detected from configuration is: '%s'. If this is incorrect, please specify the correct database.")
     void unknownDatabaseName(String name);
+
+    @LogMessage(level = WARN)
+    @Message(id = 533, value = "Failed to passivate %s, it will be retained in memory")
+    void failedToPassivateBean(Object id, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 534, value = "Virtual threads are not supported by this JVM; using thread pool %s instead")
+    void virtualThreadsNotSupported(String threadPoolName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 535, value = "Virtual threads are not supported by this JVM; remote invocations will be executed as configured by execute-in-worker and thread-pool-name")
+    void virtualThreadsNotSupportedForRemoteInvocations();
+
+    @Message(id = 536, value = "Invalid value '%s' for activation config property %s of message driven bean %s")
+    IllegalArgumentException invalidActivationConfigPropertyValue(String value, String propName, String componentName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Ready pool of stateful session bean %s is not supported by its distributable cache and will be ignored")
+    void readyPoolNotSupported(String componentName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 538, value = "Failed to create an instance for the ready pool of stateful session bean %s")
+    void failedToCreateReadyPoolInstance(String componentName, @Cause Throwable cause);
+
+    @Message(id = 539, value = "Failed to activate %s from passivation file %s")
+    RuntimeException passivatedBeanActivationFailed(@Cause Throwable cause, Object id, Path file);
+
+    @LogMessage(level = WARN)
+    @Message(id = 540, value = "%d asynchronous invocations did not complete within %d ms of stopping their executor")
+    void asyncInvocationsNotCompleted(int invocations, long timeout);
 }
@@ -28,10 +28,13 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,7 +42,10 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import jakarta.ejb.EJBException;
 
 import org.jboss.as.ee.component.Component;
@@ -103,11 +109,15 @@ final class AssociationImpl implements Association, AutoCloseable {
     private final Map<Integer, ClusterTopologyRegistrar> clusterTopologyRegistrars;
     private volatile Executor executor;
 
-    AssociationImpl(final DeploymentRepository deploymentRepository, final List<Map.Entry<ProtocolSocketBinding, Registry<String, List<ClientMapping>>>> clientMappingRegistries) {
+    /**
+     * Creates an association whose cluster topology updates are coalesced over the specified delay using the specified scheduler.
+     * If the scheduler is null, topology updates are sent immediately.
+     */
+    AssociationImpl(final DeploymentRepository deploymentRepository, final List<Map.Entry<ProtocolSocketBinding, Registry<String, List<ClientMapping>>>> clientMappingRegistries, final ScheduledExecutorService topologyUpdateScheduler, final Duration topologyUpdateDelay) {
         this.deploymentRepository = deploymentRepository;
         this.clusterTopologyRegistrars = clientMappingRegistries.isEmpty() ? Collections.emptyMap() : new HashMap<>(clientMappingRegistries.size());
         for (Map.Entry<ProtocolSocketBinding, Registry<String, List<ClientMapping>>> entry : clientMappingRegistries) {
-            this.clusterTopologyRegistrars.put(entry.getKey().getSocketBinding().getSocketAddress().getPort(), new ClusterTopologyRegistrar(entry.getValue()));
+            this.clusterTopologyRegistrars.put(entry.getKey().getSocketBinding().getSocketAddress().getPort(), new ClusterTopologyRegistrar(entry.getValue(), topologyUpdateScheduler, topologyUpdateDelay));
         }
     }
 
@@ -479,24 +489,44 @@ final class AssociationImpl implements Association, AutoCloseable {
         return moduleDeployment.getEjbs().get(beanName);
     }
 
-    private static final class ClusterTopologyRegistrar implements RegistryListener<String, List<ClientMapping>> {
+    /**
+     * Relays changes to the client mappings registry to connected cluster topology listeners.
+     * Changes received within the configured delay are coalesced, and only nodes whose client mappings differ from those
+     * previously published are sent to listeners.
+     */
+    static final class ClusterTopologyRegistrar implements RegistryListener<String, List<ClientMapping>>, Runnable {
         private final Set<ClusterTopologyListener> clusterTopologyListeners = ConcurrentHashMap.newKeySet();
         private final Registry<String, List<ClientMapping>> clientMappingRegistry;
+        private final ScheduledExecutorService scheduler;
+        private final long delay;
+        // Client mappings per node, as last published to listeners - guarded by this
+        private final Map<String, List<ClientMapping>> publishedEntries = new HashMap<>();
+        // Changes not yet published to listeners - guarded by this
+        private final Map<String, List<ClientMapping>> pendingAdditions = new HashMap<>();
+        private final Set<String> pendingRemovals = new HashSet<>();
+        private final AtomicLong receivedChanges = new AtomicLong();
+        private final AtomicLong emittedUpdates = new AtomicLong();
         private final Registration listenerRegistration;
+        private Future<?> pendingUpdate;
 
-        ClusterTopologyRegistrar(Registry<String, List<ClientMapping>> clientMappingRegistry) {
+        ClusterTopologyRegistrar(Registry<String, List<ClientMapping>> clientMappingRegistry, ScheduledExecutorService scheduler, Duration delay) {
             this.clientMappingRegistry = clientMappingRegistry;
-            this.listenerRegistration = clientMappingRegistry.register(this);
+            this.scheduler = scheduler;
+            this.delay = (scheduler != null) ? delay.toMillis() : 0;
+            synchronized (this) {
+                this.listenerRegistration = clientMappingRegistry.register(this);
+                this.publishedEntries.putAll(clientMappingRegistry.getEntries());
+            }
         }
 
         @Override
-        public void addedEntries(Map<String, List<ClientMapping>> added) {
-            ClusterTopologyListener.ClusterInfo info = getClusterInfo(added);
-            for (ClusterTopologyListener listener : this.clusterTopologyListeners) {// Synchronize each listener to ensure that the initial topology was set before processing new entries
-                synchronized (listener) {
-                    listener.clusterNewNodesAdded(info);
-                }
+        public synchronized void addedEntries(Map<String, List<ClientMapping>> added) {
+            this.receivedChanges.addAndGet(added.size());
+            for (Map.Entry<String, List<ClientMapping>> entry : added.entrySet()) {
+                this.pendingRemovals.remove(entry.getKey());
+                this.pendingAdditions.put(entry.getKey(), entry.getValue());
             }
+            this.schedule();
         }
 
         @Override
@@ -505,26 +535,98 @@ final class AssociationImpl implements Association, AutoCloseable {
         }
 
         @Override
-        public void removedEntries(Map<String, List<ClientMapping>> removed) {
-            List<ClusterTopologyListener.ClusterRemovalInfo> removals = Collections.singletonList(new ClusterTopologyListener.ClusterRemovalInfo(this.clientMappingRegistry.getGroup().getName(), new ArrayList<>(removed.keySet())));
-            for (ClusterTopologyListener listener : this.clusterTopologyListeners) {// Synchronize each listener to ensure that the initial topology was set before processing removed entries
+        public synchronized void removedEntries(Map<String, List<ClientMapping>> removed) {
+            this.receivedChanges.addAndGet(removed.size());
+            for (String node : removed.keySet()) {
+                this.pendingAdditions.remove(node);
+                this.pendingRemovals.add(node);
+            }
+            this.schedule();
+        }
+
+        private void schedule() {
+            if (this.delay <= 0) {
+                this.run();
+            } else if (this.pendingUpdate == null) {
+                this.pendingUpdate = this.scheduler.schedule(this, this.delay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * Publishes the net effect of any pending changes to all listeners.
+         */
+        @Override
+        public synchronized void run() {
+            this.pendingUpdate = null;
+            List<String> removed = new ArrayList<>(this.pendingRemovals.size());
+            for (String node : this.pendingRemovals) {
+                if (this.publishedEntries.remove(node) != null) {
+                    removed.add(node);
+                }
+            }
+            Map<String, List<ClientMapping>> added = new HashMap<>();
+            for (Map.Entry<String, List<ClientMapping>> entry : this.pendingAdditions.entrySet()) {
+                if (!equals(entry.getValue(), this.publishedEntries.put(entry.getKey(), entry.getValue()))) {
+                    added.put(entry.getKey(), entry.getValue());
+                }
+            }
+            this.pendingRemovals.clear();
+            this.pendingAdditions.clear();
+
+            List<ClusterTopologyListener.ClusterRemovalInfo> removals = !removed.isEmpty() ? Collections.singletonList(new ClusterTopologyListener.ClusterRemovalInfo(this.clientMappingRegistry.getGroup().getName(), removed)) : null;
+            ClusterTopologyListener.ClusterInfo info = !added.isEmpty() ? getClusterInfo(added) : null;
+            for (ClusterTopologyListener listener : this.clusterTopologyListeners) {
+                // Synchronize each listener to ensure that the initial topology was set before processing changes
                 synchronized (listener) {
-                    listener.clusterNodesRemoved(removals);
+                    if (removals != null) {
+                        listener.clusterNodesRemoved(removals);
+                        this.emittedUpdates.incrementAndGet();
+                    }
+                    if (info != null) {
+                        listener.clusterNewNodesAdded(info);
+                        this.emittedUpdates.incrementAndGet();
+                    }
+                }
+            }
+        }
+
+        // ClientMapping does not implement equals(...)
+        private static boolean equals(List<ClientMapping> mappings, List<ClientMapping> otherMappings) {
+            if ((otherMappings == null) || (mappings.size() != otherMappings.size())) {
+                return false;
+            }
+            Iterator<ClientMapping> otherIterator = otherMappings.iterator();
+            for (ClientMapping mapping : mappings) {
+                ClientMapping other = otherIterator.next();
+                if (!mapping.getSourceNetworkAddress().equals(other.getSourceNetworkAddress())
+                        || (mapping.getSourceNetworkMaskBits() != other.getSourceNetworkMaskBits())
+                        || !mapping.getDestinationAddress().equals(other.getDestinationAddress())
+                        || (mapping.getDestinationPort() != other.getDestinationPort())) {
+                    return false;
                 }
             }
+            return true;
         }
 
-        ListenerHandle registerClusterTopologyListener(ClusterTopologyListener listener) {
+        synchronized ListenerHandle registerClusterTopologyListener(ClusterTopologyListener listener) {
             // Synchronize on the listener to ensure that the initial topology is set before processing any changes from the registry listener
+            // The initial topology is the one last published, so that any pending changes apply consistently to all listeners
             synchronized (listener) {
                 this.clusterTopologyListeners.add(listener);
-                listener.clusterTopology(!this.clientMappingRegistry.getGroup().isSingleton() ? Collections.singletonList(getClusterInfo(this.clientMappingRegistry.getEntries())) : Collections.emptyList());
+                listener.clusterTopology(!this.clientMappingRegistry.getGroup().isSingleton() ? Collections.singletonList(getClusterInfo(this.publishedEntries)) : Collections.emptyList());
+                this.emittedUpdates.incrementAndGet();
             }
             return () -> this.clusterTopologyListeners.remove(listener);
         }
 
         void close() {
             this.listenerRegistration.close();
+            synchronized (this) {
+                if (this.pendingUpdate != null) {
+                    this.pendingUpdate.cancel(false);
+                    this.pendingUpdate = null;
+                }
+            }
             this.clusterTopologyListeners.clear();
         }
 
@@ -532,6 +634,14 @@ final class AssociationImpl implements Association, AutoCloseable {
             return this.clientMappingRegistry.getGroup();
         }
 
+        long getReceivedChanges() {
+            return this.receivedChanges.get();
+        }
+
+        long getEmittedUpdates() {
+            return this.emittedUpdates.get();
+        }
+
         ClusterTopologyListener.ClusterInfo getClusterInfo(final Map<String, List<ClientMapping>> entries) {
             final List<ClusterTopologyListener.NodeInfo> nodeInfoList = new ArrayList<>(entries.size());
             for (Map.Entry<String, List<ClientMapping>> entry : entries.entrySet()) {
@@ -570,6 +680,7 @@ final class AssociationImpl implements Association, AutoCloseable {
                 for (ClusterTopologyListener listener : this.clusterTopologyListeners) {
                     // send the clusterRemoval message to the listener
                     listener.clusterRemoval(Arrays.asList(cluster));
+                    this.emittedUpdates.incrementAndGet();
                 }
             }
         }
@@ -709,6 +820,28 @@ final class AssociationImpl implements Association, AutoCloseable {
         this.executor = executor;
     }
 
+    /**
+     * Returns the number of client mapping changes received from the cluster, across all connectors.
+     */
+    long getClusterTopologyChanges() {
+        long changes = 0;
+        for (ClusterTopologyRegistrar registrar : this.clusterTopologyRegistrars.values()) {
+            changes += registrar.getReceivedChanges();
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the number of cluster topology updates sent to connected clients, across all connectors.
+     */
+    long getClusterTopologyUpdates() {
+        long updates = 0;
+        for (ClusterTopologyRegistrar registrar : this.clusterTopologyRegistrars.values()) {
+            updates += registrar.getEmittedUpdates();
+        }
+        return updates;
+    }
+
     /**
      * Checks if this node is the last node in the cluster and sends a topology update to all connected clients if this is so
      * This should only be called when the node is known to be shutting down (and not just suspending)
@@ -22,6 +22,7 @@
 
 package org.jboss.as.ejb3.remote;
 
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
@@ -32,7 +33,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
+import org.jboss.as.ejb3.concurrency.VirtualThreadExecutorService;
 import org.jboss.as.ejb3.deployment.DeploymentRepository;
 import org.jboss.as.network.ClientMapping;
 import org.jboss.as.network.ProtocolSocketBinding;
@@ -52,6 +56,7 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
 import org.jboss.msc.value.Value;
+import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.clustering.group.Group;
 import org.wildfly.clustering.registry.Registry;
 import org.wildfly.discovery.AttributeValue;
@@ -83,6 +88,8 @@ public final class AssociationService implements Service<AssociationService> {
 
     private volatile AssociationImpl value;
     private volatile ListenerHandle moduleAvailabilityListener;
+    private volatile Duration clusterTopologyUpdateDelay = Duration.ZERO;
+    private volatile ScheduledExecutorService clusterTopologyUpdateScheduler;
 
     @Override
     public void start(final StartContext context) throws StartException {
@@ -92,7 +99,10 @@ public final class AssociationService implements Service<AssociationService> {
         for (Map.Entry<Value<ProtocolSocketBinding>, Value<Registry>> entry : this.clientMappingsRegistries) {
             clientMappingsRegistries.add(new SimpleImmutableEntry<>(entry.getKey().getValue(), entry.getValue().getValue()));
         }
-        value = new AssociationImpl(deploymentRepositoryInjector.getValue(), clientMappingsRegistries);
+        if (!clientMappingsRegistries.isEmpty() && !clusterTopologyUpdateDelay.isZero()) {
+            clusterTopologyUpdateScheduler = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory(AssociationService.class));
+        }
+        value = new AssociationImpl(deploymentRepositoryInjector.getValue(), clientMappingsRegistries, clusterTopologyUpdateScheduler, clusterTopologyUpdateDelay);
 
         String ourNodeName = serverEnvironmentServiceInjector.getValue().getNodeName();
 
@@ -163,6 +173,10 @@ public final class AssociationService implements Service<AssociationService> {
     public void stop(final StopContext context) {
         value.close();
         value = null;
+        if (clusterTopologyUpdateScheduler != null) {
+            clusterTopologyUpdateScheduler.shutdownNow();
+            clusterTopologyUpdateScheduler = null;
+        }
         moduleAvailabilityListener.close();
         moduleAvailabilityListener = null;
         mutableDiscoveryProvider.setDiscoveryProvider(DiscoveryProvider.EMPTY);
@@ -204,6 +218,42 @@ public final class AssociationService implements Service<AssociationService> {
         return value;
     }
 
+    /**
+     * Sets the period over which changes to the cluster topology are coalesced before being sent to connected clients.
+     * A zero delay sends each change immediately.
+     */
+    public void setClusterTopologyUpdateDelay(Duration delay) {
+        this.clusterTopologyUpdateDelay = delay;
+    }
+
+    /**
+     * Returns the number of client mapping changes received from the cluster since this service started.
+     */
+    public long getClusterTopologyChanges() {
+        AssociationImpl association = this.value;
+        return (association != null) ? association.getClusterTopologyChanges() : 0;
+    }
+
+    /**
+     * Returns the number of cluster topology updates sent to connected clients since this service started.
+     */
+    public long getClusterTopologyUpdates() {
+        AssociationImpl association = this.value;
+        return (association != null) ? association.getClusterTopologyUpdates() : 0;
+    }
+
+    /**
+     * Returns the executor that dispatches remote invocations to virtual threads, if enabled.
+     * @return a virtual thread executor, or null, if remote invocations are not dispatched to virtual threads
+     */
+    public VirtualThreadExecutorService getVirtualThreadExecutor() {
+        Executor executor = this.value.getExecutor();
+        if (executor instanceof ControlPointExecutor) {
+            executor = ((ControlPointExecutor) executor).getExecutor();
+        }
+        return (executor instanceof VirtualThreadExecutorService) ? (VirtualThreadExecutorService) executor : null;
+    }
+
     void setExecutor(Executor executor) {
         this.value.setExecutor(executor);
     }
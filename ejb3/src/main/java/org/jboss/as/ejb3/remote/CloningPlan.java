@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.as.ee.utils.DescriptorUtils;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * The cloning plan of a remote view method invoked in-VM, computed once per method.
+ * Values of immutable types, i.e. immutable JDK types and records thereof, are passed as is, rather than copied via an object cloner.
+ */
+final class CloningPlan {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Character.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Locale.class,
+            Duration.class, Instant.class, LocalDate.class, LocalDateTime.class, LocalTime.class, MonthDay.class, OffsetDateTime.class, OffsetTime.class,
+            Period.class, Year.class, YearMonth.class, ZoneOffset.class, ZonedDateTime.class);
+
+    private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (IMMUTABLE_TYPES.contains(type)) return Boolean.TRUE;
+            if (isJDKType(type)) {
+                // e.g. java.time.ZoneRegion, java.util.concurrent.TimeUnit
+                return type.isEnum() || ZoneId.class.isAssignableFrom(type);
+            }
+            return isImmutableRecord(type);
+        }
+    };
+
+    private static final ClassValue<Map<Method, CloningPlan>> PLANS = new ClassValue<>() {
+        @Override
+        protected Map<Method, CloningPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns the cloning plan for the specified remote view method.
+     * @param method a method of a remote view, as invoked by a client
+     * @return a cloning plan
+     */
+    static CloningPlan of(Method method) {
+        // Plans are associated with the view class, so that they do not outlive its class loader
+        return PLANS.get(method.getDeclaringClass()).computeIfAbsent(method, CloningPlan::new);
+    }
+
+    private final String descriptor;
+    private final boolean[] immutableParameters;
+    private final boolean immutableReturnType;
+
+    private CloningPlan(Method method) {
+        this.descriptor = DescriptorUtils.methodDescriptor(method);
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        this.immutableParameters = new boolean[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            this.immutableParameters[i] = isImmutableDeclaredType(parameterTypes[i]);
+        }
+        this.immutableReturnType = isImmutableDeclaredType(method.getReturnType());
+    }
+
+    /**
+     * Returns the descriptor of the method of this plan.
+     * @return a method descriptor
+     */
+    String getDescriptor() {
+        return this.descriptor;
+    }
+
+    /**
+     * Indicates whether the specified parameter of the method of this plan can be passed without cloning.
+     * @param index a parameter index
+     * @param value a parameter value
+     * @param loader the class loader of the target of the invocation
+     * @return true, if the specified parameter value does not need to be cloned, false otherwise
+     */
+    boolean isImmutableParameter(int index, Object value, ClassLoader loader) {
+        return ((index < this.immutableParameters.length) && this.immutableParameters[index]) || isImmutable(value, loader);
+    }
+
+    /**
+     * Indicates whether the specified return value of the method of this plan can be returned without cloning.
+     * @param value a return value
+     * @param loader the class loader of the invoker
+     * @return true, if the specified return value does not need to be cloned, false otherwise
+     */
+    boolean isImmutableReturnValue(Object value, ClassLoader loader) {
+        return this.immutableReturnType || isImmutable(value, loader);
+    }
+
+    private static boolean isImmutable(Object value, ClassLoader loader) {
+        Class<?> valueClass = value.getClass();
+        return IMMUTABLE.get(valueClass) && (isJDKType(valueClass) || isVisible(valueClass, loader));
+    }
+
+    // Values of a declared type that is final and immutable never require cloning, regardless of their runtime class
+    private static boolean isImmutableDeclaredType(Class<?> type) {
+        return type.isPrimitive() || (isJDKType(type) && Modifier.isFinal(type.getModifiers()) && IMMUTABLE.get(type));
+    }
+
+    private static boolean isJDKType(Class<?> type) {
+        // Consistent with LocalInvocationClassCloner
+        return type.getName().startsWith("java.");
+    }
+
+    // A record is immutable if all of its components are primitives or final immutable JDK types
+    private static boolean isImmutableRecord(Class<?> type) {
+        Class<?> superClass = type.getSuperclass();
+        if ((superClass == null) || !superClass.getName().equals("java.lang.Record")) return false;
+        Field[] fields = WildFlySecurityManager.isChecking() ? WildFlySecurityManager.doUnchecked((PrivilegedAction<Field[]>) type::getDeclaredFields) : type.getDeclaredFields();
+        for (Field field : fields) {
+            if (!Modifier.isStatic(field.getModifiers()) && !isImmutableDeclaredType(field.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // A non-JDK class may only be passed as is if the target class loader would resolve the same class
+    private static boolean isVisible(Class<?> type, ClassLoader loader) {
+        ClassLoader typeLoader = WildFlySecurityManager.getClassLoaderPrivileged(type);
+        if (typeLoader == loader) return true;
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.remote;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.wildfly.extension.requestcontroller.ControlPoint;
+import org.wildfly.extension.requestcontroller.RunResult;
+
+/**
+ * Executor decorator that tracks dispatched tasks, including those not yet running, as requests of a {@link ControlPoint}.
+ * This allows a graceful suspend to wait for dispatched remote invocations to complete.
+ * Tasks dispatched while suspended are executed regardless, so that the suspend handling of the target component
+ * may still accept invocations that belong to an active transaction.
+ */
+class ControlPointExecutor implements Executor {
+
+    private final ControlPoint controlPoint;
+    private final Executor executor;
+
+    ControlPointExecutor(ControlPoint controlPoint, Executor executor) {
+        this.controlPoint = controlPoint;
+        this.executor = executor;
+    }
+
+    Executor getExecutor() {
+        return this.executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        RunResult result;
+        try {
+            result = this.controlPoint.beginRequest();
+        } catch (Exception e) {
+            throw new RejectedExecutionException(e);
+        }
+        if (result == RunResult.RUN) {
+            try {
+                this.executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        this.controlPoint.requestComplete();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                this.controlPoint.requestComplete();
+                throw e;
+            }
+        } else {
+            this.executor.execute(task);
+        }
+    }
+}
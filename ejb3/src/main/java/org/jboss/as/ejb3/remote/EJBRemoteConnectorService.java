@@ -23,10 +23,12 @@ package org.jboss.as.ejb3.remote;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.jboss.as.ejb3.concurrency.VirtualThreadExecutorService;
 import org.jboss.ejb.protocol.remote.RemoteEJBService;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceName;
@@ -37,6 +39,8 @@ import org.jboss.remoting3.Endpoint;
 import org.jboss.remoting3.OpenListener;
 import org.jboss.remoting3.Registration;
 import org.jboss.remoting3.ServiceRegistrationException;
+import org.wildfly.extension.requestcontroller.ControlPoint;
+import org.wildfly.extension.requestcontroller.RequestController;
 import org.wildfly.transaction.client.provider.remoting.RemotingTransactionService;
 import org.xnio.OptionMap;
 
@@ -58,11 +62,23 @@ public class EJBRemoteConnectorService implements Service {
     private volatile Registration registration;
     private final OptionMap channelCreationOptions;
     private final Function<String, Boolean> classResolverFilter;
+    private final ThreadFactory virtualThreadFactory;
+    private final int maxConcurrentInvocations;
+    private final Supplier<RequestController> requestControllerSupplier;
+    private volatile VirtualThreadExecutorService virtualThreadExecutor;
+    private volatile ControlPoint controlPoint;
 
+    /**
+     * Creates a connector service.
+     * @param virtualThreadFactory a factory of virtual threads, or null, if invocations should be dispatched to the specified executor
+     * @param maxConcurrentInvocations the maximum number of invocations that may run concurrently on virtual threads
+     * @param requestControllerSupplier supplies the request controller used to track dispatched invocations, or null, if the request controller is not available
+     */
     public EJBRemoteConnectorService(
             final Consumer<EJBRemoteConnectorService> serviceConsumer, final Supplier<Endpoint> endpointSupplier, final Supplier<ExecutorService> executorServiceSupplier,
             final Supplier<AssociationService> associationServiceSupplier, final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier,
-            final OptionMap channelCreationOptions, final Function<String, Boolean> classResolverFilter) {
+            final OptionMap channelCreationOptions, final Function<String, Boolean> classResolverFilter,
+            final ThreadFactory virtualThreadFactory, final int maxConcurrentInvocations, final Supplier<RequestController> requestControllerSupplier) {
         this.serviceConsumer = serviceConsumer;
         this.endpointSupplier = endpointSupplier;
         this.executorServiceSupplier = executorServiceSupplier;
@@ -70,6 +86,9 @@ public class EJBRemoteConnectorService implements Service {
         this.remotingTransactionServiceSupplier = remotingTransactionServiceSupplier;
         this.channelCreationOptions = channelCreationOptions;
         this.classResolverFilter = classResolverFilter;
+        this.virtualThreadFactory = virtualThreadFactory;
+        this.maxConcurrentInvocations = maxConcurrentInvocations;
+        this.requestControllerSupplier = requestControllerSupplier;
     }
 
     @Override
@@ -77,6 +96,14 @@ public class EJBRemoteConnectorService implements Service {
         final AssociationService associationService = associationServiceSupplier.get();
         final Endpoint endpoint = endpointSupplier.get();
         Executor executor = executorServiceSupplier != null ? executorServiceSupplier.get() : null;
+        if (virtualThreadFactory != null) {
+            virtualThreadExecutor = new VirtualThreadExecutorService(virtualThreadFactory, maxConcurrentInvocations);
+            executor = virtualThreadExecutor;
+            if (requestControllerSupplier != null) {
+                controlPoint = requestControllerSupplier.get().getControlPoint(EJBRemoteConnectorService.class.getPackage().getName(), EJB_CHANNEL_NAME);
+                executor = new ControlPointExecutor(controlPoint, executor);
+            }
+        }
         if (executor != null) {
             associationService.setExecutor(executor);
         }
@@ -104,6 +131,14 @@ public class EJBRemoteConnectorService implements Service {
         associationService.sendTopologyUpdateIfLastNodeToLeave();
         associationService.setExecutor(null);
         registration.close();
+        if (controlPoint != null) {
+            requestControllerSupplier.get().removeControlPoint(controlPoint);
+            controlPoint = null;
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+            virtualThreadExecutor = null;
+        }
     }
 
 }
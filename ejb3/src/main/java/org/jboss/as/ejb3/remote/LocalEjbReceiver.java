@@ -33,11 +33,13 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.jboss.as.ee.component.Component;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ee.component.deployers.StartupCountdown;
-import org.jboss.as.ee.utils.DescriptorUtils;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.interceptors.CancellationFlag;
 import org.jboss.as.ejb3.component.session.SessionBeanComponent;
@@ -59,6 +61,7 @@ import org.jboss.ejb.client.SessionID;
 import org.jboss.ejb.client.StatelessEJBLocator;
 import org.jboss.ejb.client.TransactionID;
 import org.jboss.invocation.InterceptorContext;
+import org.jboss.marshalling.cloner.ClassCloner;
 import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
 import org.jboss.marshalling.cloner.ClonerConfiguration;
 import org.jboss.marshalling.cloner.ObjectCloner;
@@ -82,6 +85,10 @@ public class LocalEjbReceiver extends EJBReceiver {
 
     private final boolean allowPassByReference;
 
+    private final LongAdder referencedValues = new LongAdder();
+    private final LongAdder immutableValues = new LongAdder();
+    private final LongAdder clonedValues = new LongAdder();
+
     public LocalEjbReceiver(final boolean allowPassByReference, final DeploymentRepository deploymentRepository) {
         this.allowPassByReference = allowPassByReference;
         this.deploymentRepository = deploymentRepository;
@@ -103,11 +110,10 @@ public class LocalEjbReceiver extends EJBReceiver {
         if (!ejb.isRemoteView(viewClass.getName())) {
             throw EjbLogger.ROOT_LOGGER.viewNotFound(viewClass.getName(), ejb.getEjbName());
         }
-        final ClonerConfiguration paramConfig = new ClonerConfiguration();
-        paramConfig.setClassCloner(new ClassLoaderClassCloner(ejb.getDeploymentClassLoader()));
-        final ObjectCloner parameterCloner = createCloner(paramConfig);
-        //TODO: this is not very efficient
-        final Method method = view.getMethod(invocation.getInvokedMethod().getName(), DescriptorUtils.methodDescriptor(invocation.getInvokedMethod()));
+        final CloningPlan plan = CloningPlan.of(invocation.getInvokedMethod());
+        final ClassLoader deploymentClassLoader = ejb.getDeploymentClassLoader();
+        final Supplier<ObjectCloner> parameterCloner = new LazyObjectCloner(new ClassLoaderClassCloner(deploymentClassLoader));
+        final Method method = view.getMethod(invocation.getInvokedMethod().getName(), plan.getDescriptor());
 
         final boolean async = view.isAsynchronous(method) || invocation.isClientAsync();
 
@@ -116,8 +122,10 @@ public class LocalEjbReceiver extends EJBReceiver {
             parameters = EMPTY_STRING_ARRAY;
         } else {
             parameters = new Object[invocation.getParameters().length];
+            final Class<?>[] parameterTypes = method.getParameterTypes();
             for (int i = 0; i < parameters.length; ++i) {
-                parameters[i] = clone(method.getParameterTypes()[i], parameterCloner, invocation.getParameters()[i], allowPassByReference);
+                final int index = i;
+                parameters[i] = clone(parameterTypes[i], parameterCloner, invocation.getParameters()[i], value -> plan.isImmutableParameter(index, value, deploymentClassLoader));
             }
         }
 
@@ -163,9 +171,9 @@ public class LocalEjbReceiver extends EJBReceiver {
             throw EjbLogger.ROOT_LOGGER.ejbNotFoundInDeployment(locator);
         }
 
-        final ClonerConfiguration config = new ClonerConfiguration();
-        config.setClassCloner(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(invocation.getInvokedProxy().getClass())));
-        final ObjectCloner resultCloner = createCloner(config);
+        final ClassLoader invokerClassLoader = WildFlySecurityManager.getClassLoaderPrivileged(invocation.getInvokedProxy().getClass());
+        final Supplier<ObjectCloner> resultCloner = new LazyObjectCloner(new LocalInvocationClassCloner(invokerClassLoader));
+        final Predicate<Object> immutableResult = value -> plan.isImmutableReturnValue(value, invokerClassLoader);
         if (async) {
             if (ejbComponent instanceof SessionBeanComponent) {
                 final CancellationFlag flag = new CancellationFlag();
@@ -196,7 +204,7 @@ public class LocalEjbReceiver extends EJBReceiver {
                             result = view.invoke(interceptorContext);
                         } catch (Exception e) {
                             // WFLY-4331 - clone the exception of an async task
-                            receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                            receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e));
                             return;
                         }
                         // if the result is null, there is no cloning needed
@@ -217,7 +225,7 @@ public class LocalEjbReceiver extends EJBReceiver {
                                     intr = true;
                                 } catch (ExecutionException e) {
                                     // WFLY-4331 - clone the exception of an async task
-                                    receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                                    receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e));
                                     return;
                                 }
                             } finally {
@@ -228,10 +236,10 @@ public class LocalEjbReceiver extends EJBReceiver {
                                 receiverContext.resultReady(NULL_RESULT);
                                 return;
                             }
-                            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, asyncValue, allowPassByReference));
+                            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, asyncValue, immutableResult));
                             return;
                         }
-                        receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference));
+                        receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, immutableResult));
                     } finally {
                         StartupCountdown.restore(null);
                     }
@@ -258,10 +266,10 @@ public class LocalEjbReceiver extends EJBReceiver {
             } catch (Exception e) {
                 //we even have to clone the exception type
                 //to make sure it matches
-                receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e));
                 return;
             }
-            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference));
+            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, immutableResult));
 
             for(Map.Entry<String, Object> entry : interceptorContext.getContextData().entrySet()) {
                 if (entry.getValue() instanceof Serializable) {
@@ -276,40 +284,39 @@ public class LocalEjbReceiver extends EJBReceiver {
         return flag != null && flag.cancel(cancelIfRunning);
     }
 
-    static final class CloningResultProducer implements EJBReceiverInvocationContext.ResultProducer {
+    final class CloningResultProducer implements EJBReceiverInvocationContext.ResultProducer {
         private final EJBClientInvocationContext invocation;
-        private final ObjectCloner resultCloner;
+        private final Supplier<ObjectCloner> resultCloner;
         private final Object result;
-        private final boolean allowPassByReference;
+        private final Predicate<Object> immutable;
 
-        CloningResultProducer(final EJBClientInvocationContext invocation, final ObjectCloner resultCloner, final Object result, final boolean allowPassByReference) {
+        CloningResultProducer(final EJBClientInvocationContext invocation, final Supplier<ObjectCloner> resultCloner, final Object result, final Predicate<Object> immutable) {
             this.invocation = invocation;
             this.resultCloner = resultCloner;
             this.result = result;
-            this.allowPassByReference = allowPassByReference;
+            this.immutable = immutable;
         }
 
         public Object getResult() throws Exception {
-            return LocalEjbReceiver.clone(invocation.getInvokedMethod().getReturnType(), resultCloner, result, allowPassByReference);
+            return LocalEjbReceiver.this.clone(invocation.getInvokedMethod().getReturnType(), resultCloner, result, immutable);
         }
 
         public void discardResult() {
         }
     }
 
-    static final class CloningExceptionProducer implements EJBReceiverInvocationContext.ResultProducer {
-        private final ObjectCloner resultCloner;
+    final class CloningExceptionProducer implements EJBReceiverInvocationContext.ResultProducer {
+        private final Supplier<ObjectCloner> resultCloner;
         private final Exception exception;
-        private final boolean allowPassByReference;
 
-        CloningExceptionProducer(final ObjectCloner resultCloner, final Exception exception, final boolean allowPassByReference) {
+        CloningExceptionProducer(final Supplier<ObjectCloner> resultCloner, final Exception exception) {
             this.resultCloner = resultCloner;
             this.exception = exception;
-            this.allowPassByReference = allowPassByReference;
         }
 
         public Object getResult() throws Exception {
-            throw (Exception) LocalEjbReceiver.clone(Exception.class, resultCloner, exception, allowPassByReference);
+            // exceptions are never immutable
+            throw (Exception) LocalEjbReceiver.this.clone(Exception.class, resultCloner, exception, value -> false);
         }
 
         public void discardResult() {
@@ -318,7 +325,31 @@ public class LocalEjbReceiver extends EJBReceiver {
 
 
 
-    private ObjectCloner createCloner(final ClonerConfiguration paramConfig) {
+    /**
+     * Creates its object cloner on first use, as invocations whose values are all immutable do not need one.
+     */
+    private static final class LazyObjectCloner implements Supplier<ObjectCloner> {
+        private final ClassCloner classCloner;
+        private volatile ObjectCloner cloner;
+
+        LazyObjectCloner(final ClassCloner classCloner) {
+            this.classCloner = classCloner;
+        }
+
+        @Override
+        public ObjectCloner get() {
+            ObjectCloner cloner = this.cloner;
+            if (cloner == null) {
+                final ClonerConfiguration config = new ClonerConfiguration();
+                config.setClassCloner(this.classCloner);
+                cloner = createCloner(config);
+                this.cloner = cloner;
+            }
+            return cloner;
+        }
+    }
+
+    private static ObjectCloner createCloner(final ClonerConfiguration paramConfig) {
         ObjectCloner parameterCloner;
         if(WildFlySecurityManager.isChecking()) {
             parameterCloner = WildFlySecurityManager.doUnchecked((PrivilegedAction<ObjectCloner>) () -> ObjectCloners.getSerializingObjectClonerFactory().createCloner(paramConfig));
@@ -339,18 +370,50 @@ public class LocalEjbReceiver extends EJBReceiver {
         return ((StatefulSessionComponent) component).createSession();
     }
 
-    static Object clone(final Class<?> target, final ObjectCloner cloner, final Object object, final boolean allowPassByReference) {
+    Object clone(final Class<?> target, final Supplier<ObjectCloner> cloner, final Object object, final Predicate<Object> immutable) {
         if (object == null) {
             return null;
         }
         // don't clone primitives
         if (target.isPrimitive()) {
+            immutableValues.increment();
             return object;
         }
         if (allowPassByReference && target.isAssignableFrom(object.getClass())) {
+            referencedValues.increment();
             return object;
         }
-        return clone(cloner, object);
+        // don't clone values of immutable types
+        if (immutable.test(object)) {
+            immutableValues.increment();
+            return object;
+        }
+        clonedValues.increment();
+        return clone(cloner.get(), object);
+    }
+
+    /**
+     * Returns the number of values passed by reference, as permitted by the pass-by-reference configuration.
+     * @return a number of parameter and return values
+     */
+    public long getReferencedValues() {
+        return referencedValues.sum();
+    }
+
+    /**
+     * Returns the number of values passed without cloning, due to being of an immutable type.
+     * @return a number of parameter and return values
+     */
+    public long getImmutableValues() {
+        return immutableValues.sum();
+    }
+
+    /**
+     * Returns the number of values copied using an object cloner.
+     * @return a number of parameter, return and exception values
+     */
+    public long getClonedValues() {
+        return clonedValues.sum();
     }
 
     private static Object clone(final ObjectCloner cloner, final Object object) {
@@ -91,6 +91,14 @@ public class LocalTransportProvider implements EJBTransportProvider, Service<Loc
         return receiver;
     }
 
+    /**
+     * Returns the receiver of this transport provider.
+     * @return a local receiver, or null if this service is not started
+     */
+    public LocalEjbReceiver getLocalReceiver() {
+        return receiver;
+    }
+
     @Override
     public LocalTransportProvider getValue() throws IllegalStateException, IllegalArgumentException {
         return this;
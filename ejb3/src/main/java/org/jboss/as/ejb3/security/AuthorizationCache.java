@@ -0,0 +1,211 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.security;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.security.auth.server.SecurityIdentity;
+
+/**
+ * Memoizes role based authorization decisions per {@link SecurityIdentity}.
+ * A {@link SecurityIdentity} is immutable, so whether it is allowed by a given set of roles never changes.
+ * Identities are weakly referenced, so decisions are discarded along with the identity to which they apply.
+ * Each distinct set of allowed roles is assigned an identifier, so that a decision can be located without comparing roles.
+ * Lookups do not lock, so concurrent invocations by the same identity do not contend.
+ */
+public class AuthorizationCache {
+
+    private final ConcurrentMap<Set<String>, Integer> roleSetIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextRoleSetId = new AtomicInteger();
+    private final ConcurrentMap<IdentityKey, Decisions> decisions = new ConcurrentHashMap<>();
+    private final ReferenceQueue<SecurityIdentity> collected = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the identifier of the specified set of allowed roles.
+     * @param rolesAllowed a collection of roles
+     * @return a role set identifier
+     */
+    public int getRoleSetId(Collection<String> rolesAllowed) {
+        return this.roleSetIds.computeIfAbsent(new HashSet<>(rolesAllowed), key -> this.nextRoleSetId.getAndIncrement());
+    }
+
+    /**
+     * Returns the memoized decision for the specified identity and role set.
+     * @param identity a security identity
+     * @param roleSetId a role set identifier
+     * @return true, if allowed, false, if denied, or null if no decision was memoized
+     */
+    public Boolean get(SecurityIdentity identity, int roleSetId) {
+        Decisions decisions = this.decisions.get(new IdentityLookupKey(identity));
+        Boolean result = (decisions != null) ? decisions.get(roleSetId) : null;
+        if (result != null) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Memoizes the decision for the specified identity and role set.
+     * @param identity a security identity
+     * @param roleSetId a role set identifier
+     * @param allowed indicates whether the identity is allowed by the role set
+     */
+    public void put(SecurityIdentity identity, int roleSetId, boolean allowed) {
+        this.expunge();
+        Decisions decisions = this.decisions.get(new IdentityLookupKey(identity));
+        if (decisions == null) {
+            decisions = this.decisions.computeIfAbsent(new IdentityReference(identity, this.collected), key -> new Decisions());
+        }
+        decisions.put(roleSetId, allowed);
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    int size() {
+        this.expunge();
+        return this.decisions.size();
+    }
+
+    /**
+     * Removes the decisions of identities that were garbage collected.
+     */
+    private void expunge() {
+        Reference<? extends SecurityIdentity> reference = this.collected.poll();
+        while (reference != null) {
+            this.decisions.remove(reference);
+            reference = this.collected.poll();
+        }
+    }
+
+    /**
+     * A key of the decisions map, which compares identities by reference.
+     */
+    private interface IdentityKey {
+        SecurityIdentity getIdentity();
+    }
+
+    private static boolean equals(IdentityKey key, Object object) {
+        if (key == object) return true;
+        if (!(object instanceof IdentityKey)) return false;
+        SecurityIdentity identity = key.getIdentity();
+        return (identity != null) && (identity == ((IdentityKey) object).getIdentity());
+    }
+
+    /**
+     * The weakly referenced key under which the decisions of an identity are stored.
+     */
+    private static class IdentityReference extends WeakReference<SecurityIdentity> implements IdentityKey {
+        private final int hash;
+
+        IdentityReference(SecurityIdentity identity, ReferenceQueue<SecurityIdentity> queue) {
+            super(identity, queue);
+            this.hash = System.identityHashCode(identity);
+        }
+
+        @Override
+        public SecurityIdentity getIdentity() {
+            return this.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return AuthorizationCache.equals(this, object);
+        }
+    }
+
+    /**
+     * The short-lived key with which the decisions of an identity are located.
+     */
+    private static class IdentityLookupKey implements IdentityKey {
+        private final SecurityIdentity identity;
+
+        IdentityLookupKey(SecurityIdentity identity) {
+            this.identity = identity;
+        }
+
+        @Override
+        public SecurityIdentity getIdentity() {
+            return this.identity;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.identity);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return AuthorizationCache.equals(this, object);
+        }
+    }
+
+    /**
+     * Decisions of a single identity, indexed by role set identifier.
+     * Each role set uses 2 bits: whether a decision was made, and whether it allowed the identity.
+     */
+    private static class Decisions {
+        private volatile long[] bits = new long[1];
+
+        Boolean get(int roleSetId) {
+            long[] bits = this.bits;
+            int index = roleSetId >>> 5;
+            if (index >= bits.length) {
+                return null;
+            }
+            long word = bits[index] >>> ((roleSetId & 31) << 1);
+            return ((word & 1L) != 0) ? Boolean.valueOf((word & 2L) != 0) : null;
+        }
+
+        synchronized void put(int roleSetId, boolean allowed) {
+            int index = roleSetId >>> 5;
+            long[] bits = this.bits;
+            long[] result = new long[Math.max(bits.length, index + 1)];
+            System.arraycopy(bits, 0, result, 0, bits.length);
+            result[index] |= (allowed ? 3L : 1L) << ((roleSetId & 31) << 1);
+            this.bits = result;
+        }
+    }
+}
@@ -51,7 +51,6 @@ import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.reflect.ClassReflectionIndexUtil;
 import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
 import org.jboss.invocation.ImmediateInterceptorFactory;
-import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorFactory;
 import org.jboss.metadata.ejb.spec.MethodInterfaceType;
 import org.jboss.msc.service.ServiceName;
@@ -247,21 +246,21 @@ public class EJBSecurityViewConfigurator implements ViewConfigurator {
                 return true;
             }
             // add the interceptor
-            final Interceptor authorizationInterceptor;
+            final InterceptorFactory authorizationInterceptorFactory;
             if (elytronSecurityDomain) {
                 if (ejbMethodSecurityMetaData.isDenyAll()) {
-                    authorizationInterceptor = RolesAllowedInterceptor.DENY_ALL;
+                    authorizationInterceptorFactory = new ImmediateInterceptorFactory(RolesAllowedInterceptor.DENY_ALL);
                 } else {
                     if (componentDescription.requiresJacc()) {
-                        authorizationInterceptor = new JaccInterceptor(viewClassName, viewMethod);
+                        authorizationInterceptorFactory = new ImmediateInterceptorFactory(new JaccInterceptor(viewClassName, viewMethod));
                     } else {
-                        authorizationInterceptor = new RolesAllowedInterceptor(ejbMethodSecurityMetaData.getRolesAllowed());
+                        authorizationInterceptorFactory = new RolesAllowedInterceptor.Factory(ejbMethodSecurityMetaData.getRolesAllowed());
                     }
                 }
             } else {
                 throw ROOT_LOGGER.legacySecurityUnsupported(resolvedSecurityDomain);
             }
-            viewConfiguration.addViewInterceptor(viewMethod, new ImmediateInterceptorFactory(authorizationInterceptor), InterceptorOrder.View.EJB_SECURITY_AUTHORIZATION_INTERCEPTOR);
+            viewConfiguration.addViewInterceptor(viewMethod, authorizationInterceptorFactory, InterceptorOrder.View.EJB_SECURITY_AUTHORIZATION_INTERCEPTOR);
 
             return true;
         }
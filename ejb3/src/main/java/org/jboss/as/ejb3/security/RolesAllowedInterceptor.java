@@ -27,10 +27,12 @@ import java.util.Collections;
 import java.util.Iterator;
 
 import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.ComponentInterceptorFactory;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.InterceptorFactoryContext;
 import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.authz.Roles;
@@ -40,9 +42,17 @@ import org.wildfly.security.authz.Roles;
  */
 class RolesAllowedInterceptor implements Interceptor {
     private final Collection<String> rolesAllowed;
+    private final AuthorizationCache authorizationCache;
+    private final int roleSetId;
 
     RolesAllowedInterceptor(final Collection<String> rolesAllowed) {
+        this(rolesAllowed, null);
+    }
+
+    RolesAllowedInterceptor(final Collection<String> rolesAllowed, final AuthorizationCache authorizationCache) {
         this.rolesAllowed = rolesAllowed;
+        this.authorizationCache = authorizationCache;
+        this.roleSetId = (authorizationCache != null) ? authorizationCache.getRoleSetId(rolesAllowed) : -1;
     }
 
     static final RolesAllowedInterceptor DENY_ALL = new RolesAllowedInterceptor(Collections.emptyList());
@@ -52,18 +62,49 @@ class RolesAllowedInterceptor implements Interceptor {
         if (! (component instanceof EJBComponent)) {
             throw EjbLogger.ROOT_LOGGER.unexpectedComponent(component, EJBComponent.class);
         }
-        final Iterator<String> iterator = rolesAllowed.iterator();
-        if (iterator.hasNext()) {
+        if (!rolesAllowed.isEmpty()) {
             final SecurityDomain securityDomain = context.getPrivateData(SecurityDomain.class);
             final SecurityIdentity identity = securityDomain.getCurrentSecurityIdentity();
-            final Roles ejbRoles = identity.getRoles("ejb", true);
-            do {
-                final String role = iterator.next();
-                if (ejbRoles.contains(role) || (role.equals("**") && !identity.isAnonymous())) {
-                    return context.proceed();
+            final AuthorizationCache cache = this.authorizationCache;
+            Boolean allowed = (cache != null) ? cache.get(identity, roleSetId) : null;
+            if (allowed == null) {
+                allowed = isAllowed(identity);
+                if (cache != null) {
+                    cache.put(identity, roleSetId, allowed);
                 }
-            } while (iterator.hasNext());
+            }
+            if (allowed) {
+                return context.proceed();
+            }
         }
         throw EjbLogger.ROOT_LOGGER.invocationOfMethodNotAllowed(context.getMethod(), ((EJBComponent) component).getComponentName());
     }
+
+    private boolean isAllowed(final SecurityIdentity identity) {
+        final Roles ejbRoles = identity.getRoles("ejb", true);
+        final Iterator<String> iterator = rolesAllowed.iterator();
+        while (iterator.hasNext()) {
+            final String role = iterator.next();
+            if (ejbRoles.contains(role) || (role.equals("**") && !identity.isAnonymous())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a {@link RolesAllowedInterceptor} that memoizes its decisions using the authorization cache of the component, if any.
+     */
+    static class Factory extends ComponentInterceptorFactory {
+        private final Collection<String> rolesAllowed;
+
+        Factory(final Collection<String> rolesAllowed) {
+            this.rolesAllowed = rolesAllowed;
+        }
+
+        @Override
+        protected Interceptor create(final Component component, final InterceptorFactoryContext context) {
+            return new RolesAllowedInterceptor(rolesAllowed, ((EJBComponent) component).getAuthorizationCache());
+        }
+    }
 }
@@ -32,6 +32,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.CapabilityServiceBuilder;
 import org.jboss.as.controller.OperationContext;
@@ -51,14 +52,17 @@ import org.jboss.as.controller.access.constraint.SensitivityClassification;
 import org.jboss.as.controller.access.management.ApplicationTypeAccessConstraintDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.ejb3.security.ApplicationSecurityDomainConfig;
+import org.jboss.as.ejb3.security.AuthorizationCache;
 import org.jboss.as.ejb3.subsystem.ApplicationSecurityDomainService.ApplicationSecurityDomain;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceController.Mode;
 import org.jboss.msc.service.ServiceName;
 import org.wildfly.security.auth.server.SecurityDomain;
@@ -101,6 +105,16 @@ public class ApplicationSecurityDomainDefinition extends SimpleResourceDefinitio
             .setRestartAllServices()
             .build();
 
+    static final SimpleAttributeDefinition AUTHORIZATION_CACHE_HITS = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.AUTHORIZATION_CACHE_HITS, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final SimpleAttributeDefinition AUTHORIZATION_CACHE_MISSES = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.AUTHORIZATION_CACHE_MISSES, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { SECURITY_DOMAIN, ENABLE_JACC, LEGACY_COMPLIANT_PRINCIPAL_PROPAGATION };
 
     static final ApplicationSecurityDomainDefinition INSTANCE = new ApplicationSecurityDomainDefinition();
@@ -130,6 +144,8 @@ public class ApplicationSecurityDomainDefinition extends SimpleResourceDefinitio
         }
         if (resourceRegistration.getProcessType().isServer()) {
             resourceRegistration.registerReadOnlyAttribute(REFERENCING_DEPLOYMENTS, new ReferencingDeploymentsHandler());
+            resourceRegistration.registerMetric(AUTHORIZATION_CACHE_HITS, AuthorizationCacheMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(AUTHORIZATION_CACHE_MISSES, AuthorizationCacheMetricHandler.INSTANCE);
         }
     }
 
@@ -244,6 +260,23 @@ public class ApplicationSecurityDomainDefinition extends SimpleResourceDefinitio
         }
     }
 
+    private static class AuthorizationCacheMetricHandler extends AbstractRuntimeOnlyHandler {
+        static final AuthorizationCacheMetricHandler INSTANCE = new AuthorizationCacheMetricHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            ServiceName serviceName = APPLICATION_SECURITY_DOMAIN_CAPABILITY.getCapabilityServiceName(ApplicationSecurityDomain.class, context.getCurrentAddressValue());
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+            AuthorizationCache cache = (controller != null) && (controller.getState() == ServiceController.State.UP) ? ((ApplicationSecurityDomain) controller.getValue()).getAuthorizationCache() : null;
+            long result = 0L;
+            if (cache != null) {
+                result = EJB3SubsystemModel.AUTHORIZATION_CACHE_HITS.equals(name) ? cache.getHits() : cache.getMisses();
+            }
+            context.getResult().set(result);
+        }
+    }
+
     private static class KnownDeploymentsApi {
 
         private volatile ApplicationSecurityDomainService service;
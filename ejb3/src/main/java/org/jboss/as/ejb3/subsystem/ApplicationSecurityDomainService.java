@@ -31,6 +31,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.jboss.as.ejb3.security.AuthorizationCache;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -120,6 +121,7 @@ public class ApplicationSecurityDomainService implements Service {
 
         private final SecurityDomain securityDomain;
         private final boolean enableJacc;
+        private final AuthorizationCache authorizationCache = new AuthorizationCache();
 
         public ApplicationSecurityDomain(final SecurityDomain securityDomain, boolean enableJacc) {
             this.securityDomain = securityDomain;
@@ -134,6 +136,10 @@ public class ApplicationSecurityDomainService implements Service {
             return enableJacc;
         }
 
+        public AuthorizationCache getAuthorizationCache() {
+            return authorizationCache;
+        }
+
         public BiFunction<String, ClassLoader, Registration> getSecurityFunction() {
             return this::registerElytronDeployment;
         }
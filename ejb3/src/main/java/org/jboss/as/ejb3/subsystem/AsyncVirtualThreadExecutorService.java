@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.subsystem;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.concurrency.VirtualThreadExecutorService;
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Service providing the executor of @Asynchronous invocations that runs each invocation on a virtual thread.
+ */
+public class AsyncVirtualThreadExecutorService implements Service<ExecutorService> {
+
+    public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("ejb3", "async", "virtual-thread-executor");
+    // Bounds how long stop waits for running and queued invocations to complete
+    static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ThreadFactory factory;
+    private final int maxConcurrentInvocations;
+
+    private volatile VirtualThreadExecutorService executor;
+
+    AsyncVirtualThreadExecutorService(ThreadFactory factory, int maxConcurrentInvocations) {
+        this.factory = factory;
+        this.maxConcurrentInvocations = maxConcurrentInvocations;
+    }
+
+    @Override
+    public void start(StartContext context) {
+        this.executor = new VirtualThreadExecutorService(this.factory, this.maxConcurrentInvocations);
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        VirtualThreadExecutorService executor = this.executor;
+        this.executor = null;
+        executor.shutdown();
+        if (!executor.isTerminated()) {
+            // Wait for pending invocations without blocking the MSC thread
+            context.asynchronous();
+            new Thread(() -> {
+                try {
+                    if (!executor.awaitTermination(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                        EjbLogger.ROOT_LOGGER.asyncInvocationsNotCompleted(executor.getActiveCount() + executor.getQueueSize(), STOP_TIMEOUT.toMillis());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    context.complete();
+                }
+            }).start();
+        }
+    }
+
+    @Override
+    public VirtualThreadExecutorService getValue() {
+        return this.executor;
+    }
+}
@@ -22,7 +22,12 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
@@ -30,9 +35,13 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.concurrency.VirtualThreadExecutorService;
 import org.jboss.as.threads.ThreadsServices;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 import java.util.concurrent.ExecutorService;
 
@@ -58,7 +67,40 @@ public class EJB3AsyncResourceDefinition extends SimpleResourceDefinition {
                     .setCapabilityReference(THREAD_POOL_CAPABILITY_NAME, ASYNC_SERVICE_CAPABILITY)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME };
+    static final SimpleAttributeDefinition VIRTUAL_THREADS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition MAX_CONCURRENT_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MAX_CONCURRENT_INVOCATIONS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(1000))
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition ACTIVE_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.ACTIVE_INVOCATIONS, ModelType.INT)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .build();
+
+    static final SimpleAttributeDefinition QUEUED_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.QUEUED_INVOCATIONS, ModelType.INT)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .build();
+
+    static final SimpleAttributeDefinition COMPLETED_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.COMPLETED_INVOCATIONS, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+                    .build();
+
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, VIRTUAL_THREADS, MAX_CONCURRENT_INVOCATIONS };
     public static final EJB3AsyncResourceDefinition INSTANCE = new EJB3AsyncResourceDefinition();
 
     private EJB3AsyncResourceDefinition() {
@@ -74,5 +116,31 @@ public class EJB3AsyncResourceDefinition extends SimpleResourceDefinition {
             // TODO: Make this RESTART_NONE by updating AsynchronousMergingProcessor
             resourceRegistration.registerReadWriteAttribute(attr, null, new ReloadRequiredWriteAttributeHandler(attr));
         }
+        if (resourceRegistration.getProcessType().isServer()) {
+            resourceRegistration.registerMetric(ACTIVE_INVOCATIONS, AsyncExecutorMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(QUEUED_INVOCATIONS, AsyncExecutorMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(COMPLETED_INVOCATIONS, AsyncExecutorMetricHandler.INSTANCE);
+        }
+    }
+
+    /**
+     * Reads the metrics of the virtual thread executor of @Asynchronous invocations, if in use.
+     */
+    static class AsyncExecutorMetricHandler extends AbstractRuntimeOnlyHandler {
+        static final AsyncExecutorMetricHandler INSTANCE = new AsyncExecutorMetricHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(AsyncVirtualThreadExecutorService.SERVICE_NAME);
+            VirtualThreadExecutorService executor = (controller != null) && (controller.getState() == ServiceController.State.UP) ? (VirtualThreadExecutorService) controller.getValue() : null;
+            String name = operation.require(NAME).asString();
+            if (EJB3SubsystemModel.ACTIVE_INVOCATIONS.equals(name)) {
+                context.getResult().set((executor != null) ? executor.getActiveCount() : 0);
+            } else if (EJB3SubsystemModel.QUEUED_INVOCATIONS.equals(name)) {
+                context.getResult().set((executor != null) ? executor.getQueueSize() : 0);
+            } else if (EJB3SubsystemModel.COMPLETED_INVOCATIONS.equals(name)) {
+                context.getResult().set((executor != null) ? executor.getCompletedTaskCount() : 0L);
+            }
+        }
     }
 }
@@ -27,6 +27,8 @@ import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.ee.subsystem.DeploymentProcessorTimings;
+import org.jboss.as.ejb3.concurrency.VirtualThreadExecutorService;
 import org.jboss.as.ejb3.deployment.processors.merging.AsynchronousMergingProcessor;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
@@ -35,6 +37,7 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceName;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * A {@link org.jboss.as.controller.AbstractBoottimeAddStepHandler} to handle the add operation for the Jakarta Enterprise Beans
@@ -55,11 +58,26 @@ public class EJB3AsyncServiceAdd extends AbstractBoottimeAddStepHandler {
         final String threadPoolName = EJB3AsyncResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asString();
 
         final ServiceName threadPoolServiceName = context.getCapabilityServiceName(EJB3AsyncResourceDefinition.THREAD_POOL_CAPABILITY_NAME, threadPoolName, Executor.class);
+        final boolean virtualThreads = EJB3AsyncResourceDefinition.VIRTUAL_THREADS.resolveModelAttribute(context, model).asBoolean();
+
+        ServiceName executorServiceName = threadPoolServiceName;
+        if (virtualThreads) {
+            ThreadFactory factory = VirtualThreadExecutorService.createVirtualThreadFactory("ejb-async-");
+            if (factory != null) {
+                final int maxConcurrentInvocations = EJB3AsyncResourceDefinition.MAX_CONCURRENT_INVOCATIONS.resolveModelAttribute(context, model).asInt();
+                executorServiceName = AsyncVirtualThreadExecutorService.SERVICE_NAME;
+                context.getServiceTarget().addService(executorServiceName, new AsyncVirtualThreadExecutorService(factory, maxConcurrentInvocations)).install();
+            } else {
+                ROOT_LOGGER.virtualThreadsNotSupported(threadPoolName);
+            }
+        }
+        final ServiceName asyncExecutorServiceName = executorServiceName;
 
         context.addStep(new AbstractDeploymentChainStep() {
-            protected void execute(DeploymentProcessorTarget processorTarget) {
+            protected void execute(DeploymentProcessorTarget target) {
+                final DeploymentProcessorTarget processorTarget = DeploymentProcessorTimings.wrap(target);
                 ROOT_LOGGER.debug("Adding Jakarta Enterprise Beans @Asynchronous support");
-                processorTarget.addDeploymentProcessor(EJB3Extension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_EJB_ASYNCHRONOUS_MERGE, new AsynchronousMergingProcessor(threadPoolServiceName));
+                processorTarget.addDeploymentProcessor(EJB3Extension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_EJB_ASYNCHRONOUS_MERGE, new AsynchronousMergingProcessor(asyncExecutorServiceName));
             }
         }, OperationContext.Stage.RUNTIME);
     }
@@ -27,6 +27,7 @@ import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.ee.subsystem.DeploymentProcessorTimings;
 import org.jboss.as.ejb3.deployment.processors.EjbIIOPDeploymentUnitProcessor;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
@@ -51,7 +52,8 @@ public class EJB3IIOPAdd extends AbstractBoottimeAddStepHandler {
         final boolean useQualifiedName = EJB3IIOPResourceDefinition.USE_QUALIFIED_NAME.resolveModelAttribute(context, model).asBoolean();
         final IIOPSettingsService settingsService = new IIOPSettingsService(enableByDefault, useQualifiedName);
         context.addStep(new AbstractDeploymentChainStep() {
-            protected void execute(DeploymentProcessorTarget processorTarget) {
+            protected void execute(DeploymentProcessorTarget target) {
+                final DeploymentProcessorTarget processorTarget = DeploymentProcessorTimings.wrap(target);
                 ROOT_LOGGER.debug("Adding Jakarta Enterprise Beans IIOP support");
                 processorTarget.addDeploymentProcessor(EJB3Extension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_EJB_IIOP, new EjbIIOPDeploymentUnitProcessor(settingsService));
             }
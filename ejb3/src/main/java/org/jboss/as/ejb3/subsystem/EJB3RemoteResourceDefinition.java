@@ -22,8 +22,10 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -36,12 +38,18 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.ejb3.concurrency.VirtualThreadExecutorService;
+import org.jboss.as.ejb3.remote.AssociationService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 import org.wildfly.clustering.ejb.BeanManagerFactoryServiceConfiguratorConfiguration;
 
 import java.util.List;
@@ -60,6 +68,7 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
     protected static final String INFINISPAN_CACHE_CONTAINER_CAPABILITY_NAME = "org.wildfly.clustering.infinispan.cache-container";
     protected static final String REMOTE_TRANSACTION_SERVICE_CAPABILITY_NAME = "org.wildfly.transactions.remote-transaction-service";
     protected static final String REMOTING_ENDPOINT_CAPABILITY_NAME = "org.wildfly.remoting.endpoint";
+    protected static final String REQUEST_CONTROLLER_CAPABILITY_NAME = "org.wildfly.request-controller";
     protected static final String THREAD_POOL_CAPABILITY_NAME = "org.wildfly.threads.executor.ejb3";
 
     public static final String EJB_REMOTE_CAPABILITY_NAME = "org.wildfly.ejb.remote";
@@ -113,7 +122,61 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
                     .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { CLIENT_MAPPINGS_CLUSTER_NAME, CONNECTORS, THREAD_POOL_NAME, EXECUTE_IN_WORKER };
+    static final SimpleAttributeDefinition CLUSTER_TOPOLOGY_UPDATE_DELAY =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.CLUSTER_TOPOLOGY_UPDATE_DELAY, ModelType.LONG, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.ZERO_LONG)
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition CLUSTER_TOPOLOGY_CHANGES =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.CLUSTER_TOPOLOGY_CHANGES, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+                    .build();
+
+    static final SimpleAttributeDefinition CLUSTER_TOPOLOGY_UPDATES =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.CLUSTER_TOPOLOGY_UPDATES, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+                    .build();
+
+    static final SimpleAttributeDefinition VIRTUAL_THREADS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition MAX_CONCURRENT_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MAX_CONCURRENT_INVOCATIONS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(1000))
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition ACTIVE_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.ACTIVE_INVOCATIONS, ModelType.INT)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .build();
+
+    static final SimpleAttributeDefinition QUEUED_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.QUEUED_INVOCATIONS, ModelType.INT)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .build();
+
+    static final SimpleAttributeDefinition COMPLETED_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.COMPLETED_INVOCATIONS, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+                    .build();
+
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { CLIENT_MAPPINGS_CLUSTER_NAME, CONNECTORS, THREAD_POOL_NAME, EXECUTE_IN_WORKER, CLUSTER_TOPOLOGY_UPDATE_DELAY, VIRTUAL_THREADS, MAX_CONCURRENT_INVOCATIONS };
 
     static final EJB3RemoteServiceAdd ADD_HANDLER = new EJB3RemoteServiceAdd(ATTRIBUTES);
 
@@ -136,6 +199,14 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
 
         // register custom handlers for deprecated attribute connector-ref
         resourceRegistration.registerReadWriteAttribute(CONNECTOR_REF, new RemoteConnectorRefReadAttributeHandler(), new RemoteConnectorRefWriteAttributeHandler());
+
+        if (resourceRegistration.getProcessType().isServer()) {
+            resourceRegistration.registerMetric(CLUSTER_TOPOLOGY_CHANGES, RemoteServiceMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(CLUSTER_TOPOLOGY_UPDATES, RemoteServiceMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(ACTIVE_INVOCATIONS, RemoteServiceMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(QUEUED_INVOCATIONS, RemoteServiceMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(COMPLETED_INVOCATIONS, RemoteServiceMetricHandler.INSTANCE);
+        }
     }
 
     @Override
@@ -175,4 +246,32 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
             writeAttributeHandler.execute(context, targetOperation);
         }
     }
+
+    /**
+     * read-attribute handler for the cluster topology and invocation metrics, which are read from the association service
+     */
+    static class RemoteServiceMetricHandler extends AbstractRuntimeOnlyHandler {
+        static final RemoteServiceMetricHandler INSTANCE = new RemoteServiceMetricHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(AssociationService.SERVICE_NAME);
+            AssociationService service = (controller != null) && (controller.getState() == ServiceController.State.UP) ? (AssociationService) controller.getValue() : null;
+            String name = operation.require(NAME).asString();
+            if (EJB3SubsystemModel.CLUSTER_TOPOLOGY_CHANGES.equals(name)) {
+                context.getResult().set((service != null) ? service.getClusterTopologyChanges() : 0L);
+            } else if (EJB3SubsystemModel.CLUSTER_TOPOLOGY_UPDATES.equals(name)) {
+                context.getResult().set((service != null) ? service.getClusterTopologyUpdates() : 0L);
+            } else {
+                VirtualThreadExecutorService executor = (service != null) ? service.getVirtualThreadExecutor() : null;
+                if (EJB3SubsystemModel.ACTIVE_INVOCATIONS.equals(name)) {
+                    context.getResult().set((executor != null) ? executor.getActiveCount() : 0);
+                } else if (EJB3SubsystemModel.QUEUED_INVOCATIONS.equals(name)) {
+                    context.getResult().set((executor != null) ? executor.getQueueSize() : 0);
+                } else if (EJB3SubsystemModel.COMPLETED_INVOCATIONS.equals(name)) {
+                    context.getResult().set((executor != null) ? executor.getCompletedTaskCount() : 0L);
+                }
+            }
+        }
+    }
 }
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -41,6 +42,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.ejb3.concurrency.VirtualThreadExecutorService;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.remote.AssociationService;
 import org.jboss.as.ejb3.remote.EJBRemoteConnectorService;
@@ -62,6 +64,7 @@ import org.wildfly.clustering.service.ServiceConfigurator;
 import org.wildfly.clustering.service.ServiceSupplierDependency;
 import org.wildfly.clustering.service.SimpleSupplierDependency;
 import org.wildfly.clustering.service.SupplierDependency;
+import org.wildfly.extension.requestcontroller.RequestController;
 import org.wildfly.transaction.client.provider.remoting.RemotingTransactionService;
 import org.xnio.Option;
 import org.xnio.OptionMap;
@@ -111,6 +114,8 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         final List<ModelNode> connectorNameNodes = EJB3RemoteResourceDefinition.CONNECTORS.resolveModelAttribute(context, model).asList();
         final String threadPoolName = EJB3RemoteResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asString();
         final boolean executeInWorker = EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.resolveModelAttribute(context, model).asBoolean();
+        final boolean virtualThreads = EJB3RemoteResourceDefinition.VIRTUAL_THREADS.resolveModelAttribute(context, model).asBoolean();
+        final int maxConcurrentInvocations = EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS.resolveModelAttribute(context, model).asInt();
 
         final ServiceTarget target = context.getServiceTarget();
         final CapabilityServiceSupport support = context.getCapabilityServiceSupport();
@@ -150,16 +155,24 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         final CapabilityServiceBuilder<?> builder = context.getCapabilityServiceTarget().addCapability(EJB3RemoteResourceDefinition.EJB_REMOTE_CAPABILITY);
         final Consumer<EJBRemoteConnectorService> serviceConsumer = builder.provides(EJB3RemoteResourceDefinition.EJB_REMOTE_CAPABILITY);
         final Supplier<Endpoint> endpointSupplier = builder.requiresCapability(EJB3RemoteResourceDefinition.REMOTING_ENDPOINT_CAPABILITY_NAME, Endpoint.class);
+        final ThreadFactory virtualThreadFactory = virtualThreads ? VirtualThreadExecutorService.createVirtualThreadFactory("ejb-remote-") : null;
+        if (virtualThreads && (virtualThreadFactory == null)) {
+            EjbLogger.REMOTE_LOGGER.virtualThreadsNotSupportedForRemoteInvocations();
+        }
         Supplier<ExecutorService> executorServiceSupplier = null;
-        if (!executeInWorker) {
+        if (!executeInWorker && (virtualThreadFactory == null)) {
             executorServiceSupplier = builder.requiresCapability(EJB3RemoteResourceDefinition.THREAD_POOL_CAPABILITY_NAME, ExecutorService.class, threadPoolName);
         }
+        Supplier<RequestController> requestControllerSupplier = null;
+        if ((virtualThreadFactory != null) && context.hasOptionalCapability(EJB3RemoteResourceDefinition.REQUEST_CONTROLLER_CAPABILITY_NAME, EJB_REMOTE_CAPABILITY_NAME, null)) {
+            requestControllerSupplier = builder.requiresCapability(EJB3RemoteResourceDefinition.REQUEST_CONTROLLER_CAPABILITY_NAME, RequestController.class);
+        }
         // add rest of the dependencies
         final Supplier<AssociationService> associationServiceSupplier = builder.requires(AssociationService.SERVICE_NAME);
         final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier = builder.requiresCapability(EJB3RemoteResourceDefinition.REMOTE_TRANSACTION_SERVICE_CAPABILITY_NAME, RemotingTransactionService.class);
         builder.addAliases(EJBRemoteConnectorService.SERVICE_NAME).setInitialMode(ServiceController.Mode.LAZY);
         final EJBRemoteConnectorService ejbRemoteConnectorService = new EJBRemoteConnectorService(serviceConsumer, endpointSupplier, executorServiceSupplier, associationServiceSupplier, remotingTransactionServiceSupplier, channelCreationOptions,
-                FilterSpecClassResolverFilter.getFilterForOperationContext(context));
+                FilterSpecClassResolverFilter.getFilterForOperationContext(context), virtualThreadFactory, maxConcurrentInvocations, requestControllerSupplier);
         builder.setInstance(ejbRemoteConnectorService);
         builder.install();
     }
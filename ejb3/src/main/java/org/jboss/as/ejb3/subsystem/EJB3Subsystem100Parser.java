@@ -80,7 +80,7 @@ public class EJB3Subsystem100Parser extends EJB3Subsystem90Parser {
         }
     }
 
-    private void parseSimpleCache(final XMLExtendedStreamReader reader, List<ModelNode> operations) throws XMLStreamException {
+    protected void parseSimpleCache(final XMLExtendedStreamReader reader, List<ModelNode> operations) throws XMLStreamException {
         String name = null;
         ModelNode operation = Util.createAddOperation();
         for (int i = 0; i < reader.getAttributeCount(); i++) {
@@ -194,7 +194,7 @@ public class EJB3Subsystem12Parser implements XMLElementReader<List<ModelNode>>
         operations.add(operation);
     }
 
-    private void parseAsync(final XMLExtendedStreamReader reader, List<ModelNode> operations) throws XMLStreamException {
+    protected void parseAsync(final XMLExtendedStreamReader reader, List<ModelNode> operations) throws XMLStreamException {
         final int count = reader.getAttributeCount();
         //String threadPoolName = null;
         ModelNode operation = Util.createAddOperation(SUBSYSTEM_PATH.append(SERVICE, ASYNC));
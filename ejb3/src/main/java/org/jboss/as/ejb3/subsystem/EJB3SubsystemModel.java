@@ -45,6 +45,9 @@ public interface EJB3SubsystemModel {
     String CONNECTOR_REF = "connector-ref";
     String CONNECTORS = "connectors";
     String IN_VM_REMOTE_INTERFACE_INVOCATION_PASS_BY_VALUE = "in-vm-remote-interface-invocation-pass-by-value";
+    String IN_VM_REMOTE_INTERFACE_INVOCATION_CLONED_VALUES = "in-vm-remote-interface-invocation-cloned-values";
+    String IN_VM_REMOTE_INTERFACE_INVOCATION_IMMUTABLE_VALUES = "in-vm-remote-interface-invocation-immutable-values";
+    String IN_VM_REMOTE_INTERFACE_INVOCATION_REFERENCED_VALUES = "in-vm-remote-interface-invocation-referenced-values";
 
     String DATASOURCE_JNDI_NAME = "datasource-jndi-name";
     String DEFAULT_DISTINCT_NAME = "default-distinct-name";
@@ -100,12 +103,20 @@ public interface EJB3SubsystemModel {
     String OUTBOUND_CONNECTION_REF= "outbound-connection-ref";
     String CONNECT_TIMEOUT= "connect-timeout";
     String CLIENT_MAPPINGS_CLUSTER_NAME = "cluster";
+    String CLUSTER_TOPOLOGY_CHANGES = "cluster-topology-changes";
+    String CLUSTER_TOPOLOGY_UPDATE_DELAY = "cluster-topology-update-delay";
+    String CLUSTER_TOPOLOGY_UPDATES = "cluster-topology-updates";
     String REMOTE_HTTP_CONNECTION = "remote-http-connection";
 
     String TIMER = "timer";
     String TIMER_SERVICE = "timer-service";
     String THREAD_POOL = "thread-pool";
     String THREAD_POOL_NAME = "thread-pool-name";
+    String VIRTUAL_THREADS = "virtual-threads";
+    String MAX_CONCURRENT_INVOCATIONS = "max-concurrent-invocations";
+    String ACTIVE_INVOCATIONS = "active-invocations";
+    String QUEUED_INVOCATIONS = "queued-invocations";
+    String COMPLETED_INVOCATIONS = "completed-invocations";
     String DEFAULT = "default";
 
     String USE_QUALIFIED_NAME = "use-qualified-name";
@@ -172,6 +183,8 @@ public interface EJB3SubsystemModel {
     String SECURITY_DOMAIN = "security-domain";
     String ENABLE_JACC = "enable-jacc";
     String LEGACY_COMPLIANT_PRINCIPAL_PROPAGATION = "legacy-compliant-principal-propagation";
+    String AUTHORIZATION_CACHE_HITS = "authorization-cache-hits";
+    String AUTHORIZATION_CACHE_MISSES = "authorization-cache-misses";
 
     PathElement IDENTITY_PATH = PathElement.pathElement(SERVICE, IDENTITY);
 
@@ -24,11 +24,14 @@ package org.jboss.as.ejb3.subsystem;
 
 import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
@@ -58,11 +61,15 @@ import org.jboss.as.ejb3.component.pool.PoolConfig;
 import org.jboss.as.ejb3.deployment.processors.EJBDefaultSecurityDomainProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.MissingMethodPermissionsDenyAccessMergingProcessor;
 import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.remote.LocalEjbReceiver;
+import org.jboss.as.ejb3.remote.LocalTransportProvider;
 import org.jboss.as.threads.EnhancedQueueExecutorResourceDefinition;
 import org.jboss.as.threads.ThreadFactoryResolver;
 import org.jboss.as.threads.ThreadsServices;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for the EJB3 subsystem's root management resource.
@@ -173,6 +180,24 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
                     .setDefaultValue(ModelNode.TRUE)
                     .build();
 
+    static final SimpleAttributeDefinition CLONED_VALUES =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_CLONED_VALUES, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+                    .build();
+
+    static final SimpleAttributeDefinition IMMUTABLE_VALUES =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_IMMUTABLE_VALUES, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+                    .build();
+
+    static final SimpleAttributeDefinition REFERENCED_VALUES =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_REFERENCED_VALUES, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+                    .build();
+
 
     public static final SimpleAttributeDefinition DEFAULT_MISSING_METHOD_PERMISSIONS_DENY_ACCESS =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.DEFAULT_MISSING_METHOD_PERMISSIONS_DENY_ACCESS, ModelType.BOOLEAN, true)
@@ -358,6 +383,39 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
         resourceRegistration.registerReadWriteAttribute(ENABLE_GRACEFUL_TXN_SHUTDOWN, null, EnableGracefulTxnShutdownWriteHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(SERVER_INTERCEPTORS, null,  new ReloadRequiredWriteAttributeHandler(SERVER_INTERCEPTORS));
         resourceRegistration.registerReadWriteAttribute(CLIENT_INTERCEPTORS, null,  new ReloadRequiredWriteAttributeHandler(CLIENT_INTERCEPTORS));
+
+        if (resourceRegistration.getProcessType().isServer()) {
+            resourceRegistration.registerMetric(CLONED_VALUES, LocalInvocationMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(IMMUTABLE_VALUES, LocalInvocationMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(REFERENCED_VALUES, LocalInvocationMetricHandler.INSTANCE);
+        }
+    }
+
+    /**
+     * Reads the metrics of in-VM invocations on remote interfaces, aggregated over the pass-by-value and pass-by-reference receivers.
+     */
+    static class LocalInvocationMetricHandler extends AbstractRuntimeOnlyHandler {
+        static final LocalInvocationMetricHandler INSTANCE = new LocalInvocationMetricHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            String name = operation.require(NAME).asString();
+            long result = 0L;
+            for (ServiceName serviceName : List.of(LocalTransportProvider.BY_VALUE_SERVICE_NAME, LocalTransportProvider.BY_REFERENCE_SERVICE_NAME)) {
+                ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+                LocalEjbReceiver receiver = (controller != null) && (controller.getState() == ServiceController.State.UP) ? ((LocalTransportProvider) controller.getValue()).getLocalReceiver() : null;
+                if (receiver != null) {
+                    if (EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_CLONED_VALUES.equals(name)) {
+                        result += receiver.getClonedValues();
+                    } else if (EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_IMMUTABLE_VALUES.equals(name)) {
+                        result += receiver.getImmutableValues();
+                    } else if (EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_REFERENCED_VALUES.equals(name)) {
+                        result += receiver.getReferencedValues();
+                    }
+                }
+            }
+            context.getResult().set(result);
+        }
     }
 
     @Override
@@ -43,6 +43,7 @@ public enum EJB3SubsystemXMLAttribute {
     CLIENT_MAPPINGS_CLUSTER_NAME("cluster"),
     @Deprecated CLIENT_MAPPINGS_CACHE("client-mappings-cache"),
     @Deprecated CLUSTERED_CACHE_REF("clustered-cache-ref"),
+    CLUSTER_TOPOLOGY_UPDATE_DELAY("cluster-topology-update-delay"),
     CONNECT_TIMEOUT("connect-timeout"),
     @Deprecated CONNECTOR_REF("connector-ref"),
     CONNECTORS("connectors"),
@@ -71,6 +72,7 @@ public enum EJB3SubsystemXMLAttribute {
 
     LOCAL_RECEIVER_PASS_BY_VALUE("local-receiver-pass-by-value"),
 
+    MAX_CONCURRENT_INVOCATIONS("max-concurrent-invocations"),
     MAX_POOL_SIZE("max-pool-size"),
     MAX_SIZE("max-size"),
     DERIVE_SIZE("derive-size"),
@@ -102,6 +104,7 @@ public enum EJB3SubsystemXMLAttribute {
     USE_QUALIFIED_NAME("use-qualified-name"),
 
     VALUE("value"),
+    VIRTUAL_THREADS("virtual-threads"),
 
     ACTIVE("active"),
 
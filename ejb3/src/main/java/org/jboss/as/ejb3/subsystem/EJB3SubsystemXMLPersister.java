@@ -80,7 +80,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
     @Override
     public void writeContent(final XMLExtendedStreamWriter writer, final SubsystemMarshallingContext context) throws XMLStreamException {
 
-        context.startSubsystemElement(EJB3SubsystemNamespace.EJB3_10_0.getUriString(), false);
+        context.startSubsystemElement(EJB3SubsystemNamespace.EJB3_11_0.getUriString(), false);
         writeElements(writer, context);
         // write the subsystem end element
         writer.writeEndElement();
@@ -371,6 +371,9 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
         writer.writeAttribute(EJB3SubsystemXMLAttribute.THREAD_POOL_NAME.getLocalName(), model.require(EJB3SubsystemModel.THREAD_POOL_NAME).asString());
 
         EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.marshallAsAttribute(model, writer);
+        EJB3RemoteResourceDefinition.CLUSTER_TOPOLOGY_UPDATE_DELAY.marshallAsAttribute(model, writer);
+        EJB3RemoteResourceDefinition.VIRTUAL_THREADS.marshallAsAttribute(model, writer);
+        EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS.marshallAsAttribute(model, writer);
         // write out any channel creation options
         if (model.hasDefined(CHANNEL_CREATION_OPTIONS)) {
             writeChannelCreationOptions(writer, model.get(CHANNEL_CREATION_OPTIONS));
@@ -379,6 +382,8 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
 
     private void writeAsync(final XMLExtendedStreamWriter writer, final ModelNode model) throws XMLStreamException {
         writer.writeAttribute(EJB3SubsystemXMLAttribute.THREAD_POOL_NAME.getLocalName(), model.require(EJB3SubsystemModel.THREAD_POOL_NAME).asString());
+        EJB3AsyncResourceDefinition.VIRTUAL_THREADS.marshallAsAttribute(model, writer);
+        EJB3AsyncResourceDefinition.MAX_CONCURRENT_INVOCATIONS.marshallAsAttribute(model, writer);
     }
 
     /**
@@ -549,7 +554,9 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
                 writer.writeStartElement(EJB3SubsystemXMLElement.SIMPLE_CACHE.getLocalName());
                 ModelNode simpleCache = property.getValue();
                 writer.writeAttribute(EJB3SubsystemXMLAttribute.NAME.getLocalName(), property.getName());
-                // no attributes
+                for (Attribute attribute : EnumSet.allOf(SimpleCacheFactoryResourceDefinition.Attribute.class)) {
+                    attribute.getDefinition().getMarshaller().marshallAsAttribute(attribute.getDefinition(), simpleCache, false, writer);
+                }
                 writer.writeEndElement();
             }
         }
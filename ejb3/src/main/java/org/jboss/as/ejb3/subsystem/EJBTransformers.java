@@ -22,6 +22,7 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_10_0_0;
 import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_9_0_0;
 
 import org.jboss.as.controller.ModelVersion;
@@ -55,11 +56,30 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(currentModel);
 
         // register the transformations required for each legacy version after 9.0.0
-        registerTransformers_9_0_0(chainedBuilder.createBuilder(currentModel, VERSION_9_0_0.getVersion()));
+        registerTransformers_10_0_0(chainedBuilder.createBuilder(currentModel, VERSION_10_0_0.getVersion()));
+        registerTransformers_9_0_0(chainedBuilder.createBuilder(VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion()));
 
         // create the chained builder which incorporates all transformations
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] {
-                VERSION_9_0_0.getVersion() });
+                VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion() });
+    }
+
+    /*
+     * Transformers for changes in model version 11.0.0
+     */
+    private static void registerTransformers_10_0_0(ResourceTransformationDescriptionBuilder subsystemBuilder) {
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.SIMPLE_CACHE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, SimpleCacheFactoryResourceDefinition.Attribute.MAX_SIZE.getDefinition())
+                .addRejectCheck(RejectAttributeChecker.DEFINED, SimpleCacheFactoryResourceDefinition.Attribute.MAX_SIZE.getDefinition())
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.ASYNC_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EJB3AsyncResourceDefinition.VIRTUAL_THREADS, EJB3AsyncResourceDefinition.MAX_CONCURRENT_INVOCATIONS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3AsyncResourceDefinition.VIRTUAL_THREADS, EJB3AsyncResourceDefinition.MAX_CONCURRENT_INVOCATIONS)
+                .end();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.REMOTE_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EJB3RemoteResourceDefinition.CLUSTER_TOPOLOGY_UPDATE_DELAY, EJB3RemoteResourceDefinition.VIRTUAL_THREADS, EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3RemoteResourceDefinition.CLUSTER_TOPOLOGY_UPDATE_DELAY, EJB3RemoteResourceDefinition.VIRTUAL_THREADS, EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS)
+                .end();
     }
 
     /*
@@ -24,6 +24,8 @@ package org.jboss.as.ejb3.subsystem.deployment;
 
 import java.util.Map;
 
+import jakarta.ejb.TransactionAttributeType;
+
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectMapAttributeDefinition;
 import org.jboss.as.controller.ObjectTypeAttributeDefinition;
@@ -31,6 +33,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
@@ -111,6 +114,10 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition TRANSACTION_ATTRIBUTE_INVOCATIONS = new SimpleMapAttributeDefinition.Builder("transaction-attribute-invocations", ModelType.LONG, true)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     public static final SimpleAttributeDefinition RUN_AS_ROLE = new SimpleAttributeDefinitionBuilder("run-as-role", ModelType.STRING, true)
             .setValidator(new StringLengthValidator(1, true))
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
@@ -251,6 +258,15 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                 }
             }
         });
+        resourceRegistration.registerMetric(TRANSACTION_ATTRIBUTE_INVOCATIONS, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                context.getResult().setEmptyObject();
+                for (final Map.Entry<TransactionAttributeType, Long> entry : component.getInvocationMetrics().getTransactionAttributeInvocations().entrySet()) {
+                    context.getResult().get(entry.getKey().name()).set(entry.getValue());
+                }
+            }
+        });
     }
 
     /* (non-Javadoc)
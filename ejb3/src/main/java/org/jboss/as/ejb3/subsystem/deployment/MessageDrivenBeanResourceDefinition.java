@@ -23,6 +23,7 @@
 package org.jboss.as.ejb3.subsystem.deployment;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
@@ -30,6 +31,9 @@ import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.messagedriven.AdaptiveConcurrencyController;
+import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponent;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -63,6 +67,20 @@ public class MessageDrivenBeanResourceDefinition extends AbstractEJBComponentRes
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    static final SimpleAttributeDefinition DELIVERY_CONCURRENCY = new SimpleAttributeDefinitionBuilder("delivery-concurrency", ModelType.INT)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+
+    static final SimpleAttributeDefinition DELIVERY_CONCURRENCY_INCREASES = new SimpleAttributeDefinitionBuilder("delivery-concurrency-increases", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final SimpleAttributeDefinition DELIVERY_CONCURRENCY_DECREASES = new SimpleAttributeDefinitionBuilder("delivery-concurrency-decreases", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     static final String START_DELIVERY = "start-delivery";
     static final String STOP_DELIVERY = "stop-delivery";
 
@@ -79,6 +97,29 @@ public class MessageDrivenBeanResourceDefinition extends AbstractEJBComponentRes
         registry.registerReadOnlyAttribute(MESSAGE_DESTINATION_TYPE, MessageDrivenBeanRuntimeHandler.INSTANCE);
         registry.registerReadOnlyAttribute(MESSAGE_DESTINATION_LINK, MessageDrivenBeanRuntimeHandler.INSTANCE);
         registry.registerReadOnlyAttribute(ACTIVATION_CONFIG, MessageDrivenBeanRuntimeHandler.INSTANCE);
+        registry.registerMetric(DELIVERY_CONCURRENCY, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                final AdaptiveConcurrencyController controller = ((MessageDrivenComponent) component).getDeliveryConcurrencyController();
+                if (controller != null) {
+                    context.getResult().set(controller.getConcurrency());
+                }
+            }
+        });
+        registry.registerMetric(DELIVERY_CONCURRENCY_INCREASES, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                final AdaptiveConcurrencyController controller = ((MessageDrivenComponent) component).getDeliveryConcurrencyController();
+                context.getResult().set(controller != null ? controller.getIncreases() : 0L);
+            }
+        });
+        registry.registerMetric(DELIVERY_CONCURRENCY_DECREASES, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                final AdaptiveConcurrencyController controller = ((MessageDrivenComponent) component).getDeliveryConcurrencyController();
+                context.getResult().set(controller != null ? controller.getDecreases() : 0L);
+            }
+        });
     }
 
     @Override
@@ -23,11 +23,15 @@
 package org.jboss.as.ejb3.subsystem.deployment;
 
 
+import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.singleton.SingletonComponent;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -51,6 +55,16 @@ public class SingletonBeanDeploymentResourceDefinition extends AbstractEJBCompon
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    static final SimpleAttributeDefinition LOCK_WAIT_TIME = new SimpleAttributeDefinitionBuilder("lock-wait-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final SimpleAttributeDefinition LOCK_WAIT_COUNT = new SimpleAttributeDefinitionBuilder("lock-wait-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     private SingletonBeanDeploymentResourceDefinition() {
         super(EJBComponentType.SINGLETON);
     }
@@ -62,5 +76,17 @@ public class SingletonBeanDeploymentResourceDefinition extends AbstractEJBCompon
         resourceRegistration.registerReadOnlyAttribute(CONCURRENCY_MANAGEMENT_TYPE, handler);
         resourceRegistration.registerReadOnlyAttribute(INIT_ON_STARTUP, handler);
         resourceRegistration.registerReadOnlyAttribute(DEPENDS_ON, handler);
+        resourceRegistration.registerMetric(LOCK_WAIT_TIME, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                context.getResult().set(((SingletonComponent) component).getLockWaitTime());
+            }
+        });
+        resourceRegistration.registerMetric(LOCK_WAIT_COUNT, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                context.getResult().set(((SingletonComponent) component).getLockWaitCount());
+            }
+        });
     }
 }
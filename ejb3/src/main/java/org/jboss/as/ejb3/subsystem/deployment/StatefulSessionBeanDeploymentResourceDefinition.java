@@ -23,11 +23,16 @@
 package org.jboss.as.ejb3.subsystem.deployment;
 
 import org.jboss.as.controller.ObjectListAttributeDefinition;
+import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.stateful.StatefulReadyPool;
+import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -68,6 +73,19 @@ public class StatefulSessionBeanDeploymentResourceDefinition extends AbstractEJB
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    static final SimpleAttributeDefinition READY_POOL_DEPTH = new SimpleAttributeDefinitionBuilder("ready-pool-depth", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+    static final SimpleAttributeDefinition READY_POOL_REFILL_COUNT = new SimpleAttributeDefinitionBuilder("ready-pool-refill-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+    static final SimpleAttributeDefinition READY_POOL_MISS_COUNT = new SimpleAttributeDefinitionBuilder("ready-pool-miss-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     private StatefulSessionBeanDeploymentResourceDefinition() {
         super(EJBComponentType.STATEFUL);
     }
@@ -83,5 +101,26 @@ public class StatefulSessionBeanDeploymentResourceDefinition extends AbstractEJB
         resourceRegistration.registerReadOnlyAttribute(AFTER_COMPLETION_METHOD, handler);
         resourceRegistration.registerReadOnlyAttribute(PASSIVATION_CAPABLE, handler);
         resourceRegistration.registerReadOnlyAttribute(REMOVE_METHODS, handler);
+        resourceRegistration.registerMetric(READY_POOL_DEPTH, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                final StatefulReadyPool<?> readyPool = ((StatefulSessionComponent) component).getReadyPool();
+                context.getResult().set(readyPool != null ? readyPool.getDepth() : 0);
+            }
+        });
+        resourceRegistration.registerMetric(READY_POOL_REFILL_COUNT, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                final StatefulReadyPool<?> readyPool = ((StatefulSessionComponent) component).getReadyPool();
+                context.getResult().set(readyPool != null ? readyPool.getRefillCount() : 0L);
+            }
+        });
+        resourceRegistration.registerMetric(READY_POOL_MISS_COUNT, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                final StatefulReadyPool<?> readyPool = ((StatefulSessionComponent) component).getReadyPool();
+                context.getResult().set(readyPool != null ? readyPool.getMissCount() : 0L);
+            }
+        });
     }
 }
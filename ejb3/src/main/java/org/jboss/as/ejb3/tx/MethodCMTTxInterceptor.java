@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.tx;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ejb.TransactionAttributeType;
+
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.ComponentInterceptorFactory;
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.InterceptorFactoryContext;
+import org.jboss.metadata.ejb.spec.MethodInterfaceType;
+import org.wildfly.transaction.client.ContextTransactionManager;
+
+/**
+ * CMT interceptor for a given view method, whose transaction attribute and timeout are resolved when the view is started,
+ * rather than for every invocation.
+ * Only invocations of methods that may begin a transaction need to preserve the transaction timeout of the calling thread.
+ */
+public class MethodCMTTxInterceptor extends CMTTxInterceptor {
+
+    private final TransactionAttributeType transactionAttributeType;
+    private final int transactionTimeout;
+    private final LongAdder invocations;
+
+    MethodCMTTxInterceptor(final TransactionAttributeType transactionAttributeType, final int transactionTimeout, final LongAdder invocations) {
+        this.transactionAttributeType = transactionAttributeType;
+        this.transactionTimeout = transactionTimeout;
+        this.invocations = invocations;
+    }
+
+    @Override
+    public Object processInvocation(InterceptorContext invocation) throws Exception {
+        final EJBComponent component = (EJBComponent) invocation.getPrivateData(Component.class);
+        this.invocations.increment();
+
+        switch (transactionAttributeType) {
+            case MANDATORY:
+                return mandatory(invocation, component);
+            case NEVER:
+                return never(invocation, component);
+            case NOT_SUPPORTED:
+                return notSupported(invocation, component);
+            case SUPPORTS:
+                return supports(invocation, component);
+            case REQUIRED:
+            case REQUIRES_NEW: {
+                final ContextTransactionManager tm = ContextTransactionManager.getInstance();
+                final int oldTimeout = tm.getTransactionTimeout();
+                try {
+                    return (transactionAttributeType == TransactionAttributeType.REQUIRED) ? required(invocation, component, transactionTimeout) : requiresNew(invocation, component, transactionTimeout);
+                } finally {
+                    // See also https://issues.jboss.org/browse/WFTC-44
+                    tm.setTransactionTimeout(oldTimeout == ContextTransactionManager.getGlobalDefaultTransactionTimeout() ? 0 : oldTimeout);
+                }
+            }
+            default:
+                throw EjbLogger.ROOT_LOGGER.unknownTxAttributeOnInvocation(transactionAttributeType, invocation);
+        }
+    }
+
+    public static class Factory extends ComponentInterceptorFactory {
+
+        private final Method method;
+
+        public Factory(final Method method) {
+            this.method = method;
+        }
+
+        @Override
+        protected Interceptor create(Component component, InterceptorFactoryContext context) {
+            final EJBComponent ejb = (EJBComponent) component;
+            final ComponentView view = (ComponentView) context.getContextData().get(ComponentView.class);
+            final MethodInterfaceType viewMethodIntf = (view != null) ? view.getPrivateData(MethodInterfaceType.class) : null;
+            final MethodInterfaceType methodIntf = (viewMethodIntf != null) ? viewMethodIntf : MethodInterfaceType.Bean;
+            TransactionAttributeType txAttr = ejb.getTransactionAttributeType(methodIntf, this.method);
+            if ((txAttr == TransactionAttributeType.REQUIRED) && (view != null) && view.isAsynchronous(this.method)) {
+                // EJB 3.2 4.5.3 Transactions
+                // The client's transaction context does not propagate with an asynchronous method invocation,
+                // so the semantics of the REQUIRED transaction attribute are exactly the same as REQUIRES_NEW.
+                txAttr = TransactionAttributeType.REQUIRES_NEW;
+            }
+            final int txTimeout = ejb.getTransactionTimeout(methodIntf, this.method);
+            return new MethodCMTTxInterceptor(txAttr, txTimeout, ejb.getInvocationMetrics().getTransactionAttributeCounter(txAttr));
+        }
+    }
+}
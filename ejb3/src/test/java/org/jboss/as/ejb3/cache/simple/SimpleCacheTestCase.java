@@ -0,0 +1,187 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.cache.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.cache.Identifiable;
+import org.jboss.as.ejb3.cache.StatefulObjectFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wildfly.clustering.ejb.PassivationListener;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Unit test for a {@link SimpleCache} configured with a maximum size.
+ */
+public class SimpleCacheTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void evictLeastRecentlyUsed() throws IOException {
+        MockFactory factory = new MockFactory();
+        MockPassivationListener listener = new MockPassivationListener();
+        SimplePassivationStore<MockBean> store = new SimplePassivationStore<>(new JavaMarshaller(), this.folder.getRoot().toPath());
+        SimpleCache<UUID, MockBean> cache = new SimpleCache<>(factory, UUID::randomUUID, null, null, 2, listener, store);
+        cache.start();
+
+        MockBean first = cache.create();
+        MockBean second = cache.create();
+        assertEquals(0, cache.getPassivatedCount());
+
+        // Creating a third bean passivates the least recently used idle bean
+        MockBean third = cache.create();
+        assertEquals(1, cache.getPassivatedCount());
+        assertEquals(2, cache.getCacheSize());
+        assertEquals(3, cache.getTotalSize());
+        assertEquals(1, listener.passivated.get());
+
+        // Accessing the passivated bean activates it
+        MockBean activated = cache.get(first.getId());
+        assertNotSame(first, activated);
+        assertEquals(first.getId(), activated.getId());
+        assertEquals(1, listener.activated.get());
+        assertEquals(0, cache.getPassivatedCount());
+
+        // Releasing the activated bean passivates the next least recently used idle bean
+        cache.release(activated);
+        assertEquals(1, cache.getPassivatedCount());
+        assertEquals(2, listener.passivated.get());
+
+        // Removing a passivated bean does not activate it
+        cache.remove(second.getId());
+        assertNull(cache.get(second.getId()));
+        assertEquals(0, cache.getPassivatedCount());
+        assertEquals(0, factory.destroyed.get());
+
+        cache.remove(third.getId());
+        assertEquals(1, factory.destroyed.get());
+
+        cache.stop();
+        assertEquals(2, factory.destroyed.get());
+    }
+
+    @Test
+    public void retainBeansInUse() throws IOException {
+        MockFactory factory = new MockFactory();
+        MockPassivationListener listener = new MockPassivationListener();
+        SimplePassivationStore<MockBean> store = new SimplePassivationStore<>(new JavaMarshaller(), this.folder.getRoot().toPath());
+        SimpleCache<UUID, MockBean> cache = new SimpleCache<>(factory, UUID::randomUUID, null, null, 1, listener, store);
+        cache.start();
+
+        MockBean first = cache.get(cache.create().getId());
+        MockBean second = cache.get(cache.create().getId());
+
+        // Neither bean is idle, so neither can be passivated
+        assertEquals(0, cache.getPassivatedCount());
+        assertEquals(2, cache.getCacheSize());
+
+        cache.release(second);
+        assertEquals(1, cache.getPassivatedCount());
+
+        cache.release(first);
+        assertEquals(1, cache.getPassivatedCount());
+        assertEquals(1, cache.getCacheSize());
+
+        cache.stop();
+        assertEquals(0, listener.activated.get());
+        assertEquals(1, factory.destroyed.get());
+    }
+
+    static class MockBean implements Identifiable<UUID>, Serializable {
+        private static final long serialVersionUID = -5392457475658125839L;
+
+        private final UUID id = UUID.randomUUID();
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+    }
+
+    static class MockFactory implements StatefulObjectFactory<MockBean> {
+        final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public MockBean createInstance() {
+            return new MockBean();
+        }
+
+        @Override
+        public void destroyInstance(MockBean instance) {
+            this.destroyed.incrementAndGet();
+        }
+    }
+
+    static class MockPassivationListener implements PassivationListener<MockBean> {
+        final AtomicInteger passivated = new AtomicInteger();
+        final AtomicInteger activated = new AtomicInteger();
+
+        @Override
+        public void prePassivate(MockBean bean) {
+            this.passivated.incrementAndGet();
+        }
+
+        @Override
+        public void postActivate(MockBean bean) {
+            this.activated.incrementAndGet();
+        }
+    }
+
+    static class JavaMarshaller implements ByteBufferMarshaller {
+
+        @Override
+        public Object readFrom(InputStream input) throws IOException {
+            try (ObjectInputStream stream = new ObjectInputStream(input)) {
+                return stream.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void writeTo(OutputStream output, Object object) throws IOException {
+            try (ObjectOutputStream stream = new ObjectOutputStream(output)) {
+                stream.writeObject(object);
+            }
+        }
+
+        @Override
+        public boolean isMarshallable(Object object) {
+            return object instanceof Serializable;
+        }
+    }
+}
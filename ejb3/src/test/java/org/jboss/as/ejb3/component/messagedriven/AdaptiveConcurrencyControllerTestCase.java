@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AdaptiveConcurrencyController}.
+ */
+public class AdaptiveConcurrencyControllerTestCase {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private long now;
+
+    @Test
+    public void decreaseOnLatency() throws InterruptedException {
+        AdaptiveConcurrencyController controller = this.createController(2, 8);
+        assertEquals(8, controller.getConcurrency());
+
+        this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(10), 0);
+        assertEquals(8, controller.getConcurrency());
+
+        this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(50), 0);
+        assertEquals(6, controller.getConcurrency());
+        this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(50), 0);
+        assertEquals(4, controller.getConcurrency());
+        this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(50), 0);
+        assertEquals(3, controller.getConcurrency());
+        this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(50), 0);
+        assertEquals(2, controller.getConcurrency());
+        // never below the minimum
+        this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(50), 0);
+        assertEquals(2, controller.getConcurrency());
+        assertEquals(4, controller.getDecreases());
+        assertEquals(0, controller.getIncreases());
+    }
+
+    @Test
+    public void decreaseOnErrors() throws InterruptedException {
+        AdaptiveConcurrencyController controller = this.createController(1, 4);
+        this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(10), 1);
+        assertEquals(4, controller.getConcurrency());
+        this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(10), 2);
+        assertEquals(3, controller.getConcurrency());
+        assertEquals(1, controller.getDecreases());
+    }
+
+    @Test
+    public void increaseOnBacklog() throws InterruptedException {
+        AdaptiveConcurrencyController controller = this.createController(1, 4);
+        for (int i = 0; i < 3; ++i) {
+            this.deliver(controller, 10, TimeUnit.MILLISECONDS.toNanos(10), 10);
+        }
+        assertEquals(1, controller.getConcurrency());
+
+        // a delivery blocked by the limit
+        controller.acquire();
+        Thread blocked = new Thread(() -> {
+            try {
+                controller.acquire();
+                controller.release(TimeUnit.MILLISECONDS.toNanos(10), false, this.now);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blocked.start();
+        while (blocked.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        this.now += WINDOW;
+        for (int i = 0; i < 10; ++i) {
+            if (i > 0) {
+                controller.acquire();
+            }
+            controller.release(TimeUnit.MILLISECONDS.toNanos(10), false, this.now);
+        }
+        blocked.join();
+        assertEquals(2, controller.getConcurrency());
+        assertEquals(1, controller.getIncreases());
+    }
+
+    private AdaptiveConcurrencyController createController(int min, int max) {
+        AdaptiveConcurrencyController controller = new AdaptiveConcurrencyController(min, max);
+        this.now = System.nanoTime();
+        return controller;
+    }
+
+    private void deliver(AdaptiveConcurrencyController controller, int deliveries, long latency, int errors) throws InterruptedException {
+        this.now += WINDOW;
+        for (int i = 0; i < deliveries; ++i) {
+            controller.acquire();
+            controller.release(latency, i < errors, this.now);
+        }
+    }
+}
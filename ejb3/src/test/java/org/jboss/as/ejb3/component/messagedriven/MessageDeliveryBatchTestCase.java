@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.pool.Pool;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MessageDeliveryBatch}.
+ */
+public class MessageDeliveryBatchTestCase {
+
+    @SuppressWarnings("unchecked")
+    private final Pool<MessageDrivenComponentInstance> pool = mock(Pool.class);
+    private final MessageDrivenComponentInstance first = mock(MessageDrivenComponentInstance.class);
+    private final MessageDrivenComponentInstance second = mock(MessageDrivenComponentInstance.class);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void destroy() {
+        this.scheduler.shutdownNow();
+    }
+
+    @Test
+    public void batchSize() {
+        when(this.pool.get()).thenReturn(this.first, this.second);
+        MessageDeliveryBatch batch = new MessageDeliveryBatch(this.pool, this.scheduler, 3, 1, TimeUnit.MINUTES);
+        for (int i = 0; i < 3; ++i) {
+            MessageDrivenComponentInstance instance = batch.acquire();
+            assertSame(this.first, instance);
+            batch.release(instance);
+        }
+        verify(this.pool, times(1)).get();
+        verify(this.pool).release(this.first);
+
+        MessageDrivenComponentInstance instance = batch.acquire();
+        assertSame(this.second, instance);
+        batch.release(instance);
+        verify(this.pool, never()).release(this.second);
+
+        batch.close();
+        verify(this.pool).release(this.second);
+    }
+
+    @Test
+    public void discard() {
+        when(this.pool.get()).thenReturn(this.first, this.second);
+        MessageDeliveryBatch batch = new MessageDeliveryBatch(this.pool, this.scheduler, 10, 1, TimeUnit.MINUTES);
+        MessageDrivenComponentInstance instance = batch.acquire();
+        batch.discard(instance);
+        verify(this.pool).discard(this.first);
+
+        assertSame(this.second, batch.acquire());
+    }
+
+    @Test
+    public void expired() throws InterruptedException {
+        when(this.pool.get()).thenReturn(this.first, this.second);
+        MessageDeliveryBatch batch = new MessageDeliveryBatch(this.pool, this.scheduler, 10, 1, TimeUnit.MILLISECONDS);
+        MessageDrivenComponentInstance instance = batch.acquire();
+        batch.release(instance);
+        Thread.sleep(10);
+
+        assertNotSame(instance, batch.acquire());
+        verify(this.pool).release(this.first);
+    }
+
+    @Test
+    public void idle() {
+        when(this.pool.get()).thenReturn(this.first);
+        MessageDeliveryBatch batch = new MessageDeliveryBatch(this.pool, this.scheduler, 10, 10, TimeUnit.MILLISECONDS);
+        MessageDrivenComponentInstance instance = batch.acquire();
+        batch.release(instance);
+        verify(this.pool, never()).release(this.first);
+
+        // an idle instance is returned to the pool without waiting for the next delivery
+        verify(this.pool, timeout(5000)).release(this.first);
+        batch.close();
+        verify(this.pool, times(1)).release(this.first);
+    }
+
+    @Test
+    public void expiredDuringDelivery() throws InterruptedException {
+        when(this.pool.get()).thenReturn(this.first);
+        MessageDeliveryBatch batch = new MessageDeliveryBatch(this.pool, this.scheduler, 10, 1, TimeUnit.MILLISECONDS);
+        MessageDrivenComponentInstance instance = batch.acquire();
+        Thread.sleep(10);
+        batch.release(instance);
+        verify(this.pool).release(this.first);
+    }
+
+    @Test
+    public void close() {
+        when(this.pool.get()).thenReturn(this.first);
+        MessageDeliveryBatch batch = new MessageDeliveryBatch(this.pool, this.scheduler, 10, 1, TimeUnit.MINUTES);
+        MessageDrivenComponentInstance instance = batch.acquire();
+        // endpoint released while the delivery is in progress
+        batch.close();
+        verify(this.pool, never()).release(this.first);
+        batch.release(instance);
+        verify(this.pool).release(this.first);
+    }
+}
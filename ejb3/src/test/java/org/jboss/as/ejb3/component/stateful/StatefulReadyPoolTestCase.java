@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.stateful;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StatefulReadyPool}.
+ */
+public class StatefulReadyPoolTestCase {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final List<Integer> destroyed = new ArrayList<>();
+    private final List<RuntimeException> failures = new ArrayList<>();
+    private final BlockingQueue<Runnable> tasks = new ArrayBlockingQueue<>(10);
+
+    @Test
+    public void refill() {
+        StatefulReadyPool<Integer> pool = new StatefulReadyPool<>(2, this.created::incrementAndGet, this.destroyed::add, this.failures::add, this.tasks::add);
+        assertNull(pool.poll());
+        assertEquals(1, pool.getMissCount());
+
+        pool.start();
+        // only one refill task at a time
+        assertEquals(1, this.tasks.size());
+        this.runTasks();
+        assertEquals(2, pool.getDepth());
+        assertEquals(2, pool.getRefillCount());
+
+        assertEquals(Integer.valueOf(1), pool.poll());
+        assertEquals(1, pool.getDepth());
+        this.runTasks();
+        assertEquals(2, pool.getDepth());
+        assertEquals(3, pool.getRefillCount());
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test
+    public void failure() {
+        StatefulReadyPool<Integer> pool = new StatefulReadyPool<>(2, () -> {
+            throw new IllegalStateException();
+        }, this.destroyed::add, this.failures::add, this.tasks::add);
+        pool.start();
+        this.runTasks();
+        assertEquals(1, this.failures.size());
+        assertNull(pool.poll());
+
+        // refill is retried on demand
+        this.runTasks();
+        assertEquals(2, this.failures.size());
+    }
+
+    @Test
+    public void close() {
+        StatefulReadyPool<Integer> pool = new StatefulReadyPool<>(2, this.created::incrementAndGet, this.destroyed::add, this.failures::add, this.tasks::add);
+        pool.start();
+        this.runTasks();
+        assertNotNull(pool.poll());
+
+        pool.close();
+        assertEquals(List.of(2), this.destroyed);
+        // a pending refill does not create instances once closed
+        this.runTasks();
+        assertEquals(2, this.created.get());
+        assertTrue(this.failures.isEmpty());
+        assertNull(pool.poll());
+    }
+
+    private void runTasks() {
+        for (Runnable task = this.tasks.poll(); task != null; task = this.tasks.poll()) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import jakarta.ejb.IllegalLoopbackException;
+
+import org.jboss.as.ejb3.component.singleton.StripedReadWriteLock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedReadWriteLock}
+ */
+public class StripedReadWriteLockTestCase {
+
+    private final StripedReadWriteLock lock = new StripedReadWriteLock();
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalLoopbackException.class)
+    public void illegalLoopback() throws InterruptedException {
+        this.lock.readLock().lock();
+        try {
+            this.lock.writeLock().tryLock(1, TimeUnit.SECONDS);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Test
+    public void reentrant() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        Lock readLock = this.lock.readLock();
+        assertTrue(writeLock.tryLock(0, TimeUnit.SECONDS));
+        assertTrue(writeLock.tryLock(0, TimeUnit.SECONDS));
+        // Write lock owner may acquire the read lock
+        assertTrue(readLock.tryLock(0, TimeUnit.SECONDS));
+        readLock.unlock();
+        writeLock.unlock();
+        // Still held by this thread
+        assertFalse(this.executor.submit(() -> readLock.tryLock()).get());
+        writeLock.unlock();
+        assertTrue(this.executor.submit(() -> {
+            boolean locked = readLock.tryLock();
+            if (locked) {
+                readLock.unlock();
+            }
+            return locked;
+        }).get());
+    }
+
+    @Test
+    public void writerWaitsForReaders() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        assertFalse(this.executor.submit(() -> this.lock.writeLock().tryLock(100, TimeUnit.MILLISECONDS)).get());
+        // Aborted writer must not block readers
+        assertTrue(this.executor.submit(() -> {
+            boolean locked = readLock.tryLock();
+            if (locked) {
+                readLock.unlock();
+            }
+            return locked;
+        }).get());
+
+        CountDownLatch waiting = new CountDownLatch(1);
+        Future<Boolean> writer = this.executor.submit(() -> {
+            waiting.countDown();
+            boolean locked = this.lock.writeLock().tryLock(10, TimeUnit.SECONDS);
+            if (locked) {
+                this.lock.writeLock().unlock();
+            }
+            return locked;
+        });
+        waiting.await();
+        Thread.sleep(100);
+        assertFalse(writer.isDone());
+        readLock.unlock();
+        assertTrue(writer.get());
+    }
+
+    @Test
+    public void mutualExclusion() throws Exception {
+        int threads = 8;
+        int iterations = 2000;
+        AtomicInteger readers = new AtomicInteger();
+        AtomicInteger writers = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threads];
+        for (int i = 0; i < threads; ++i) {
+            boolean writer = (i % 4) == 0;
+            futures[i] = this.executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < iterations; ++j) {
+                    Lock lock = writer ? this.lock.writeLock() : this.lock.readLock();
+                    assertTrue(lock.tryLock(10, TimeUnit.SECONDS));
+                    try {
+                        int w = (writer ? writers.incrementAndGet() : writers.get());
+                        int r = (writer ? readers.get() : readers.incrementAndGet());
+                        if ((writer && ((w != 1) || (r != 0))) || (!writer && (w != 0))) {
+                            violations.incrementAndGet();
+                        }
+                    } finally {
+                        if (writer) {
+                            writers.decrementAndGet();
+                        } else {
+                            readers.decrementAndGet();
+                        }
+                        lock.unlock();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertEquals(0, violations.get());
+    }
+}
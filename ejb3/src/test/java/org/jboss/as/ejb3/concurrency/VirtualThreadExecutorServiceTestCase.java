@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link VirtualThreadExecutorService}.
+ * Uses platform threads, since virtual threads may not be supported by the JVM running the test.
+ */
+public class VirtualThreadExecutorServiceTestCase {
+
+    @Test
+    public void test() throws Exception {
+        VirtualThreadExecutorService executor = new VirtualThreadExecutorService(Thread::new, 2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            futures.add(executor.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            }));
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(2, executor.getActiveCount());
+        assertEquals(3, executor.getQueueSize());
+        assertEquals(0L, executor.getCompletedTaskCount());
+
+        executor.shutdown();
+        try {
+            executor.execute(() -> {});
+            throw new AssertionError("Task was accepted after shutdown");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+
+        release.countDown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertEquals(0, executor.getActiveCount());
+        assertEquals(0, executor.getQueueSize());
+        assertEquals(5L, executor.getCompletedTaskCount());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CloningPlan}.
+ */
+public class CloningPlanTestCase {
+
+    interface RemoteView {
+        String echo(String value, int count, Date date, Object any);
+
+        List<String> list();
+    }
+
+    private final ClassLoader loader = CloningPlanTestCase.class.getClassLoader();
+
+    @Test
+    public void plan() throws NoSuchMethodException {
+        Method method = RemoteView.class.getMethod("echo", String.class, int.class, Date.class, Object.class);
+        CloningPlan plan = CloningPlan.of(method);
+
+        assertSame(plan, CloningPlan.of(method));
+        assertEquals("(Ljava/lang/String;ILjava/util/Date;Ljava/lang/Object;)Ljava/lang/String;", plan.getDescriptor());
+
+        assertTrue(plan.isImmutableParameter(0, "foo", this.loader));
+        assertTrue(plan.isImmutableParameter(1, 1, this.loader));
+        // Date is mutable
+        assertFalse(plan.isImmutableParameter(2, new Date(), this.loader));
+        // Immutable runtime types of a non-final declared type
+        assertTrue(plan.isImmutableParameter(3, LocalDate.now(), this.loader));
+        assertTrue(plan.isImmutableParameter(3, ZoneId.of("Europe/Prague"), this.loader));
+        assertTrue(plan.isImmutableParameter(3, TimeUnit.SECONDS, this.loader));
+        assertFalse(plan.isImmutableParameter(3, new ArrayList<>(), this.loader));
+        assertFalse(plan.isImmutableParameter(3, new Object[0], this.loader));
+
+        assertTrue(plan.isImmutableReturnValue("bar", this.loader));
+    }
+
+    @Test
+    public void returnValue() throws NoSuchMethodException {
+        CloningPlan plan = CloningPlan.of(RemoteView.class.getMethod("list"));
+
+        assertFalse(plan.isImmutableReturnValue(new ArrayList<>(), this.loader));
+        assertFalse(plan.isImmutableReturnValue(List.of(), this.loader));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.network.ClientMapping;
+import org.jboss.ejb.server.ClusterTopologyListener;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.Registration;
+import org.wildfly.clustering.group.Group;
+import org.wildfly.clustering.registry.Registry;
+
+/**
+ * Unit test for the coalescing of cluster topology updates by {@link AssociationImpl.ClusterTopologyRegistrar}.
+ */
+public class ClusterTopologyRegistrarTestCase {
+
+    @SuppressWarnings("unchecked")
+    private final Registry<String, List<ClientMapping>> registry = mock(Registry.class);
+    private final ClusterTopologyListener listener = mock(ClusterTopologyListener.class);
+
+    @Before
+    public void init() {
+        Group group = mock(Group.class);
+        when(group.getName()).thenReturn("ejb");
+        when(this.registry.getGroup()).thenReturn(group);
+        when(this.registry.getEntries()).thenReturn(Collections.singletonMap("node1", mappings(8080)));
+        when(this.registry.register(any())).thenReturn(mock(Registration.class));
+    }
+
+    @Test
+    public void immediate() {
+        AssociationImpl.ClusterTopologyRegistrar registrar = new AssociationImpl.ClusterTopologyRegistrar(this.registry, null, Duration.ZERO);
+        registrar.registerClusterTopologyListener(this.listener);
+
+        // Identical mappings for a known node should not be sent
+        registrar.updatedEntries(Collections.singletonMap("node1", mappings(8080)));
+        verify(this.listener, never()).clusterNewNodesAdded(any());
+
+        registrar.addedEntries(Collections.singletonMap("node2", mappings(8080)));
+        verify(this.listener).clusterNewNodesAdded(any());
+
+        registrar.removedEntries(Collections.singletonMap("node2", mappings(8080)));
+        verify(this.listener).clusterNodesRemoved(anyList());
+
+        assertEquals(3, registrar.getReceivedChanges());
+        assertEquals(3, registrar.getEmittedUpdates());
+    }
+
+    @Test
+    public void coalesce() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        AssociationImpl.ClusterTopologyRegistrar registrar = new AssociationImpl.ClusterTopologyRegistrar(this.registry, scheduler, Duration.ofMillis(100));
+        registrar.registerClusterTopologyListener(this.listener);
+
+        // Simulate a restart of node1, and the arrival and update of node2
+        registrar.removedEntries(Collections.singletonMap("node1", mappings(8080)));
+        registrar.addedEntries(Collections.singletonMap("node1", mappings(8080)));
+        registrar.addedEntries(Collections.singletonMap("node2", mappings(8080)));
+        Map<String, List<ClientMapping>> updated = new HashMap<>();
+        updated.put("node2", mappings(8180));
+        registrar.updatedEntries(updated);
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(task.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+        verify(this.listener, never()).clusterNewNodesAdded(any());
+        verify(this.listener, never()).clusterNodesRemoved(anyList());
+
+        task.getValue().run();
+
+        ArgumentCaptor<ClusterTopologyListener.ClusterInfo> info = ArgumentCaptor.forClass(ClusterTopologyListener.ClusterInfo.class);
+        verify(this.listener).clusterNewNodesAdded(info.capture());
+        verify(this.listener, never()).clusterNodesRemoved(anyList());
+        List<ClusterTopologyListener.NodeInfo> nodes = info.getValue().getNodeInfoList();
+        assertEquals(1, nodes.size());
+        assertEquals("node2", nodes.get(0).getNodeName());
+        assertEquals(8180, nodes.get(0).getMappingInfoList().get(0).getDestinationPort());
+
+        assertEquals(4, registrar.getReceivedChanges());
+        // Initial topology + a single update
+        assertEquals(2, registrar.getEmittedUpdates());
+
+        // Subsequent changes schedule a new update
+        registrar.removedEntries(Collections.singletonMap("node2", mappings(8180)));
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private static List<ClientMapping> mappings(int port) {
+        return Collections.singletonList(new ClientMapping(InetAddress.getLoopbackAddress(), 0, "127.0.0.1", port));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.wildfly.security.auth.permission.LoginPermission;
+import org.wildfly.security.auth.server.SecurityDomain;
+import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.permission.PermissionVerifier;
+
+/**
+ * Unit test for {@link AuthorizationCache}.
+ */
+public class AuthorizationCacheTestCase {
+
+    @Test
+    public void roleSetId() {
+        AuthorizationCache cache = new AuthorizationCache();
+        int id = cache.getRoleSetId(List.of("a", "b"));
+        assertEquals(id, cache.getRoleSetId(Arrays.asList("b", "a")));
+        assertNotEquals(id, cache.getRoleSetId(List.of("a")));
+    }
+
+    @Test
+    public void decisions() {
+        SecurityIdentity identity = createDomain().getAnonymousSecurityIdentity();
+        SecurityIdentity otherIdentity = identity.withRoleMapper("ejb", roles -> roles);
+        AuthorizationCache cache = new AuthorizationCache();
+        int allowed = cache.getRoleSetId(List.of("a"));
+        // Exceed the role sets of a single word of decisions
+        int denied = 0;
+        for (int i = 0; i < 40; ++i) {
+            denied = cache.getRoleSetId(List.of("b" + i));
+        }
+
+        assertNull(cache.get(identity, allowed));
+        cache.put(identity, allowed, true);
+        cache.put(identity, denied, false);
+
+        assertTrue(cache.get(identity, allowed));
+        assertFalse(cache.get(identity, denied));
+        assertNull(cache.get(otherIdentity, allowed));
+
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void collectedIdentities() throws InterruptedException {
+        SecurityIdentity identity = createDomain().getAnonymousSecurityIdentity();
+        AuthorizationCache cache = new AuthorizationCache();
+        int roleSetId = cache.getRoleSetId(List.of("a"));
+        cache.put(identity.withRoleMapper("ejb", roles -> roles), roleSetId, true);
+        cache.put(identity, roleSetId, true);
+        assertEquals(2, cache.size());
+
+        // Decisions of an identity that is no longer referenced are eventually discarded
+        for (int i = 0; (i < 100) && (cache.size() > 1); ++i) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertEquals(1, cache.size());
+        assertTrue(cache.get(identity, roleSetId));
+    }
+
+    private static SecurityDomain createDomain() {
+        return SecurityDomain.builder()
+                .addRealm("default", SecurityRealm.EMPTY_REALM).build()
+                .setDefaultRealmName("default")
+                .setPermissionMapper((permissionMappable, roles) -> PermissionVerifier.from(new LoginPermission()))
+                .build();
+    }
+}
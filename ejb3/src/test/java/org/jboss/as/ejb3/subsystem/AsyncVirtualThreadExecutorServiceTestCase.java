@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AsyncVirtualThreadExecutorService}.
+ * Uses platform threads, since virtual threads may not be supported by the JVM running the test.
+ */
+public class AsyncVirtualThreadExecutorServiceTestCase {
+
+    @Test
+    public void stopIdle() {
+        AsyncVirtualThreadExecutorService service = new AsyncVirtualThreadExecutorService(Thread::new, 2);
+        service.start(mock(StartContext.class));
+
+        StopContext context = mock(StopContext.class);
+        service.stop(context);
+
+        // Nothing to wait for
+        verify(context, never()).asynchronous();
+    }
+
+    @Test
+    public void stopBusy() throws InterruptedException {
+        AsyncVirtualThreadExecutorService service = new AsyncVirtualThreadExecutorService(Thread::new, 2);
+        service.start(mock(StartContext.class));
+        ExecutorService executor = service.getValue();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        StopContext context = mock(StopContext.class);
+        service.stop(context);
+
+        // Stop completes only once the running invocation completes
+        verify(context).asynchronous();
+        verify(context, never()).complete();
+
+        release.countDown();
+
+        verify(context, timeout(AsyncVirtualThreadExecutorService.STOP_TIMEOUT.toMillis())).complete();
+        assertTrue(executor.isTerminated());
+    }
+}
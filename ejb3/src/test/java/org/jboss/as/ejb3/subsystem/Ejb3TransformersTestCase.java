@@ -64,7 +64,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     /*
@@ -151,6 +151,20 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
             config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.DISTRIBUTABLE_CACHE_PATH), FailedOperationTransformationConfig.REJECTED_RESOURCE);
             // Reject when default-data-store is undefined
             config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH), FailedOperationTransformationConfig.REJECTED_RESOURCE);
+        } else if (EJB3Model.VERSION_11_0_0.requiresTransformation(version)) {
+            // reject the attribute max-size of /subsystem=ejb3/simple-cache
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.SIMPLE_CACHE_PATH),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(SimpleCacheFactoryResourceDefinition.Attribute.MAX_SIZE.getDefinition()));
+        }
+
+        // need to include all changes from current to 10.0.0
+        if (EJB3Model.VERSION_11_0_0.requiresTransformation(version)) {
+            // reject the attributes virtual-threads and max-concurrent-invocations of /subsystem=ejb3/service=async
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.ASYNC_SERVICE_PATH),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(EJB3AsyncResourceDefinition.VIRTUAL_THREADS, EJB3AsyncResourceDefinition.MAX_CONCURRENT_INVOCATIONS));
+            // reject the attributes cluster-topology-update-delay, virtual-threads and max-concurrent-invocations of /subsystem=ejb3/service=remote
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.REMOTE_SERVICE_PATH),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(EJB3RemoteResourceDefinition.CLUSTER_TOPOLOGY_UPDATE_DELAY, EJB3RemoteResourceDefinition.VIRTUAL_THREADS, EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS));
         }
         return config;
     }
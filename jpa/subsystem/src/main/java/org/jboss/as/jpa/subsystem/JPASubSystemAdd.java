@@ -29,6 +29,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.ProcessType;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
+import org.jboss.as.ee.subsystem.DeploymentProcessorTimings;
 import org.jboss.as.jpa.config.ExtendedPersistenceInheritance;
 import org.jboss.as.jpa.persistenceprovider.PersistenceProviderResolverImpl;
 import org.jboss.as.jpa.platform.PlatformImpl;
@@ -73,7 +74,8 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler {
         OperationFailedException {
 
         context.addStep(new AbstractDeploymentChainStep() {
-            protected void execute(DeploymentProcessorTarget processorTarget) {
+            protected void execute(DeploymentProcessorTarget target) {
+                final DeploymentProcessorTarget processorTarget = DeploymentProcessorTimings.wrap(target);
 
                 // set Hibernate persistence provider as the default provider
                 jakarta.persistence.spi.PersistenceProviderResolverHolder.setPersistenceProviderResolver(
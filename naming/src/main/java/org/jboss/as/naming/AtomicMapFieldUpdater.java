@@ -28,9 +28,13 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.jboss.as.naming.logging.NamingLogger;
-import org.jboss.as.naming.util.FastCopyHashMap;
+import org.jboss.as.naming.util.PersistentHashMap;
 
 /**
+ * Updates a map field atomically, replacing the map on each update, so that readers never need to lock. Empty and single
+ * entry maps are kept as such, larger maps are {@link PersistentHashMap persistent maps}, so that an update does not
+ * copy the whole map.
+ *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 final class AtomicMapFieldUpdater<C, K, V> {
@@ -73,12 +77,12 @@ final class AtomicMapFieldUpdater<C, K, V> {
                     newMap = Collections.singletonMap(key, value);
                     oldValue = entry.getValue();
                 } else {
-                    newMap = new FastCopyHashMap<K, V>(oldMap);
-                    oldValue = newMap.put(key, value);
+                    oldValue = null;
+                    newMap = PersistentHashMap.<K, V>copyOf(oldMap).with(key, value);
                 }
             } else {
-                newMap = new FastCopyHashMap<K, V>(oldMap);
-                oldValue = newMap.put(key, value);
+                oldValue = oldMap.get(key);
+                newMap = PersistentHashMap.copyOf(oldMap).with(key, value);
             }
             final boolean result = updater.compareAndSet(instance, oldMap, newMap);
             if (result) {
@@ -110,12 +114,10 @@ final class AtomicMapFieldUpdater<C, K, V> {
             if (oldKey.equals(key)) {
                 return entry.getValue();
             } else {
-                newMap = new FastCopyHashMap<K, V>(snapshot);
-                newMap.put(key, value);
+                newMap = PersistentHashMap.<K, V>copyOf(snapshot).with(key, value);
             }
         } else {
-            newMap = new FastCopyHashMap<K, V>(snapshot);
-            newMap.put(key, value);
+            newMap = PersistentHashMap.copyOf(snapshot).with(key, value);
         }
         if (updater.compareAndSet(instance, snapshot, newMap)) {
             return null;
@@ -140,15 +142,13 @@ final class AtomicMapFieldUpdater<C, K, V> {
                 if (oldKey.equals(key)) {
                     return entry.getValue();
                 } else {
-                    newMap = new FastCopyHashMap<K, V>(oldMap);
-                    newMap.put(key, value);
+                    newMap = PersistentHashMap.<K, V>copyOf(oldMap).with(key, value);
                 }
             } else {
                 if (oldMap.containsKey(key)) {
                     return oldMap.get(key);
                 }
-                newMap = new FastCopyHashMap<K, V>(oldMap);
-                newMap.put(key, value);
+                newMap = PersistentHashMap.copyOf(oldMap).with(key, value);
             }
             if (updater.compareAndSet(instance, oldMap, newMap)) {
                 return null;
@@ -192,8 +192,8 @@ final class AtomicMapFieldUpdater<C, K, V> {
                 if (! oldMap.containsKey(key)) {
                     return null;
                 }
-                newMap = new FastCopyHashMap<K, V>(oldMap);
-                oldValue = newMap.remove(key);
+                oldValue = oldMap.get(key);
+                newMap = PersistentHashMap.copyOf(oldMap).without(key);
             }
             if (updater.compareAndSet(instance, oldMap, newMap)) {
                 return oldValue;
@@ -206,7 +206,7 @@ final class AtomicMapFieldUpdater<C, K, V> {
     }
 
     public Map<K, V> getReadOnly(final C subregistry) {
-        final Map<K, V> snapshot = updater.get(subregistry);
-        return snapshot instanceof FastCopyHashMap ? Collections.unmodifiableMap(snapshot) : snapshot;
+        // maps are never updated in place
+        return updater.get(subregistry);
     }
 }
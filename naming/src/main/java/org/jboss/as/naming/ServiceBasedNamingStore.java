@@ -29,8 +29,11 @@ import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NavigableSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.naming.Binding;
 import javax.naming.CannotProceedException;
@@ -63,8 +66,17 @@ public class ServiceBasedNamingStore implements NamingStore {
     private final ServiceRegistry serviceRegistry;
     private final ServiceName serviceNameBase;
 
+    private static final LongAdder LOOKUP_CACHE_HITS = new LongAdder();
+    private static final LongAdder LOOKUP_CACHE_MISSES = new LongAdder();
+
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
 
+    /**
+     * The controllers of the services bound to names which were looked up, cleared whenever a service is bound or unbound.
+     * Services are unbound when stopped, so the cached controllers are up, unless concurrently stopping.
+     */
+    private final Map<Name, ServiceController<?>> lookupCache = new ConcurrentHashMap<>();
+
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
         this.serviceNameBase = serviceNameBase;
@@ -79,9 +91,22 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
+        final ServiceController<?> cachedController = lookupCache.get(name);
+        if (cachedController != null) {
+            if (cachedController.getState() == ServiceController.State.UP) {
+                LOOKUP_CACHE_HITS.increment();
+                return lookup(name.toString(), cachedController, dereference);
+            }
+            lookupCache.remove(name, cachedController);
+        }
+        LOOKUP_CACHE_MISSES.increment();
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
-        if (obj == null) {
+        final ServiceController<?> controller = serviceRegistry.getService(lookupName);
+        Object obj = lookup(name.toString(), controller, dereference);
+        if (obj != null) {
+            // names are mutable
+            lookupCache.put((Name) name.clone(), controller);
+        } else {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
                 // Parent might be a reference or a link
@@ -124,8 +149,11 @@ public class ServiceBasedNamingStore implements NamingStore {
     }
 
     private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
+        return lookup(name, serviceRegistry.getService(lookupName), dereference);
+    }
+
+    private Object lookup(final String name, final ServiceController<?> controller, boolean dereference) throws NamingException {
         try {
-            final ServiceController<?> controller = serviceRegistry.getService(lookupName);
             if (controller != null) {
                 final Object object = controller.getValue();
                 if (dereference && object instanceof ManagedReferenceFactory) {
@@ -257,6 +285,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        lookupCache.clear();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -271,10 +300,30 @@ public class ServiceBasedNamingStore implements NamingStore {
             throw NamingLogger.ROOT_LOGGER.serviceAlreadyBound(serviceName);
         }
         boundServices.add(serviceName);
+        lookupCache.clear();
     }
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        lookupCache.clear();
+    }
+
+    /**
+     * Retrieves the number of lookups, of all service based naming stores, resolved from their lookup cache.
+     *
+     * @return the number of lookup cache hits
+     */
+    public static long getLookupCacheHits() {
+        return LOOKUP_CACHE_HITS.sum();
+    }
+
+    /**
+     * Retrieves the number of lookups, of all service based naming stores, not resolved from their lookup cache.
+     *
+     * @return the number of lookup cache misses
+     */
+    public static long getLookupCacheMisses() {
+        return LOOKUP_CACHE_MISSES.sum();
     }
 
     protected ServiceName buildServiceName(final Name name) {
@@ -39,6 +39,7 @@ import org.jboss.as.controller.descriptions.StandardResourceDescriptionResolver;
 import org.jboss.as.controller.operations.common.GenericSubsystemDescribeHandler;
 import org.jboss.as.controller.parsing.ExtensionParsingContext;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.naming.ServiceBasedNamingStore;
 import org.jboss.as.naming.management.JndiViewOperation;
 
 /**
@@ -92,6 +93,8 @@ public class NamingExtension implements Extension {
 
         if (context.isRuntimeOnlyRegistrationValid()) {
             registration.registerOperationHandler(NamingSubsystemRootResourceDefinition.JNDI_VIEW, JndiViewOperation.INSTANCE, false);
+            registration.registerMetric(NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_HITS, (operationContext, operation) -> operationContext.getResult().set(ServiceBasedNamingStore.getLookupCacheHits()));
+            registration.registerMetric(NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_MISSES, (operationContext, operation) -> operationContext.getResult().set(ServiceBasedNamingStore.getLookupCacheMisses()));
         }
 
         subsystem.registerXMLElementWriter(NamingSubsystemXMLPersister.INSTANCE);
@@ -25,6 +25,8 @@ package org.jboss.as.naming.subsystem;
 import java.util.EnumSet;
 
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
@@ -34,6 +36,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.naming.NamingStore;
 import org.jboss.as.naming.management.JndiViewOperation;
 import org.jboss.as.naming.service.NamingService;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -65,6 +68,16 @@ public class NamingSubsystemRootResourceDefinition extends SimpleResourceDefinit
             .setReplyValueType(ModelType.STRING)
             .build();
 
+    static final SimpleAttributeDefinition LOOKUP_CACHE_HITS = new SimpleAttributeDefinitionBuilder("lookup-cache-hits", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    static final SimpleAttributeDefinition LOOKUP_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("lookup-cache-misses", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
     NamingSubsystemRootResourceDefinition() {
         super(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, NamingExtension.SUBSYSTEM_NAME),
                 NamingExtension.getResourceDescriptionResolver(NamingExtension.SUBSYSTEM_NAME),
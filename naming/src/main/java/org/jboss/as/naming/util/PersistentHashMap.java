@@ -0,0 +1,483 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.naming.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jboss.as.naming.logging.NamingLogger;
+
+/**
+ * An immutable hash map, whose updates return a new map sharing most of its structure with the updated map.
+ * <p/>
+ * The map is a hash array mapped trie: each level of the trie consumes 5 bits of the key hash, and each node only
+ * allocates the slots of its present children. An update copies the nodes on the path to the updated key, i.e.
+ * O(log32 N) slots, instead of the whole map, which makes it suitable for maps swapped atomically on each update,
+ * while their readers keep on reading a consistent snapshot without locking. Keys with equal hashes are kept in
+ * collision nodes. Null keys are not supported.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentHashMap EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final BitmapNode root;
+    private final int size;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    private PersistentHashMap(BitmapNode root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map with the mappings of the specified map.
+     *
+     * @param map the map to copy, which is returned as is if it is already a persistent map
+     * @return the persistent map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap) {
+            return (PersistentHashMap<K, V>) map;
+        }
+        PersistentHashMap<K, V> result = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map with the mappings of this map, and the specified mapping, which replaces any mapping of the key.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the updated map, or this map if it already has the specified mapping
+     */
+    public PersistentHashMap<K, V> with(K key, V value) {
+        if (key == null) {
+            throw NamingLogger.ROOT_LOGGER.nullVar("key");
+        }
+        final int hash = hash(key);
+        final Entry<K, V> entry = new SimpleImmutableEntry<>(key, value);
+        if (root == null) {
+            return new PersistentHashMap<>(new BitmapNode(bit(hash, 0), new Object[] { entry }), 1);
+        }
+        final boolean[] added = new boolean[1];
+        final BitmapNode newRoot = root.with(hash, entry, 0, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map with the mappings of this map, except the mapping of the specified key.
+     *
+     * @param key the key
+     * @return the updated map, or this map if it has no mapping for the key
+     */
+    public PersistentHashMap<K, V> without(Object key) {
+        if (key == null || root == null) {
+            return this;
+        }
+        final Object newRoot = root.without(hash(key), key, 0);
+        if (newRoot == root) {
+            return this;
+        }
+        if (newRoot == null) {
+            return empty();
+        }
+        if (newRoot instanceof BitmapNode) {
+            return new PersistentHashMap<>((BitmapNode) newRoot, size - 1);
+        }
+        // collapsed to a single entry
+        return new PersistentHashMap<>(new BitmapNode(bit(hash(key(newRoot)), 0), new Object[] { newRoot }), size - 1);
+    }
+
+    @Override
+    public V get(Object key) {
+        final Entry<K, V> entry = getEntry(key);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getEntry(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            this.entrySet = entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<K, V> getEntry(Object key) {
+        if (key == null || root == null) {
+            return null;
+        }
+        final int hash = hash(key);
+        Object node = root;
+        int shift = 0;
+        for (;;) {
+            if (node instanceof BitmapNode) {
+                node = ((BitmapNode) node).find(hash, shift);
+                shift += BITS;
+            } else if (node instanceof CollisionNode) {
+                return ((CollisionNode) node).find(key);
+            } else if (node == null) {
+                return null;
+            } else {
+                final Entry<K, V> entry = (Entry<K, V>) node;
+                return key.equals(entry.getKey()) ? entry : null;
+            }
+        }
+    }
+
+    private static int hash(Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object key(Object entry) {
+        return ((Entry<?, ?>) entry).getKey();
+    }
+
+    /**
+     * Creates the node holding two slots with distinct hashes, at the specified level.
+     */
+    private static BitmapNode merge(Object first, int firstHash, Object second, int secondHash, int shift) {
+        final int firstBit = bit(firstHash, shift);
+        final int secondBit = bit(secondHash, shift);
+        if (firstBit == secondBit) {
+            return new BitmapNode(firstBit, new Object[] { merge(first, firstHash, second, secondHash, shift + BITS) });
+        }
+        // slots are ordered by bit, compared as unsigned
+        return Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new BitmapNode(firstBit | secondBit, new Object[] { first, second })
+                : new BitmapNode(firstBit | secondBit, new Object[] { second, first });
+    }
+
+    private static Object[] replace(Object[] array, int index, Object value) {
+        final Object[] result = array.clone();
+        result[index] = value;
+        return result;
+    }
+
+    private static Object[] insert(Object[] array, int index, Object value) {
+        final Object[] result = new Object[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static Object[] delete(Object[] array, int index) {
+        final Object[] result = new Object[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    /**
+     * A trie node, whose slots are entries, and child nodes, for the bits set in its bitmap.
+     */
+    private static final class BitmapNode {
+        final int bitmap;
+        final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        Object find(int hash, int shift) {
+            final int bit = bit(hash, shift);
+            return (bitmap & bit) == 0 ? null : slots[Integer.bitCount(bitmap & (bit - 1))];
+        }
+
+        BitmapNode with(int hash, Entry<?, ?> entry, int shift, boolean[] added) {
+            final int bit = bit(hash, shift);
+            final int index = Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, insert(slots, index, entry));
+            }
+            final Object slot = slots[index];
+            final Object newSlot;
+            if (slot instanceof BitmapNode) {
+                newSlot = ((BitmapNode) slot).with(hash, entry, shift + BITS, added);
+            } else if (slot instanceof CollisionNode) {
+                final CollisionNode collision = (CollisionNode) slot;
+                if (collision.hash == hash) {
+                    newSlot = collision.with(entry, added);
+                } else {
+                    added[0] = true;
+                    newSlot = merge(collision, collision.hash, entry, hash, shift + BITS);
+                }
+            } else {
+                final Entry<?, ?> existing = (Entry<?, ?>) slot;
+                if (existing.getKey().equals(entry.getKey())) {
+                    if (existing.getValue() == entry.getValue()) {
+                        return this;
+                    }
+                    newSlot = entry;
+                } else {
+                    added[0] = true;
+                    final int existingHash = hash(existing.getKey());
+                    newSlot = existingHash == hash
+                            ? new CollisionNode(hash, new Object[] { existing, entry })
+                            : merge(existing, existingHash, entry, hash, shift + BITS);
+                }
+            }
+            return newSlot == slot ? this : new BitmapNode(bitmap, replace(slots, index, newSlot));
+        }
+
+        /**
+         * @return this node if the key is absent, {@code null} if the node is now empty, the remaining entry if the
+         * node now holds a single entry, or else the updated node
+         */
+        Object without(int hash, Object key, int shift) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            final int index = Integer.bitCount(bitmap & (bit - 1));
+            final Object slot = slots[index];
+            final Object newSlot;
+            if (slot instanceof BitmapNode) {
+                newSlot = ((BitmapNode) slot).without(hash, key, shift + BITS);
+            } else if (slot instanceof CollisionNode) {
+                newSlot = ((CollisionNode) slot).without(key);
+            } else if (key.equals(key(slot))) {
+                newSlot = null;
+            } else {
+                return this;
+            }
+            if (newSlot == slot) {
+                return this;
+            }
+            if (newSlot == null) {
+                if (slots.length == 1) {
+                    return null;
+                }
+                if (slots.length == 2) {
+                    final Object remaining = slots[1 - index];
+                    if (!(remaining instanceof BitmapNode) && !(remaining instanceof CollisionNode)) {
+                        return remaining;
+                    }
+                }
+                return new BitmapNode(bitmap & ~bit, delete(slots, index));
+            }
+            if (slots.length == 1 && !(newSlot instanceof BitmapNode) && !(newSlot instanceof CollisionNode)) {
+                return newSlot;
+            }
+            return new BitmapNode(bitmap, replace(slots, index, newSlot));
+        }
+    }
+
+    /**
+     * A node holding the entries of distinct keys with the same hash.
+     */
+    private static final class CollisionNode {
+        final int hash;
+        final Object[] slots;
+
+        CollisionNode(int hash, Object[] slots) {
+            this.hash = hash;
+            this.slots = slots;
+        }
+
+        @SuppressWarnings("unchecked")
+        <K, V> Entry<K, V> find(Object key) {
+            for (Object slot : slots) {
+                if (key.equals(key(slot))) {
+                    return (Entry<K, V>) slot;
+                }
+            }
+            return null;
+        }
+
+        CollisionNode with(Entry<?, ?> entry, boolean[] added) {
+            for (int i = 0; i < slots.length; i++) {
+                final Entry<?, ?> existing = (Entry<?, ?>) slots[i];
+                if (existing.getKey().equals(entry.getKey())) {
+                    return existing.getValue() == entry.getValue() ? this : new CollisionNode(hash, replace(slots, i, entry));
+                }
+            }
+            added[0] = true;
+            return new CollisionNode(hash, insert(slots, slots.length, entry));
+        }
+
+        /**
+         * @return this node if the key is absent, the remaining entry if the node now holds a single entry, or else
+         * the updated node
+         */
+        Object without(Object key) {
+            for (int i = 0; i < slots.length; i++) {
+                if (key.equals(key(slots[i]))) {
+                    return slots.length == 2 ? slots[1 - i] : new CollisionNode(hash, delete(slots, i));
+                }
+            }
+            return this;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator<>(root);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            final Entry<K, V> existing = getEntry(entry.getKey());
+            return existing != null && existing.equals(entry);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Iterates the entries depth first, keeping the path from the root to the current node.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        // the trie depth is bounded by the hash size, plus the collision level
+        private final Object[][] path = new Object[(Integer.SIZE + BITS - 1) / BITS + 1][];
+        private final int[] indexes = new int[path.length];
+        private int depth;
+        private Entry<K, V> next;
+
+        EntryIterator(BitmapNode root) {
+            if (root != null) {
+                path[0] = root.slots;
+                advance();
+            } else {
+                depth = -1;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                final Object[] slots = path[depth];
+                if (indexes[depth] == slots.length) {
+                    path[depth] = null;
+                    depth--;
+                    continue;
+                }
+                final Object slot = slots[indexes[depth]++];
+                if (slot instanceof BitmapNode) {
+                    depth++;
+                    path[depth] = ((BitmapNode) slot).slots;
+                    indexes[depth] = 0;
+                } else if (slot instanceof CollisionNode) {
+                    depth++;
+                    path[depth] = ((CollisionNode) slot).slots;
+                    indexes[depth] = 0;
+                } else {
+                    next = (Entry<K, V>) slot;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            final Entry<K, V> result = next;
+            if (result == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return result;
+        }
+    }
+}
@@ -36,6 +36,7 @@ import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 
 import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
@@ -97,6 +98,30 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupCachedBinding() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+        container.awaitStability();
+
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        final long hits = ServiceBasedNamingStore.getLookupCacheHits();
+        assertEquals(value, store.lookup(new CompositeName("foo/bar")));
+        assertEquals(hits + 1, ServiceBasedNamingStore.getLookupCacheHits());
+
+        // rebinding invalidates the cached binding
+        container.getService(bindingName).setMode(ServiceController.Mode.REMOVE);
+        container.awaitStability();
+        final Object newValue = new Object();
+        bindObject(bindingName, newValue);
+        container.awaitStability();
+        final long misses = ServiceBasedNamingStore.getLookupCacheMisses();
+        assertEquals(newValue, store.lookup(new CompositeName("foo/bar")));
+        assertEquals(misses + 1, ServiceBasedNamingStore.getLookupCacheMisses());
+        assertEquals(newValue, store.lookup(new CompositeName("foo/bar")));
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
@@ -406,6 +431,7 @@ public class ServiceBasedNamingStoreTestCase {
             }
 
             public void stop(StopContext context) {
+                store.remove(serviceName);
             }
 
             public ManagedReferenceFactory getValue() throws IllegalStateException, IllegalArgumentException {
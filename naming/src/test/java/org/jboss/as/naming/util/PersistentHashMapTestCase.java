@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2023, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.naming.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PersistentHashMapTestCase {
+
+    @Test
+    public void testWithAndWithout() {
+        final PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+        final PersistentHashMap<String, Integer> one = empty.with("a", 1);
+        final PersistentHashMap<String, Integer> two = one.with("b", 2);
+        assertTrue(empty.isEmpty());
+        assertEquals(1, one.size());
+        assertEquals(2, two.size());
+        assertEquals(Integer.valueOf(2), two.get("b"));
+        assertNull(one.get("b"));
+        assertSame(two, two.with("b", two.get("b")));
+        assertSame(two, two.without("c"));
+        assertEquals(one, two.without("b"));
+        assertTrue(two.without("a").without("b").isEmpty());
+    }
+
+    @Test
+    public void testCollisions() {
+        PersistentHashMap<Key, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.with(new Key(i, 42), i);
+        }
+        map = map.with(new Key(100, 43), 100);
+        assertEquals(11, map.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), map.get(new Key(i, 42)));
+        }
+        assertEquals(Integer.valueOf(100), map.get(new Key(100, 43)));
+        for (int i = 0; i < 10; i++) {
+            map = map.without(new Key(i, 42));
+            assertFalse(map.containsKey(new Key(i, 42)));
+        }
+        assertEquals(1, map.size());
+        assertEquals(Integer.valueOf(100), map.get(new Key(100, 43)));
+    }
+
+    @Test
+    public void testAgainstHashMap() {
+        final Random random = new Random(7);
+        final Map<Key, Integer> expected = new HashMap<>();
+        PersistentHashMap<Key, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            // keys whose ids are equal modulo 500 have equal hashes
+            final int id = random.nextInt(2000);
+            final Key key = new Key(id, (id % 500) * 0x10001);
+            final PersistentHashMap<Key, Integer> previous = map;
+            final int previousSize = previous.size();
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                expected.put(key, i);
+                map = map.with(key, i);
+            }
+            // updates never modify the previous map
+            assertEquals(previousSize, previous.size());
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.entrySet(), map.entrySet());
+        assertEquals(map, PersistentHashMap.copyOf(expected));
+    }
+
+    private static final class Key {
+        private final int id;
+        private final int hash;
+
+        Key(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && ((Key) obj).id == id;
+        }
+    }
+}